@@ -0,0 +1,92 @@
+package com.example.jsonplaceholderapi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Compara dois resultados JSON do JMH (baseline x atual): score e alocação por operação.
+// Sai com código 1 se algum benchmark piorou mais que o limite (padrão 10%) além do erro medido.
+//
+//   java -cp target/benchmarks.jar com.example.jsonplaceholderapi.benchmark.BaselineComparator \
+//        baseline.json target/jmh-result.json [limite%]
+public class BaselineComparator {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Uso: BaselineComparator <baseline.json> <atual.json> [limite%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(objectMapper.readTree(new File(args[1])));
+
+        System.out.printf("%-75s %14s %14s %8s %12s %12s%n",
+                "Benchmark", "Baseline", "Atual", "Δ%", "B/op base", "B/op atual");
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            JsonNode metric = after.path("primaryMetric");
+            String unit = metric.path("scoreUnit").asText();
+
+            if (before == null) {
+                System.out.printf("%-75s %14s %14.3f %8s %12s %12.0f  (novo)%n", entry.getKey(), "-",
+                        metric.path("score").asDouble(), "-", "-", allocation(after));
+                continue;
+            }
+
+            double baseScore = before.path("primaryMetric").path("score").asDouble();
+            double score = metric.path("score").asDouble();
+            double error = metric.path("scoreError").asDouble();
+            double delta = (score - baseScore) / baseScore * 100;
+
+            // Modos de vazão (ops/tempo): maior é melhor; tempo por operação: menor é melhor
+            boolean higherIsBetter = unit.startsWith("ops/");
+            double worse = higherIsBetter ? -delta : delta;
+            boolean regression = worse > threshold && Math.abs(score - baseScore) > error;
+            if (regression) {
+                regressions++;
+            }
+
+            System.out.printf("%-75s %14.3f %14.3f %+7.1f%% %12.0f %12.0f %s%s%n", entry.getKey(),
+                    baseScore, score, delta, allocation(before), allocation(after), unit,
+                    regression ? "  REGRESSÃO" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) pioraram mais de " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    // Chave: nome do benchmark + parâmetros (ex.: ...PasswordEncoderBenchmark.encode [cost=10])
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byName = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            String name = result.path("benchmark").asText()
+                    .replace("com.example.jsonplaceholderapi.benchmark.", "");
+            JsonNode params = result.path("params");
+            if (!params.isMissingNode() && params.size() > 0) {
+                StringBuilder key = new StringBuilder(name).append(" [");
+                params.fields().forEachRemaining(param ->
+                        key.append(param.getKey()).append('=').append(param.getValue().asText()).append(','));
+                key.setCharAt(key.length() - 1, ']');
+                name = key.toString();
+            }
+            byName.put(name, result);
+        }
+        return byName;
+    }
+
+    private static double allocation(JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION).path("score").asDouble(Double.NaN);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.jsonplaceholderapi.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Ponto de entrada do benchmarks.jar: mesmos argumentos do JMH (-f, -wi, -i, filtro por regex...),
+// sempre com o profiler de GC (alocação por operação) e resultado em JSON para comparar com o baseline.
+//
+//   java -jar target/benchmarks.jar                         -> target/jmh-result.json
+//   java -jar target/benchmarks.jar Jwt -rff /tmp/jwt.json  -> só os benchmarks de JWT
+public class Benchmarks {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLine.getResult().orElse("target/jmh-result.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
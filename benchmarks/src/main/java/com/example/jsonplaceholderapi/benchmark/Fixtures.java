@@ -0,0 +1,91 @@
+package com.example.jsonplaceholderapi.benchmark;
+
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Dados de exemplo no formato do JSONPlaceholder, iguais em todas as execuções
+final class Fixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private Fixtures() {}
+
+    // Mesma configuração do ObjectMapper do Spring Boot (JavaTimeModule, datas ISO-8601)
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    // Address/Company são package-private na entidade: o usuário completo é montado via JSON
+    static User user(long id) {
+        String json = """
+                {"id":%d,"name":"Leanne Graham %d","username":"user%d","email":"user%d@april.biz",
+                 "password":"$2a$10$abcdefghijklmnopqrstuv","phone":"1-770-736-8031 x56442","website":"hildegard.org",
+                 "address":{"street":"Kulas Light","suite":"Apt. 556","city":"Gwenborough","zipcode":"92998-3874",
+                            "geo":{"lat":"-37.3159","lng":"81.1496"}},
+                 "company":{"name":"Romaguera-Crona","catchPhrase":"Multi-layered client-server neural-net",
+                            "bs":"harness real-time e-markets"}}
+                """.formatted(id, id, id, id);
+        try {
+            return objectMapper().readValue(json, User.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Post post(long id, User user) {
+        Post post = new Post("sunt aut facere repellat provident occaecati excepturi optio reprehenderit " + id,
+                "quia et suscipit\nsuscipit recusandae consequuntur expedita et cum\nreprehenderit molestiae "
+                        + "ut ut quas totam\nnostrum rerum est autem sunt rem eveniet architecto", user);
+        post.setId(id);
+        post.setCreatedAt(NOW.minusMinutes(id));
+        post.setUpdatedAt(NOW.minusMinutes(id));
+        return post;
+    }
+
+    static Comment comment(long id, Post post, User user) {
+        Comment comment = new Comment("id labore ex et quam laborum " + id, "Eliseo@gardner.biz",
+                "laudantium enim quasi est quidem magnam voluptate ipsam eos\ntempora quo necessitatibus\n"
+                        + "dolor quam autem quasi\nreiciendis et nam sapiente accusantium", post, user);
+        comment.setId(id);
+        comment.setCreatedAt(NOW.minusMinutes(id));
+        comment.setUpdatedAt(NOW.minusMinutes(id));
+        return comment;
+    }
+
+    static Todo todo(long id, User user) {
+        Todo todo = new Todo("delectus aut autem " + id, "quis ut nam facilis et officia qui", user);
+        todo.setId(id);
+        todo.setPriority(Todo.Priority.values()[(int) (id % Todo.Priority.values().length)]);
+        todo.setDueDate(NOW.plusDays(id % 14));
+        todo.setCompleted(id % 3 == 0);
+        return todo;
+    }
+
+    static List<Post> posts(int count, User user) {
+        List<Post> posts = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            posts.add(post(id, user));
+        }
+        return posts;
+    }
+
+    static List<Todo> todos(int count, User user) {
+        List<Todo> todos = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            todos.add(todo(id, user));
+        }
+        return todos;
+    }
+}
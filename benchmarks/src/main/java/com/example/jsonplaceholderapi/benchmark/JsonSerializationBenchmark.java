@@ -0,0 +1,82 @@
+package com.example.jsonplaceholderapi.benchmark;
+
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Serialização Jackson das respostas mais comuns (entidade única, lista e página)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    // Tamanho das listas/páginas
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private User user;
+    private Post post;
+    private Comment comment;
+    private List<Post> posts;
+    private Page<Todo> todoPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Fixtures.objectMapper();
+        user = Fixtures.user(1);
+        post = Fixtures.post(1, user);
+        comment = Fixtures.comment(1, post, user);
+        posts = Fixtures.posts(size, user);
+        todoPage = new PageImpl<>(Fixtures.todos(size, user),
+                PageRequest.of(0, size, Sort.by("createdAt").descending()), size * 10L);
+    }
+
+    @Benchmark
+    public byte[] user() throws Exception {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] post() throws Exception {
+        return objectMapper.writeValueAsBytes(post);
+    }
+
+    @Benchmark
+    public byte[] comment() throws Exception {
+        return objectMapper.writeValueAsBytes(comment);
+    }
+
+    @Benchmark
+    public byte[] postList() throws Exception {
+        return objectMapper.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] todoPage() throws Exception {
+        return objectMapper.writeValueAsBytes(todoPage);
+    }
+}
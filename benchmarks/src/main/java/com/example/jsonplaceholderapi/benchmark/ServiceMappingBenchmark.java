@@ -0,0 +1,135 @@
+package com.example.jsonplaceholderapi.benchmark;
+
+import com.example.jsonplaceholderapi.dto.BatchResult;
+import com.example.jsonplaceholderapi.dto.UserSummary;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.repository.PostRepository;
+import com.example.jsonplaceholderapi.repository.TodoRepository;
+import com.example.jsonplaceholderapi.repository.UserRepository;
+import com.example.jsonplaceholderapi.service.PostService;
+import com.example.jsonplaceholderapi.service.TodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Mapeamento feito nos services, sem banco: cópia de campos no update/partialUpdate,
+// reordenação do batch por ID (BatchResult) e conversão para os itens do resumo do usuário.
+// Os repositórios são stubs em memória; o custo medido é só o do código do service.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ServiceMappingBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private TodoService todoService;
+    private PostService postService;
+    private Todo todoDetails;
+    private Todo partialDetails;
+    private List<Long> batchIds;
+    private List<Post> posts;
+    private List<Todo> todos;
+
+    @Setup
+    public void setUp() {
+        User user = Fixtures.user(1);
+        Todo stored = Fixtures.todo(1, user);
+        posts = Fixtures.posts(BATCH_SIZE, user);
+        todos = Fixtures.todos(BATCH_SIZE, user);
+
+        // findAllById devolve em ordem diferente da pedida, como o banco faz
+        List<Post> shuffled = new ArrayList<>(posts);
+        Collections.shuffle(shuffled, new Random(42));
+
+        TodoRepository todoRepository = stub(TodoRepository.class, (method, args) -> switch (method) {
+            case "findById" -> Optional.of(stored);
+            case "save" -> args[0];
+            default -> throw new UnsupportedOperationException(method);
+        });
+        PostRepository postRepository = stub(PostRepository.class, (method, args) -> switch (method) {
+            case "findAllById" -> shuffled;
+            default -> throw new UnsupportedOperationException(method);
+        });
+        UserRepository userRepository = stub(UserRepository.class, (method, args) -> switch (method) {
+            case "findById" -> Optional.of(user);
+            default -> throw new UnsupportedOperationException(method);
+        });
+
+        todoService = new TodoService();
+        ReflectionTestUtils.setField(todoService, "todoRepository", todoRepository);
+        ReflectionTestUtils.setField(todoService, "userRepository", userRepository);
+
+        postService = new PostService();
+        ReflectionTestUtils.setField(postService, "postRepository", postRepository);
+        ReflectionTestUtils.setField(postService, "userRepository", userRepository);
+
+        todoDetails = Fixtures.todo(2, user);
+        todoDetails.setUser(null);
+        partialDetails = new Todo();
+        partialDetails.setTitle("updated title");
+        // Só o título: completed e priority têm valor padrão na entidade
+        ReflectionTestUtils.setField(partialDetails, "completed", null);
+        ReflectionTestUtils.setField(partialDetails, "priority", null);
+
+        batchIds = new ArrayList<>(BATCH_SIZE);
+        for (Post post : posts) {
+            batchIds.add(post.getId());
+        }
+    }
+
+    @Benchmark
+    public Todo todoUpdate() {
+        return todoService.update(1L, todoDetails);
+    }
+
+    @Benchmark
+    public Todo todoPartialUpdate() {
+        return todoService.partialUpdate(1L, partialDetails);
+    }
+
+    @Benchmark
+    public BatchResult<Post> postBatchById() {
+        return postService.findAllByIds(batchIds);
+    }
+
+    @Benchmark
+    public List<UserSummary.PostItem> summaryPostItems() {
+        return posts.stream().map(UserSummary.PostItem::of).toList();
+    }
+
+    @Benchmark
+    public List<UserSummary.TodoItem> summaryTodoItems() {
+        return todos.stream().map(UserSummary.TodoItem::of).toList();
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answer.answer(method.getName(), args));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.jsonplaceholderapi.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// Argumentos --chave=valor (ou --flag) das ferramentas de linha de comando
+final class Arguments {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    Arguments(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (use --chave=valor)");
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+    }
+
+    boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    long getLong(String name, long defaultValue) {
+        String value = values.get(name);
+        return value != null ? parseCount(value) : defaultValue;
+    }
+
+    int getInt(String name, int defaultValue) {
+        return Math.toIntExact(getLong(name, defaultValue));
+    }
+
+    boolean getFlag(String name) {
+        return Boolean.parseBoolean(values.getOrDefault(name, "false"));
+    }
+
+    // 30s, 5m, 500ms ou só segundos
+    Duration getDuration(String name, Duration defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    // 1000, 10k, 50M
+    private static long parseCount(String value) {
+        char suffix = Character.toLowerCase(value.charAt(value.length() - 1));
+        return switch (suffix) {
+            case 'k' -> Long.parseLong(value.substring(0, value.length() - 1)) * 1_000;
+            case 'm' -> Long.parseLong(value.substring(0, value.length() - 1)) * 1_000_000;
+            default -> Long.parseLong(value);
+        };
+    }
+}
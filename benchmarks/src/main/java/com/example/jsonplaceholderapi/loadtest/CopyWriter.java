@@ -0,0 +1,103 @@
+package com.example.jsonplaceholderapi.loadtest;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+// Linhas CSV enviadas direto para um COPY ... FROM STDIN, em blocos de ~1 MB
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_CHARS = 1 << 20;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 8192);
+    private boolean firstField = true;
+    private boolean finished;
+
+    CopyWriter(CopyManager copyManager, String table, String columns) throws SQLException {
+        this.copyIn = copyManager.copyIn("COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)");
+    }
+
+    CopyWriter number(long value) {
+        separator().append(value);
+        return this;
+    }
+
+    CopyWriter bool(boolean value) {
+        separator().append(value ? 't' : 'f');
+        return this;
+    }
+
+    CopyWriter timestamp(LocalDateTime value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separator().append(value);
+        return this;
+    }
+
+    // Texto sempre entre aspas (aspas internas duplicadas): vírgulas e quebras de linha ficam seguras
+    CopyWriter text(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        StringBuilder out = separator().append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+        return this;
+    }
+
+    // Campo vazio sem aspas = NULL no formato csv
+    CopyWriter nullValue() {
+        separator();
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        firstField = true;
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    // Linhas gravadas
+    long finish() throws SQLException {
+        flush();
+        finished = true;
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!finished && copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private StringBuilder separator() {
+        if (!firstField) {
+            buffer.append(',');
+        }
+        firstField = false;
+        return buffer;
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.jsonplaceholderapi.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Gera users/posts/comments/albums/photos/todos com COPY, nas proporções do JSONPlaceholder
+// (por usuário: 10 posts x 5 comentários, 10 álbuns x 50 fotos, 20 tarefas = 591 linhas).
+//
+// Determinístico: cada linha usa um gerador semeado por (seed, tabela, id), e os IDs são
+// calculados a partir do usuário. A mesma seed e escala produzem sempre os mesmos dados,
+// com qualquer número de threads. Os usuários são carregados em blocos de 1000, um por transação;
+// comentários só referenciam usuários do próprio bloco (as FKs não dependem de outra thread).
+//
+//   java -cp target/benchmarks.jar com.example.jsonplaceholderapi.loadtest.DatasetGenerator \
+//        --rows=1M --seed=42 --truncate [--url=jdbc:postgresql://localhost:5432/jsonplaceholder_db]
+//
+// Todos os usuários têm a senha PASSWORD (login: user<id>).
+public class DatasetGenerator {
+
+    public static final int POSTS_PER_USER = 10;
+    public static final int COMMENTS_PER_POST = 5;
+    public static final int ALBUMS_PER_USER = 10;
+    public static final int PHOTOS_PER_ALBUM = 50;
+    public static final int TODOS_PER_USER = 20;
+    public static final int ROWS_PER_USER = 1 + POSTS_PER_USER + POSTS_PER_USER * COMMENTS_PER_POST
+            + ALBUMS_PER_USER + ALBUMS_PER_USER * PHOTOS_PER_ALBUM + TODOS_PER_USER;
+
+    public static final String PASSWORD = "password123";
+
+    private static final long BLOCK_USERS = 1000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String[] TABLES = {"users", "posts", "comments", "albums", "photos", "todos"};
+
+    // Sal de cada tabela na semente das linhas
+    private static final long USERS = 1, POSTS = 2, COMMENTS = 3, ALBUMS = 4, PHOTOS = 5, TODOS = 6;
+
+    private static final String[] FIRST_NAMES = {"Leanne", "Ervin", "Clementine", "Patricia", "Chelsey", "Dennis",
+            "Kurtis", "Nicholas", "Glenna", "Clementina", "Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio"};
+    private static final String[] LAST_NAMES = {"Graham", "Howell", "Bauch", "Lebsack", "Dietrich", "Schulist",
+            "Weissnat", "Runolfsdottir", "Reichert", "DuBuque", "Silva", "Souza", "Oliveira", "Pereira"};
+    private static final String[] CITIES = {"Gwenborough", "Wisokyburgh", "McKenziehaven", "South Elvis",
+            "Roscoeview", "South Christy", "Howemouth", "Aliyaview", "Bartholomebury", "Lebsackbury"};
+    private static final String[] STREETS = {"Kulas Light", "Victor Plains", "Douglas Extension", "Hoeger Mall",
+            "Skiles Walks", "Norberto Crossing", "Rex Trail", "Ellsworth Summit", "Dayna Park", "Kattie Turnpike"};
+    private static final String[] COMPANIES = {"Romaguera-Crona", "Deckow-Crist", "Romaguera-Jacobson",
+            "Robel-Corkery", "Keebler LLC", "Considine-Lockman", "Johns Group", "Abernathy Group", "Yost and Sons"};
+    private static final String[] WORDS = ("lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod "
+            + "tempor incididunt ut labore et dolore magna aliqua enim ad minim veniam quis nostrud exercitation "
+            + "ullamco laboris nisi aliquip ex ea commodo consequat duis aute irure in reprehenderit voluptate velit "
+            + "esse cillum fugiat nulla pariatur excepteur sint occaecat cupidatat non proident sunt culpa qui "
+            + "officia deserunt mollit anim id est laborum").split(" ");
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+
+    private final long seed;
+    private final String passwordHash;
+
+    DatasetGenerator(long seed) {
+        this.seed = seed;
+        // Um único hash para todos: o custo do BCrypt não entra na geração
+        this.passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Arguments arguments = new Arguments(args);
+        String url = arguments.get("url", "jdbc:postgresql://localhost:5432/jsonplaceholder_db");
+        String username = arguments.get("user", "postgres");
+        String password = arguments.get("password", "admin");
+        long users = arguments.has("users")
+                ? arguments.getLong("users", 0)
+                : Math.max(1, Math.round(arguments.getLong("rows", 1000) / (double) ROWS_PER_USER));
+        long seed = arguments.getLong("seed", 42);
+        int threads = arguments.getInt("threads", Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            prepare(connection, arguments.getFlag("truncate"));
+        }
+
+        System.out.printf("Gerando %,d usuários (%,d linhas), seed=%d, %d threads%n",
+                users, users * ROWS_PER_USER, seed, threads);
+
+        DatasetGenerator generator = new DatasetGenerator(seed);
+        long start = System.nanoTime();
+        long rows = generator.generate(url, username, password, users, threads);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                // Próximos INSERTs da API continuam depois dos IDs gerados
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT COALESCE(MAX(id), 1) FROM " + table + "))");
+                statement.execute("ANALYZE " + table);
+            }
+        }
+
+        System.out.printf("%,d linhas em %.1f s (%,.0f linhas/s)%n",
+                rows, elapsed.toMillis() / 1000.0, rows / Math.max(0.001, elapsed.toMillis() / 1000.0));
+    }
+
+    private static void prepare(Connection connection, boolean truncate) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (truncate) {
+                statement.execute("TRUNCATE users, posts, comments, albums, photos, todos RESTART IDENTITY CASCADE");
+                return;
+            }
+            try (ResultSet resultSet = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM users)")) {
+                resultSet.next();
+                if (resultSet.getBoolean(1)) {
+                    throw new IllegalStateException("A tabela users não está vazia (use --truncate)");
+                }
+            }
+        }
+    }
+
+    long generate(String url, String username, String password, long users, int threads) throws Exception {
+        long blocks = (users + BLOCK_USERS - 1) / BLOCK_USERS;
+        AtomicLong nextBlock = new AtomicLong();
+        AtomicLong rows = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                        connection.setAutoCommit(false);
+                        long block;
+                        while ((block = nextBlock.getAndIncrement()) < blocks) {
+                            long firstUser = block * BLOCK_USERS + 1;
+                            long lastUser = Math.min(users, firstUser + BLOCK_USERS - 1);
+                            rows.addAndGet(generateBlock(connection, firstUser, lastUser));
+                            connection.commit();
+                            System.out.printf("  bloco %d/%d (usuários %d-%d)%n", block + 1, blocks, firstUser, lastUser);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return rows.get();
+    }
+
+    private long generateBlock(Connection connection, long firstUser, long lastUser) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        long rows = 0;
+
+        try (CopyWriter out = new CopyWriter(copyManager, "users", "id,name,username,email,password,phone,website,"
+                + "street,suite,city,zipcode,lat,lng,company_name,company_catch_phrase,company_bs,created_at,updated_at")) {
+            for (long id = firstUser; id <= lastUser; id++) {
+                SplittableRandom random = random(USERS, id);
+                LocalDateTime createdAt = timestamp(random);
+                out.number(id)
+                        .text(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES))
+                        .text("user" + id)
+                        .text("user" + id + "@example.com")
+                        .text(passwordHash)
+                        .text(String.format(Locale.ROOT, "1-%03d-%03d-%04d", random.nextInt(1000), random.nextInt(1000), random.nextInt(10000)))
+                        .text("user" + id + ".example.com")
+                        .text(pick(random, STREETS))
+                        .text("Apt. " + random.nextInt(1, 1000))
+                        .text(pick(random, CITIES))
+                        .text(String.format(Locale.ROOT, "%05d-%04d", random.nextInt(100000), random.nextInt(10000)))
+                        .text(String.format(Locale.ROOT, "%.4f", random.nextDouble(-90, 90)))
+                        .text(String.format(Locale.ROOT, "%.4f", random.nextDouble(-180, 180)))
+                        .text(pick(random, COMPANIES))
+                        .text(sentence(random, 3, 6))
+                        .text(sentence(random, 3, 5))
+                        .timestamp(createdAt)
+                        .timestamp(createdAt)
+                        .endRow();
+            }
+            rows += out.finish();
+        }
+
+        try (CopyWriter out = new CopyWriter(copyManager, "posts", "id,title,body,user_id,created_at,updated_at")) {
+            for (long userId = firstUser; userId <= lastUser; userId++) {
+                for (long postId = firstId(userId, POSTS_PER_USER); postId <= lastId(userId, POSTS_PER_USER); postId++) {
+                    SplittableRandom random = random(POSTS, postId);
+                    LocalDateTime createdAt = timestamp(random);
+                    out.number(postId).text(sentence(random, 4, 10)).text(paragraphs(random, 2, 4)).number(userId)
+                            .timestamp(createdAt).timestamp(createdAt).endRow();
+                }
+            }
+            rows += out.finish();
+        }
+
+        try (CopyWriter out = new CopyWriter(copyManager, "comments", "id,name,email,body,post_id,user_id,created_at,updated_at")) {
+            long firstPost = firstId(firstUser, POSTS_PER_USER);
+            long lastPost = lastId(lastUser, POSTS_PER_USER);
+            for (long postId = firstPost; postId <= lastPost; postId++) {
+                for (long commentId = firstId(postId, COMMENTS_PER_POST); commentId <= lastId(postId, COMMENTS_PER_POST); commentId++) {
+                    SplittableRandom random = random(COMMENTS, commentId);
+                    long author = random.nextLong(firstUser, lastUser + 1);
+                    LocalDateTime createdAt = timestamp(random);
+                    out.number(commentId).text(sentence(random, 3, 6)).text("user" + author + "@example.com")
+                            .text(paragraphs(random, 1, 2)).number(postId).number(author)
+                            .timestamp(createdAt).timestamp(createdAt).endRow();
+                }
+            }
+            rows += out.finish();
+        }
+
+        try (CopyWriter out = new CopyWriter(copyManager, "albums", "id,title,description,user_id,created_at,updated_at")) {
+            for (long userId = firstUser; userId <= lastUser; userId++) {
+                for (long albumId = firstId(userId, ALBUMS_PER_USER); albumId <= lastId(userId, ALBUMS_PER_USER); albumId++) {
+                    SplittableRandom random = random(ALBUMS, albumId);
+                    LocalDateTime createdAt = timestamp(random);
+                    out.number(albumId).text(sentence(random, 2, 6)).text(sentence(random, 6, 14)).number(userId)
+                            .timestamp(createdAt).timestamp(createdAt).endRow();
+                }
+            }
+            rows += out.finish();
+        }
+
+        try (CopyWriter out = new CopyWriter(copyManager, "photos",
+                "id,title,url,thumbnail_url,alt_text,album_id,user_id,created_at,updated_at")) {
+            for (long userId = firstUser; userId <= lastUser; userId++) {
+                for (long albumId = firstId(userId, ALBUMS_PER_USER); albumId <= lastId(userId, ALBUMS_PER_USER); albumId++) {
+                    for (long photoId = firstId(albumId, PHOTOS_PER_ALBUM); photoId <= lastId(albumId, PHOTOS_PER_ALBUM); photoId++) {
+                        SplittableRandom random = random(PHOTOS, photoId);
+                        String color = String.format(Locale.ROOT, "%06x", random.nextInt(0x1000000));
+                        LocalDateTime createdAt = timestamp(random);
+                        out.number(photoId).text(sentence(random, 3, 8))
+                                .text("https://via.placeholder.com/600/" + color)
+                                .text("https://via.placeholder.com/150/" + color)
+                                .text(sentence(random, 2, 4)).number(albumId).number(userId)
+                                .timestamp(createdAt).timestamp(createdAt).endRow();
+                    }
+                }
+            }
+            rows += out.finish();
+        }
+
+        try (CopyWriter out = new CopyWriter(copyManager, "todos",
+                "id,title,description,completed,priority,due_date,user_id,created_at,updated_at,completed_at")) {
+            for (long userId = firstUser; userId <= lastUser; userId++) {
+                for (long todoId = firstId(userId, TODOS_PER_USER); todoId <= lastId(userId, TODOS_PER_USER); todoId++) {
+                    SplittableRandom random = random(TODOS, todoId);
+                    LocalDateTime createdAt = timestamp(random);
+                    boolean completed = random.nextInt(100) < 40;
+                    LocalDateTime dueDate = random.nextInt(100) < 80 ? createdAt.plusDays(random.nextInt(-10, 30)) : null;
+                    out.number(todoId).text(sentence(random, 3, 8)).text(random.nextBoolean() ? sentence(random, 5, 15) : null)
+                            .bool(completed).text(pick(random, PRIORITIES)).timestamp(dueDate).number(userId)
+                            .timestamp(createdAt).timestamp(createdAt)
+                            .timestamp(completed ? createdAt.plusHours(random.nextInt(1, 240)) : null)
+                            .endRow();
+                }
+            }
+            rows += out.finish();
+        }
+
+        return rows;
+    }
+
+    // IDs dos filhos do pai N: (N-1)*porPai+1 .. N*porPai
+    public static long firstId(long parentId, int perParent) {
+        return (parentId - 1) * perParent + 1;
+    }
+
+    public static long lastId(long parentId, int perParent) {
+        return parentId * perParent;
+    }
+
+    private SplittableRandom random(long table, long id) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + table * 0xBF58476D1CE4E5B9L + id);
+    }
+
+    private static LocalDateTime timestamp(SplittableRandom random) {
+        return EPOCH.plusMinutes(random.nextLong(365L * 24 * 60));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String sentence(SplittableRandom random, int minWords, int maxWords) {
+        int words = random.nextInt(minWords, maxWords + 1);
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(pick(random, WORDS));
+        }
+        return sentence.toString();
+    }
+
+    private static String paragraphs(SplittableRandom random, int min, int max) {
+        int count = random.nextInt(min, max + 1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append(sentence(random, 8, 20));
+        }
+        return text.toString();
+    }
+}
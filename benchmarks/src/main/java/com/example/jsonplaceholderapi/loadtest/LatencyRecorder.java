@@ -0,0 +1,53 @@
+package com.example.jsonplaceholderapi.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Latências e status de um endpoint, de um único worker (sem sincronização).
+// Guarda todas as amostras: os percentis saem exatos ao juntar os workers no fim.
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+
+    void record(long elapsedNanos, int status) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = elapsedNanos;
+        statuses.merge(status, 1L, Long::sum);
+        if (status == 0 || status >= 400) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > nanos.length) {
+            nanos = Arrays.copyOf(nanos, count + other.count);
+        }
+        System.arraycopy(other.nanos, 0, nanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        other.statuses.forEach((status, total) -> statuses.merge(status, total, Long::sum));
+    }
+
+    LoadReport.EndpointStats stats(String endpoint, double seconds) {
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        return new LoadReport.EndpointStats(endpoint, count, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), count > 0 ? sorted[count - 1] / 1_000_000.0 : 0,
+                new TreeMap<>(statuses));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.jsonplaceholderapi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+// Carga de leitura/escrita no estilo JSONPlaceholder contra uma instância local, gerada sobre os
+// dados do DatasetGenerator (mesmo --users). Workers em laço fechado (um em voo por worker),
+// em virtual threads; o período de aquecimento não entra no relatório.
+//
+//   java -cp target/benchmarks.jar com.example.jsonplaceholderapi.loadtest.LoadDriver \
+//        --users=1692 --concurrency=64 --duration=60s --warmup=10s --out=target/load.json \
+//        [--compare=load-anterior.json] [--skew=0.8] [--base-url=http://localhost:8080] [--read-only]
+//
+// --read-only deixa só os GETs do mix (para comparar com o perfil fixture, que recusa escritas).
+//
+// Suba a API sem os limitadores para medir capacidade (senão mede-se o 429/503):
+//   --app.ratelimit.enabled=false --app.limiter.enabled=false
+public class LoadDriver {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_PAGE = 100;
+    private static final int BATCH_IDS = 10;
+    // Duas palavras seguidas do vocabulário do gerador: poucos resultados, como uma busca real
+    private static final String[] SEARCH_TERMS = {"lorem%20ipsum", "dolor%20sit", "magna%20aliqua",
+            "velit%20esse", "culpa%20qui", "sunt%20in", "ut%20enim", "duis%20aute"};
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String baseUrl;
+    private final long users;
+    private final long seed;
+    private final double skew;
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    // Uma operação do mix: nome (padrão do endpoint), peso e como montar a requisição
+    private record Operation(String name, int weight, String method,
+                             Function<SplittableRandom, String> path,
+                             Function<SplittableRandom, String> body) {}
+
+    LoadDriver(String baseUrl, long users, long seed, double skew, boolean readOnly) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.seed = seed;
+        this.skew = skew;
+        this.operations = operations().stream()
+                .filter(operation -> !readOnly || operation.method().equals("GET"))
+                .toList();
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Arguments arguments = new Arguments(args);
+        LoadDriver driver = new LoadDriver(
+                arguments.get("base-url", "http://localhost:8080"),
+                arguments.getLong("users", 2),
+                arguments.getLong("seed", 42),
+                Double.parseDouble(arguments.get("skew", "0")),
+                arguments.has("read-only"));
+
+        LoadReport report = driver.run(
+                arguments.getInt("concurrency", 32),
+                arguments.getInt("tokens", 8),
+                arguments.getDuration("warmup", Duration.ofSeconds(10)),
+                arguments.getDuration("duration", Duration.ofSeconds(60)));
+
+        driver.print(report);
+        if (arguments.has("out")) {
+            driver.objectMapper.writeValue(new File(arguments.get("out", null)), report);
+        }
+        if (arguments.has("compare")) {
+            driver.compare(driver.objectMapper.readValue(new File(arguments.get("compare", null)), LoadReport.class), report);
+        }
+    }
+
+    // Mix de tráfego (pesos somam 100): leitura dominante, alguns writes
+    private List<Operation> operations() {
+        long posts = users * DatasetGenerator.POSTS_PER_USER;
+        long albums = users * DatasetGenerator.ALBUMS_PER_USER;
+        long todos = users * DatasetGenerator.TODOS_PER_USER;
+        int pages = (int) Math.max(1, Math.min(MAX_PAGE, posts / PAGE_SIZE));
+
+        return List.of(
+                get("GET /posts", 15, random -> "/posts?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE),
+                get("GET /posts/{id}", 20, random -> "/posts/" + id(random, posts)),
+                get("GET /posts?id=", 5, random -> {
+                    StringBuilder path = new StringBuilder("/posts?");
+                    for (int i = 0; i < BATCH_IDS; i++) {
+                        path.append(i > 0 ? "&" : "").append("id=").append(id(random, posts));
+                    }
+                    return path.toString();
+                }),
+                get("GET /comments/post/{postId}", 15, random -> "/comments/post/" + id(random, posts)),
+                get("GET /users/{id}", 8, random -> "/users/" + id(random, users)),
+                get("GET /users/{id}/summary", 5, random -> "/users/" + id(random, users) + "/summary"),
+                get("GET /albums/user/{userId}", 5, random -> "/albums/user/" + id(random, users)),
+                get("GET /photos/album/{albumId}", 7, random -> "/photos/album/" + id(random, albums)),
+                get("GET /todos/user/{userId}", 10, random -> "/todos/user/" + id(random, users)),
+                get("GET /posts/search", 2, random -> "/posts/search?title="
+                        + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]),
+                new Operation("POST /posts/user/{userId}", 5, "POST",
+                        random -> "/posts/user/" + id(random, users),
+                        random -> "{\"title\":\"load test " + random.nextInt(1_000_000)
+                                + "\",\"body\":\"gerado pelo LoadDriver\"}"),
+                new Operation("PATCH /todos/{id}/complete", 3, "PATCH",
+                        random -> "/todos/" + id(random, todos) + "/complete", null));
+    }
+
+    private static Operation get(String name, int weight, Function<SplittableRandom, String> path) {
+        return new Operation(name, weight, "GET", path, null);
+    }
+
+    // ID uniforme em 1..max; com --skew=0.8, 80% das escolhas caem nos 20% primeiros IDs
+    private long id(SplittableRandom random, long max) {
+        if (skew > 0 && random.nextDouble() < skew) {
+            return random.nextLong(1, Math.max(1, max / 5) + 1);
+        }
+        return random.nextLong(1, max + 1);
+    }
+
+    LoadReport run(int concurrency, int tokenCount, Duration warmup, Duration duration) throws Exception {
+        List<String> tokens = login(Math.toIntExact(Math.min(tokenCount, users)));
+        System.out.printf("%d workers, %d usuários autenticados, aquecimento %ds, medição %ds%n",
+                concurrency, tokens.size(), warmup.toSeconds(), duration.toSeconds());
+
+        Instant startedAt = Instant.now();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        List<Map<String, LatencyRecorder>> perWorker = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<String, LatencyRecorder>>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                int worker = i;
+                workers.add(executor.submit(() -> work(new SplittableRandom(seed + worker),
+                        tokens.get(worker % tokens.size()), measureFrom, deadline)));
+            }
+            for (Future<Map<String, LatencyRecorder>> worker : workers) {
+                perWorker.add(worker.get());
+            }
+        }
+
+        // Juntar os workers: por endpoint e total
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, LatencyRecorder> merged = new TreeMap<>();
+        LatencyRecorder total = new LatencyRecorder();
+        for (Map<String, LatencyRecorder> recorders : perWorker) {
+            recorders.forEach((endpoint, recorder) -> {
+                merged.computeIfAbsent(endpoint, name -> new LatencyRecorder()).merge(recorder);
+                total.merge(recorder);
+            });
+        }
+
+        List<LoadReport.EndpointStats> endpoints = new ArrayList<>();
+        merged.forEach((endpoint, recorder) -> endpoints.add(recorder.stats(endpoint, seconds)));
+        return new LoadReport(startedAt.toString(), baseUrl, users, seed, concurrency, seconds,
+                endpoints, total.stats("TOTAL", seconds));
+    }
+
+    private Map<String, LatencyRecorder> work(SplittableRandom random, String token, long measureFrom, long deadline) {
+        Map<String, LatencyRecorder> recorders = new HashMap<>();
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            Operation operation = pick(random);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + operation.path().apply(random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token);
+            if (operation.body() != null) {
+                request.header("Content-Type", "application/json")
+                        .method(operation.method(), HttpRequest.BodyPublishers.ofString(operation.body().apply(random)));
+            } else {
+                request.method(operation.method(), HttpRequest.BodyPublishers.noBody());
+            }
+
+            int status;
+            try {
+                status = http.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (now >= measureFrom) {
+                recorders.computeIfAbsent(operation.name(), name -> new LatencyRecorder())
+                        .record(System.nanoTime() - now, status);
+            }
+        }
+        return recorders;
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            value -= operation.weight();
+            if (value < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    // Login de user1..userN (senha do DatasetGenerator); respeita o Retry-After do rate limit de /auth
+    private List<String> login(int count) throws IOException, InterruptedException {
+        List<String> tokens = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "usernameOrEmail", "user" + id, "password", DatasetGenerator.PASSWORD));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            while (response.statusCode() == 429) {
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                Thread.sleep(Duration.ofSeconds(retryAfter));
+                response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login de user" + id + " falhou: " + response.statusCode()
+                        + " " + response.body() + " (dados gerados com o DatasetGenerator?)");
+            }
+            tokens.add(objectMapper.readTree(response.body()).path("token").asText());
+        }
+        return tokens;
+    }
+
+    void print(LoadReport report) {
+        System.out.printf("%n%-32s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Reqs", "Erros", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LoadReport.EndpointStats stats : report.endpoints()) {
+            printRow(stats);
+        }
+        printRow(report.total());
+    }
+
+    private static void printRow(LoadReport.EndpointStats stats) {
+        System.out.printf("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", stats.endpoint(), stats.requests(),
+                stats.errors(), stats.throughput(), stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs());
+    }
+
+    // Variação de vazão e p99 em relação a uma execução anterior
+    void compare(LoadReport previous, LoadReport current) {
+        Map<String, LoadReport.EndpointStats> before = new HashMap<>();
+        previous.endpoints().forEach(stats -> before.put(stats.endpoint(), stats));
+        before.put("TOTAL", previous.total());
+
+        System.out.printf("%n%-32s %12s %12s %9s %12s %12s %9s%n",
+                "Endpoint", "Req/s antes", "Req/s agora", "Δ%", "p99 antes", "p99 agora", "Δ%");
+        List<LoadReport.EndpointStats> rows = new ArrayList<>(current.endpoints());
+        rows.add(current.total());
+        for (LoadReport.EndpointStats stats : rows) {
+            LoadReport.EndpointStats old = before.get(stats.endpoint());
+            if (old == null) {
+                continue;
+            }
+            System.out.printf("%-32s %12.1f %12.1f %+8.1f%% %12.2f %12.2f %+8.1f%%%n", stats.endpoint(),
+                    old.throughput(), stats.throughput(), change(old.throughput(), stats.throughput()),
+                    old.p99Ms(), stats.p99Ms(), change(old.p99Ms(), stats.p99Ms()));
+        }
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.jsonplaceholderapi.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+// Resultado de uma execução do LoadDriver (gravado em JSON para comparar execuções)
+public record LoadReport(String startedAt, String baseUrl, long users, long seed, int concurrency,
+                         double durationSeconds, List<EndpointStats> endpoints, EndpointStats total) {
+
+    // Latências em ms; errors = status >= 400 ou falha de conexão (status 0)
+    public record EndpointStats(String endpoint, long requests, long errors, double throughput,
+                                double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs,
+                                Map<Integer, Long> statuses) {}
+}
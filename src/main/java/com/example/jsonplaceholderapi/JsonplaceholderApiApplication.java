@@ -1,5 +1,6 @@
 package com.example.jsonplaceholderapi;
 
+import com.example.jsonplaceholderapi.bulk.BulkCommandLine;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,6 +8,11 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class JsonplaceholderApiApplication {
 
     public static void main(String[] args) {
+        // "export"/"import": importação/exportação em massa sem o servidor HTTP
+        if (BulkCommandLine.handles(args)) {
+            BulkCommandLine.run(args);
+            return;
+        }
         SpringApplication.run(JsonplaceholderApiApplication.class, args);
     }
 
@@ -0,0 +1,73 @@
+package com.example.jsonplaceholderapi.bulk;
+
+import com.example.jsonplaceholderapi.JsonplaceholderApiApplication;
+import com.example.jsonplaceholderapi.dto.BulkReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// Modo linha de comando do import/export, sem subir o servidor HTTP:
+//   java -jar app.jar export --bulk.dir=/caminho [--bulk.format=csv|ndjson]
+//   java -jar app.jar import --bulk.dir=/caminho
+//   java -jar app.jar snapshot --bulk.file=/caminho/dataset.snap
+// Demais argumentos são propriedades normais (--spring.datasource.url=..., --app.bulk.threads=8).
+public final class BulkCommandLine {
+
+    private BulkCommandLine() {}
+
+    public static boolean handles(String[] args) {
+        return args.length > 0 && (args[0].equals("export") || args[0].equals("import") || args[0].equals("snapshot"));
+    }
+
+    public static void run(String[] args) {
+        String command = args[0];
+        String[] properties = Arrays.copyOfRange(args, 1, args.length);
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JsonplaceholderApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .lazyInitialization(true)
+                .properties("app.jfr.enabled=false", "spring.main.banner-mode=off")
+                .run(properties)) {
+
+            // Com inicialização lazy o Flyway só roda se alguém pedir: o banco de destino pode estar vazio
+            context.getBeanProvider(FlywayMigrationInitializer.class).ifAvailable(initializer -> {});
+
+            Environment environment = context.getEnvironment();
+            BulkReport report;
+            if (command.equals("snapshot")) {
+                String file = environment.getProperty("bulk.file");
+                if (file == null) {
+                    throw new IllegalArgumentException("Informe o arquivo com --bulk.file=/caminho/dataset.snap");
+                }
+                report = context.getBean(SnapshotService.class).writeSnapshot(Path.of(file));
+            } else {
+                String directory = environment.getProperty("bulk.dir");
+                if (directory == null) {
+                    throw new IllegalArgumentException("Informe o diretório com --bulk.dir=/caminho");
+                }
+
+                BulkDataService bulkDataService = context.getBean(BulkDataService.class);
+                report = command.equals("export")
+                        ? bulkDataService.exportAll(Path.of(directory), BulkFormat.of(environment.getProperty("bulk.format", "csv")))
+                        : bulkDataService.importAll(Path.of(directory));
+            }
+
+            System.out.println(context.getBean(ObjectMapper.class).copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsString(report));
+            exitCode = 0;
+        } catch (Exception e) {
+            System.err.println(command + " falhou: " + e.getMessage());
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+}
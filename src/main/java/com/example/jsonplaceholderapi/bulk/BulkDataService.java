@@ -0,0 +1,511 @@
+package com.example.jsonplaceholderapi.bulk;
+
+import com.example.jsonplaceholderapi.dto.BulkReport;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Import/export das seis tabelas com COPY do PostgreSQL (CopyManager), sem passar pelo JPA.
+//
+// Em diretório: cada tabela é dividida em blocos de app.bulk.chunk-size IDs, exportados/importados
+// em paralelo (app.bulk.threads conexões). Cada bloco concluído vai para um arquivo de checkpoint;
+// rodar de novo no mesmo diretório pula os blocos já feitos.
+//   <dir>/manifest.json                     formato e linhas por tabela (gravado no fim do export)
+//   <dir>/<tabela>/<tabela>-<de>-<até>.<ext>
+//   <dir>/export-checkpoint.ndjson, import-checkpoint.ndjson
+//
+// Os blocos de uma execução do export usam o mesmo snapshot (pg_export_snapshot), como o pg_dump -j.
+// Um export retomado abre outro snapshot: cada bloco guarda no checkpoint o instante do snapshot
+// dele, o manifest lista os instantes usados e a retomada avisa no log que o diretório mistura
+// estados do banco (para um export consistente, apagar o diretório e exportar de novo).
+// O import passa por uma tabela temporária e INSERT ... ON CONFLICT DO NOTHING: repetir um bloco
+// não duplica linhas.
+@Service
+@Profile("!fixture")
+public class BulkDataService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkDataService.class);
+
+    private static final Pattern DIRECTORY_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_.-]{0,99}");
+    private static final String MANIFEST = "manifest.json";
+    private static final String EXPORT_CHECKPOINT = "export-checkpoint.ndjson";
+    private static final String IMPORT_CHECKPOINT = "import-checkpoint.ndjson";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.bulk.base-dir}")
+    private String baseDir;
+
+    @Value("${app.bulk.threads}")
+    private int threads;
+
+    @Value("${app.bulk.chunk-size}")
+    private long chunkSize;
+
+    // Conteúdo do manifest.json (snapshots: instantes dos snapshots lidos; mais de um = export retomado)
+    private record Manifest(String format, String createdAt, Map<String, Long> rows, List<String> snapshots) {}
+
+    // Uma linha dos arquivos de checkpoint (snapshotAt: só no export; null nos checkpoints antigos)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record Chunk(String table, long from, long to, long rows, String snapshotAt) {
+
+        String fileName(BulkFormat format) {
+            return table + "-" + from + "-" + to + "." + format.getExtension();
+        }
+    }
+
+    // Diretório dentro de app.bulk.base-dir (endpoints admin: só um nome, nunca um caminho)
+    public Path resolveDirectory(String name) {
+        if (name == null || !DIRECTORY_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Nome de diretório inválido: use letras, números, '.', '_' ou '-'");
+        }
+        return Path.of(baseDir).resolve(name);
+    }
+
+    // Exportar uma tabela inteira para um stream (download direto, sem blocos)
+    public long exportTable(BulkTable table, BulkFormat format, OutputStream out) {
+        try (Connection connection = dataSource.getConnection()) {
+            return copyManager(connection).copyOut(exportSql(table, format, null), out);
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException("Falha ao exportar " + table.getTableName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Importar uma tabela a partir de um stream (upload direto)
+    public long importTable(BulkTable table, BulkFormat format, InputStream in) {
+        try (Connection connection = dataSource.getConnection()) {
+            long rows = importChunk(connection, table, format, in);
+            resetSequence(connection, table);
+            eventPublisher.publishEvent(EntityChangedEvent.bulk(table.getEntityType()));
+            return rows;
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException("Falha ao importar " + table.getTableName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    public BulkReport exportAll(Path directory, BulkFormat format) {
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            Manifest previous = readManifest(directory);
+            if (previous != null && !previous.format().equals(format.getExtension())) {
+                throw new IllegalArgumentException("Diretório já contém um export em " + previous.format());
+            }
+
+            Path checkpointFile = directory.resolve(EXPORT_CHECKPOINT);
+            Set<Chunk> done = readCheckpoint(checkpointFile);
+            ReentrantLock checkpointLock = new ReentrantLock();
+
+            try (Connection coordinator = dataSource.getConnection()) {
+                // Snapshot compartilhado: todos os blocos enxergam o mesmo estado do banco
+                coordinator.setAutoCommit(false);
+                coordinator.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                String snapshot = queryString(coordinator, "SELECT pg_export_snapshot()");
+                String snapshotAt = queryString(coordinator, "SELECT transaction_timestamp()::text");
+                Set<String> snapshots = new TreeSet<>();
+
+                Map<BulkTable, TableProgress> progress = new EnumMap<>(BulkTable.class);
+                List<Callable<Void>> tasks = new ArrayList<>();
+                for (BulkTable table : BulkTable.values()) {
+                    TableProgress tableProgress = new TableProgress();
+                    progress.put(table, tableProgress);
+                    Files.createDirectories(directory.resolve(table.getTableName()));
+
+                    for (Chunk chunk : chunks(coordinator, table)) {
+                        Chunk completed = find(done, chunk);
+                        if (completed != null && Files.exists(chunkFile(directory, completed, format))) {
+                            tableProgress.skip(completed.rows());
+                            snapshots.add(Objects.requireNonNullElse(completed.snapshotAt(), "desconhecido"));
+                            continue;
+                        }
+                        tasks.add(() -> {
+                            Chunk exported = exportChunk(directory, snapshot, snapshotAt, table, format, chunk);
+                            appendCheckpoint(checkpointFile, checkpointLock, exported);
+                            tableProgress.add(exported.rows());
+                            return null;
+                        });
+                    }
+                }
+
+                if (!tasks.isEmpty()) {
+                    snapshots.add(snapshotAt);
+                }
+                if (snapshots.size() > 1) {
+                    log.warn("Export em {} retomado com outro snapshot: os blocos vêm de {} (tabelas podem não bater entre si)",
+                            directory, snapshots);
+                }
+
+                runAll(tasks);
+                coordinator.commit();
+
+                Map<String, Long> rows = new java.util.LinkedHashMap<>();
+                progress.forEach((table, tableProgress) -> rows.put(table.getTableName(), tableProgress.rows.get()));
+                objectMapper.writeValue(directory.resolve(MANIFEST).toFile(),
+                        new Manifest(format.getExtension(), Instant.now().toString(), rows, List.copyOf(snapshots)));
+
+                return report("export", format, directory, start, progress);
+            }
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException("Falha no export para " + directory + ": " + e.getMessage(), e);
+        }
+    }
+
+    public BulkReport importAll(Path directory) {
+        long start = System.nanoTime();
+        try {
+            Manifest manifest = readManifest(directory);
+            if (manifest == null) {
+                throw new IllegalArgumentException("Diretório sem " + MANIFEST + " (export incompleto?): " + directory);
+            }
+            BulkFormat format = BulkFormat.of(manifest.format());
+
+            Path checkpointFile = directory.resolve(IMPORT_CHECKPOINT);
+            Set<Chunk> done = readCheckpoint(checkpointFile);
+            ReentrantLock checkpointLock = new ReentrantLock();
+            Map<BulkTable, TableProgress> progress = new EnumMap<>(BulkTable.class);
+
+            // Um nível de FK por vez; dentro do nível, todas as tabelas e blocos em paralelo
+            for (int level = 0; level <= 2; level++) {
+                List<Callable<Void>> tasks = new ArrayList<>();
+                for (BulkTable table : BulkTable.values()) {
+                    if (table.getLevel() != level) {
+                        continue;
+                    }
+                    TableProgress tableProgress = new TableProgress();
+                    progress.put(table, tableProgress);
+
+                    for (Path file : chunkFiles(directory, table, format)) {
+                        Chunk chunk = parseChunk(table, file);
+                        Chunk completed = find(done, chunk);
+                        if (completed != null) {
+                            tableProgress.skip(completed.rows());
+                            continue;
+                        }
+                        tasks.add(() -> {
+                            long rows;
+                            try (Connection connection = dataSource.getConnection();
+                                 InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+                                rows = importChunk(connection, table, format, in);
+                            }
+                            appendCheckpoint(checkpointFile, checkpointLock,
+                                    new Chunk(chunk.table(), chunk.from(), chunk.to(), rows, null));
+                            tableProgress.add(rows);
+                            return null;
+                        });
+                    }
+                }
+                runAll(tasks);
+            }
+
+            // Sequências e estatísticas do planejador depois da carga
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                for (BulkTable table : BulkTable.values()) {
+                    resetSequence(connection, table);
+                    statement.execute("ANALYZE " + table.getTableName());
+                }
+            }
+            // COPY não passa pelos repositórios: quem guarda cópia das tabelas recarrega
+            for (BulkTable table : BulkTable.values()) {
+                eventPublisher.publishEvent(EntityChangedEvent.bulk(table.getEntityType()));
+            }
+            return report("import", format, directory, start, progress);
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException("Falha no import de " + directory + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Chunk exportChunk(Path directory, String snapshot, String snapshotAt, BulkTable table, BulkFormat format, Chunk chunk)
+            throws SQLException, IOException {
+        Path file = chunkFile(directory, chunk, format);
+        Path partial = file.resolveSibling(file.getFileName() + ".part");
+
+        long rows;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET TRANSACTION SNAPSHOT '" + snapshot + "'");
+            }
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial), 1 << 16)) {
+                rows = copyManager(connection).copyOut(exportSql(table, format, chunk), out);
+            }
+            connection.commit();
+        }
+
+        // Arquivo final só aparece completo
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Exportado {} ({} linhas)", file.getFileName(), rows);
+        return new Chunk(chunk.table(), chunk.from(), chunk.to(), rows, snapshotAt);
+    }
+
+    // Um bloco (ou a tabela inteira) em uma transação: COPY para tabela temporária e INSERT no destino
+    private long importChunk(Connection connection, BulkTable table, BulkFormat format, InputStream in)
+            throws SQLException, IOException {
+        String tableName = table.getTableName();
+        String columns = table.getColumns();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            if (format == BulkFormat.NDJSON) {
+                statement.execute("CREATE TEMP TABLE bulk_staging (doc jsonb) ON COMMIT DROP");
+                copyManager(connection).copyIn("COPY bulk_staging (doc) FROM STDIN WITH (" + format.getCopyOptions() + ")", in);
+                statement.executeUpdate("INSERT INTO " + tableName + " (" + columns + ") SELECT " + prefixed("r", columns)
+                        + " FROM bulk_staging s, jsonb_populate_record(NULL::" + tableName + ", s.doc) r ON CONFLICT DO NOTHING");
+            } else {
+                statement.execute("CREATE TEMP TABLE bulk_staging (LIKE " + tableName + " INCLUDING DEFAULTS) ON COMMIT DROP");
+                copyManager(connection).copyIn("COPY bulk_staging (" + columns + ") FROM STDIN WITH (" + format.getCopyOptions() + ")", in);
+                statement.executeUpdate("INSERT INTO " + tableName + " (" + columns + ") SELECT " + columns
+                        + " FROM bulk_staging ON CONFLICT DO NOTHING");
+            }
+            // Linhas do arquivo (as que já existiam no banco são ignoradas pelo ON CONFLICT)
+            long rows = queryLong(statement, "SELECT count(*) FROM bulk_staging");
+            connection.commit();
+            return rows;
+        } catch (SQLException | IOException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // COPY (SELECT ...) TO STDOUT de um intervalo de IDs (ou da tabela toda com chunk == null)
+    private static String exportSql(BulkTable table, BulkFormat format, Chunk chunk) {
+        String query = "SELECT " + table.getColumns() + " FROM " + table.getTableName()
+                + (chunk != null ? " WHERE id BETWEEN " + chunk.from() + " AND " + chunk.to() : "")
+                + " ORDER BY id";
+        if (format == BulkFormat.NDJSON) {
+            query = "SELECT row_to_json(r) FROM (" + query + ") r";
+        }
+        return "COPY (" + query + ") TO STDOUT WITH (" + format.getCopyOptions() + ")";
+    }
+
+    private List<Chunk> chunks(Connection connection, BulkTable table) throws SQLException {
+        List<Chunk> chunks = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT min(id), max(id) FROM " + table.getTableName())) {
+            resultSet.next();
+            long min = resultSet.getLong(1);
+            if (resultSet.wasNull()) {
+                return chunks;
+            }
+            long max = resultSet.getLong(2);
+            // Limites alinhados ao tamanho do bloco: o mesmo bloco tem o mesmo nome em outra execução
+            for (long from = (min - 1) / chunkSize * chunkSize + 1; from <= max; from += chunkSize) {
+                chunks.add(new Chunk(table.getTableName(), from, from + chunkSize - 1, 0, null));
+            }
+        }
+        return chunks;
+    }
+
+    // Arquivos de uma tabela em um diretório exportado (também lidos pelo modo fixture)
+    public static List<Path> chunkFiles(Path directory, BulkTable table, BulkFormat format) throws IOException {
+        Path tableDirectory = directory.resolve(table.getTableName());
+        if (!Files.isDirectory(tableDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(tableDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("." + format.getExtension()))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static Path chunkFile(Path directory, Chunk chunk, BulkFormat format) {
+        return directory.resolve(chunk.table()).resolve(chunk.fileName(format));
+    }
+
+    // users-1-500000.csv -> Chunk(users, 1, 500000)
+    private static Chunk parseChunk(BulkTable table, Path file) {
+        String name = file.getFileName().toString();
+        String[] parts = name.substring(0, name.lastIndexOf('.')).split("-");
+        if (parts.length != 3 || !parts[0].equals(table.getTableName())) {
+            throw new IllegalArgumentException("Arquivo inesperado: " + file);
+        }
+        return new Chunk(table.getTableName(), Long.parseLong(parts[1]), Long.parseLong(parts[2]), 0, null);
+    }
+
+    private static Chunk find(Set<Chunk> done, Chunk chunk) {
+        for (Chunk completed : done) {
+            if (completed.table().equals(chunk.table()) && completed.from() == chunk.from() && completed.to() == chunk.to()) {
+                return completed;
+            }
+        }
+        return null;
+    }
+
+    private Set<Chunk> readCheckpoint(Path file) throws IOException {
+        Set<Chunk> chunks = new HashSet<>();
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    chunks.add(objectMapper.readValue(line, Chunk.class));
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private void appendCheckpoint(Path file, ReentrantLock lock, Chunk chunk) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(chunk) + "\n").getBytes(StandardCharsets.UTF_8);
+        lock.lock();
+        try {
+            Files.write(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Formato de um diretório exportado, pelo manifest.json
+    public static BulkFormat formatOf(Path directory, ObjectMapper objectMapper) throws IOException {
+        Path file = directory.resolve(MANIFEST);
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("Diretório sem " + MANIFEST + " (export incompleto?): " + directory);
+        }
+        return BulkFormat.of(objectMapper.readValue(file.toFile(), Manifest.class).format());
+    }
+
+    private Manifest readManifest(Path directory) throws IOException {
+        Path file = directory.resolve(MANIFEST);
+        return Files.exists(file) ? objectMapper.readValue(file.toFile(), Manifest.class) : null;
+    }
+
+    // Executa os blocos no pool; a primeira falha cancela o restante
+    private void runAll(List<Callable<Void>> tasks) throws IOException, SQLException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, tasks.size())));
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof SQLException sql) {
+                throw sql;
+            }
+            throw new RuntimeException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Próximos INSERTs da API continuam depois dos IDs importados
+    private static void resetSequence(Connection connection, BulkTable table) throws SQLException {
+        String tableName = table.getTableName();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval(pg_get_serial_sequence('" + tableName + "', 'id'), "
+                    + "(SELECT COALESCE(MAX(id), 1) FROM " + tableName + "))");
+        }
+    }
+
+    private static CopyManager copyManager(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    private static String prefixed(String alias, String columns) {
+        return alias + "." + columns.replace(",", "," + alias + ".");
+    }
+
+    private static String queryString(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private BulkReport report(String operation, BulkFormat format, Path directory, long start,
+                              Map<BulkTable, TableProgress> progress) {
+        List<BulkReport.TableResult> tables = new ArrayList<>();
+        progress.forEach((table, tableProgress) -> tables.add(new BulkReport.TableResult(table.getTableName(),
+                tableProgress.rows.get(), tableProgress.chunks.get(), tableProgress.skipped.get())));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("{} em {} concluído em {} s: {}", operation, directory, String.format("%.1f", seconds), tables);
+        return new BulkReport(operation, format.getExtension(), directory.toString(), seconds, tables);
+    }
+
+    // Contadores de uma tabela (atualizados pelas threads do pool)
+    private static class TableProgress {
+
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicInteger chunks = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+
+        void add(long chunkRows) {
+            rows.addAndGet(chunkRows);
+            chunks.incrementAndGet();
+        }
+
+        void skip(long chunkRows) {
+            rows.addAndGet(chunkRows);
+            chunks.incrementAndGet();
+            skipped.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.jsonplaceholderapi.bulk;
+
+import java.util.Locale;
+
+// Formatos de arquivo do import/export.
+// NDJSON usa COPY em modo csv com aspas e delimitador que nunca aparecem em JSON (\x01, \x02):
+// cada linha sai/entra como está, sem o escape de barras do formato text.
+public enum BulkFormat {
+
+    CSV("csv", "text/csv", "FORMAT csv, HEADER"),
+    NDJSON("ndjson", "application/x-ndjson", "FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02'");
+
+    private final String extension;
+    private final String contentType;
+    private final String copyOptions;
+
+    BulkFormat(String extension, String contentType, String copyOptions) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.copyOptions = copyOptions;
+    }
+
+    public String getExtension() { return extension; }
+
+    public String getContentType() { return contentType; }
+
+    public String getCopyOptions() { return copyOptions; }
+
+    public static BulkFormat of(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato inválido: " + name + " (use csv ou ndjson)");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.jsonplaceholderapi.bulk;
+
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+
+import java.util.Arrays;
+import java.util.List;
+
+// As seis tabelas, a entidade de cada uma e suas colunas, na ordem das migrations.
+// level: ordem de importação por causa das FKs (0 antes de 1, 1 antes de 2).
+public enum BulkTable {
+
+    USERS("users", User.class, 0, "id,name,username,email,password,phone,website,street,suite,city,zipcode,lat,lng,"
+            + "company_name,company_catch_phrase,company_bs,created_at,updated_at"),
+    POSTS("posts", Post.class, 1, "id,title,body,user_id,created_at,updated_at"),
+    ALBUMS("albums", Album.class, 1, "id,title,description,user_id,created_at,updated_at"),
+    TODOS("todos", Todo.class, 1, "id,title,description,completed,priority,due_date,user_id,created_at,updated_at,completed_at"),
+    COMMENTS("comments", Comment.class, 2, "id,name,email,body,post_id,user_id,created_at,updated_at"),
+    PHOTOS("photos", Photo.class, 2, "id,title,url,thumbnail_url,alt_text,album_id,user_id,created_at,updated_at");
+
+    private final String tableName;
+    private final Class<?> entityType;
+    private final int level;
+    private final String columns;
+
+    BulkTable(String tableName, Class<?> entityType, int level, String columns) {
+        this.tableName = tableName;
+        this.entityType = entityType;
+        this.level = level;
+        this.columns = columns;
+    }
+
+    public String getTableName() { return tableName; }
+
+    public Class<?> getEntityType() { return entityType; }
+
+    public int getLevel() { return level; }
+
+    public String getColumns() { return columns; }
+
+    public static BulkTable of(String name) {
+        for (BulkTable table : values()) {
+            if (table.tableName.equalsIgnoreCase(name)) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException("Tabela inválida: " + name + " (use " + names() + ")");
+    }
+
+    // Tabela de uma entidade (ou proxy do Hibernate dela); null se não for uma das seis
+    public static BulkTable forEntity(Class<?> type) {
+        for (BulkTable table : values()) {
+            if (table.entityType.isAssignableFrom(type)) {
+                return table;
+            }
+        }
+        return null;
+    }
+
+    public static List<String> names() {
+        return Arrays.stream(values()).map(BulkTable::getTableName).toList();
+    }
+}
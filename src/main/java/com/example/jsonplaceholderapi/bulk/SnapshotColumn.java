@@ -0,0 +1,203 @@
+package com.example.jsonplaceholderapi.bulk;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Uma coluna do snapshot sendo montada linha a linha, antes de ir para o arquivo (layout em
+// SnapshotFormat). Em memória só ficam os bitmaps (1 bit por linha) e um dicionário limitado de
+// strings; valores, códigos e bytes das strings vão para arquivos temporários no diretório dado,
+// copiados para o snapshot no write e apagados no close.
+abstract class SnapshotColumn implements Closeable {
+
+    final String name;
+    final byte type;
+    int rows;
+
+    private final Path dir;
+    private final List<Spill> spills = new ArrayList<>();
+
+    SnapshotColumn(String name, byte type, Path dir) {
+        this.name = name;
+        this.type = type;
+        this.dir = dir;
+    }
+
+    // Tipo pela coluna do PostgreSQL
+    static SnapshotColumn of(String name, int sqlType, Path dir) throws IOException {
+        return switch (sqlType) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT -> new LongColumn(name, SnapshotFormat.LONG, dir);
+            case Types.TIMESTAMP -> new LongColumn(name, SnapshotFormat.TIMESTAMP, dir);
+            case Types.BOOLEAN, Types.BIT -> new BooleanColumn(name, dir);
+            default -> new StringColumn(name, dir);
+        };
+    }
+
+    abstract void add(ResultSet resultSet, int index) throws SQLException, IOException;
+
+    abstract void write(DataOutputStream out) throws IOException;
+
+    Spill spill(String suffix) throws IOException {
+        Spill spill = new Spill(Files.createTempFile(dir, name + "-", suffix));
+        spills.add(spill);
+        return spill;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Spill spill : spills) {
+            spill.out.close();
+            Files.deleteIfExists(spill.file);
+        }
+    }
+
+    static void writeBitmap(DataOutputStream out, BitSet bits, int rows) throws IOException {
+        byte[] bytes = Arrays.copyOf(bits.toByteArray(), SnapshotFormat.bitmapSize(rows));
+        out.write(bytes);
+    }
+
+    // Arquivo temporário gravado em sequência e depois copiado inteiro para o snapshot
+    static final class Spill {
+
+        private final Path file;
+        final DataOutputStream out;
+
+        Spill(Path file) throws IOException {
+            this.file = file;
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        }
+
+        void copyTo(DataOutputStream target) throws IOException {
+            out.flush();
+            Files.copy(file, target);
+        }
+    }
+
+    static final class LongColumn extends SnapshotColumn {
+
+        private final Spill values;
+        private final BitSet nulls = new BitSet();
+
+        LongColumn(String name, byte type, Path dir) throws IOException {
+            super(name, type, dir);
+            this.values = spill(".long");
+        }
+
+        @Override
+        void add(ResultSet resultSet, int index) throws SQLException, IOException {
+            long value;
+            if (type == SnapshotFormat.TIMESTAMP) {
+                LocalDateTime timestamp = resultSet.getObject(index, LocalDateTime.class);
+                value = timestamp != null ? SnapshotFormat.toMicros(timestamp) : 0;
+            } else {
+                value = resultSet.getLong(index);
+            }
+            if (resultSet.wasNull()) {
+                nulls.set(rows);
+            }
+            values.out.writeLong(value);
+            rows++;
+        }
+
+        @Override
+        void write(DataOutputStream out) throws IOException {
+            writeBitmap(out, nulls, rows);
+            values.copyTo(out);
+        }
+    }
+
+    static final class BooleanColumn extends SnapshotColumn {
+
+        private final BitSet nulls = new BitSet();
+        private final BitSet values = new BitSet();
+
+        BooleanColumn(String name, Path dir) {
+            super(name, SnapshotFormat.BOOLEAN, dir);
+        }
+
+        @Override
+        void add(ResultSet resultSet, int index) throws SQLException {
+            boolean value = resultSet.getBoolean(index);
+            if (resultSet.wasNull()) {
+                nulls.set(rows);
+            } else if (value) {
+                values.set(rows);
+            }
+            rows++;
+        }
+
+        @Override
+        void write(DataOutputStream out) throws IOException {
+            writeBitmap(out, nulls, rows);
+            writeBitmap(out, values, rows);
+        }
+    }
+
+    // Strings repetidas (e-mails, URLs, prioridades) ficam uma vez só na tabela de strings da coluna.
+    // O dicionário para de crescer em MAX_DICTIONARY: colunas de texto livre (títulos, corpos) não
+    // ficam inteiras no heap, e uma string nova depois disso ganha código próprio mesmo que se repita.
+    static final class StringColumn extends SnapshotColumn {
+
+        private static final int MAX_DICTIONARY = 1 << 16;
+
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final Spill codes;
+        private final Spill offsets;
+        private final Spill bytes;
+        private int strings;
+        private long offset;
+
+        StringColumn(String name, Path dir) throws IOException {
+            super(name, SnapshotFormat.STRING, dir);
+            this.codes = spill(".codes");
+            this.offsets = spill(".offsets");
+            this.bytes = spill(".bytes");
+            offsets.out.writeLong(0);
+        }
+
+        @Override
+        void add(ResultSet resultSet, int index) throws SQLException, IOException {
+            String value = resultSet.getString(index);
+            int code = -1;
+            if (value != null) {
+                Integer known = dictionary.get(value);
+                code = known != null ? known : addString(value);
+            }
+            codes.out.writeInt(code);
+            rows++;
+        }
+
+        private int addString(String value) throws IOException {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            bytes.out.write(utf8);
+            offset += utf8.length;
+            offsets.out.writeLong(offset);
+            if (dictionary.size() < MAX_DICTIONARY) {
+                dictionary.put(value, strings);
+            }
+            return strings++;
+        }
+
+        @Override
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(strings);
+            codes.copyTo(out);
+            offsets.copyTo(out);
+            bytes.copyTo(out);
+        }
+    }
+}
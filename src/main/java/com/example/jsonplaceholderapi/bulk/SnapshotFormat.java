@@ -0,0 +1,50 @@
+package com.example.jsonplaceholderapi.bulk;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Arquivo de snapshot do dataset: binário, colunar, lido pelo modo fixture via mmap.
+//
+//   cabeçalho   MAGIC (8 bytes), VERSION (int), snapshotAt (long, micros)
+//   colunas     uma região por coluna de cada tabela, na ordem das colunas do BulkTable
+//   rodapé      int tabelas; por tabela: nome (UTF), int linhas, int colunas;
+//               por coluna: nome (UTF), tipo (byte), offset (long), tamanho (long)
+//   final       offset do rodapé (long), MAGIC
+//
+// Regiões por tipo (n = linhas, big-endian):
+//   LONG, TIMESTAMP  bitmap de nulos (ceil(n/8) bytes) + n longs (timestamp: micros, LocalDateTime como UTC)
+//   BOOLEAN          bitmap de nulos + bitmap de valores
+//   STRING           tabela de strings da coluna: int k; n ints com o código de cada linha (-1 = NULL);
+//                    k + 1 offsets (long) e os bytes UTF-8 das k strings distintas. Texto livre (corpos
+//                    de posts e comentários) passa de 2 GB com milhões de linhas: o leitor mapeia só
+//                    códigos e offsets, e os bytes em janelas
+//
+// snapshotAt é o LOCALTIMESTAMP da transação que leu o banco: linhas com updated_at posterior
+// são buscadas depois, na subida (catch-up).
+public final class SnapshotFormat {
+
+    public static final byte[] MAGIC = {'J', 'P', 'S', 'N', 'A', 'P', '0', '1'};
+    public static final int VERSION = 2;
+    public static final int HEADER_SIZE = MAGIC.length + Integer.BYTES + Long.BYTES;
+    public static final int TRAILER_SIZE = Long.BYTES + MAGIC.length;
+
+    public static final byte LONG = 1;
+    public static final byte TIMESTAMP = 2;
+    public static final byte BOOLEAN = 3;
+    public static final byte STRING = 4;
+
+    private SnapshotFormat() {}
+
+    public static long toMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+
+    public static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    public static int bitmapSize(int rows) {
+        return (rows + 7) / 8;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.jsonplaceholderapi.bulk;
+
+import com.example.jsonplaceholderapi.dto.BulkReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Grava o snapshot binário (SnapshotFormat) das seis tabelas, lidas numa única transação
+// REPEATABLE READ: o arquivo corresponde a um instante do banco. Cada tabela é lida uma vez, com as
+// colunas indo para arquivos temporários (SnapshotColumn) num diretório ao lado do destino, e copiada
+// coluna a coluna em seguida: o heap não depende do tamanho da tabela. O arquivo final só aparece completo.
+@Service
+@Profile("!fixture")
+public class SnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotService.class);
+
+    private static final int FETCH_SIZE = 10_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Posição de cada coluna no arquivo, para o rodapé
+    private record ColumnEntry(String name, byte type, long offset, long length) {}
+
+    private record TableEntry(String name, int rows, List<ColumnEntry> columns) {}
+
+    public BulkReport writeSnapshot(Path file) {
+        long start = System.nanoTime();
+        Path partial = file.resolveSibling(file.getFileName() + ".part");
+        List<BulkReport.TableResult> results = new ArrayList<>();
+        Path spillDir = null;
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            spillDir = Files.createTempDirectory(partial.toAbsolutePath().getParent(), file.getFileName() + ".cols");
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                connection.setReadOnly(true);
+
+                LocalDateTime snapshotAt;
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SELECT LOCALTIMESTAMP")) {
+                    resultSet.next();
+                    snapshotAt = resultSet.getObject(1, LocalDateTime.class);
+                }
+
+                try (CountingOutputStream counting = new CountingOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(partial), 1 << 16));
+                     DataOutputStream out = new DataOutputStream(counting)) {
+                    out.write(SnapshotFormat.MAGIC);
+                    out.writeInt(SnapshotFormat.VERSION);
+                    out.writeLong(SnapshotFormat.toMicros(snapshotAt));
+
+                    List<TableEntry> tables = new ArrayList<>();
+                    for (BulkTable table : BulkTable.values()) {
+                        TableEntry entry = writeTable(connection, table, out, counting, spillDir);
+                        tables.add(entry);
+                        results.add(new BulkReport.TableResult(table.getTableName(), entry.rows(), 1, 0));
+                    }
+
+                    long footer = counting.count;
+                    out.writeInt(tables.size());
+                    for (TableEntry table : tables) {
+                        out.writeUTF(table.name());
+                        out.writeInt(table.rows());
+                        out.writeInt(table.columns().size());
+                        for (ColumnEntry column : table.columns()) {
+                            out.writeUTF(column.name());
+                            out.writeByte(column.type());
+                            out.writeLong(column.offset());
+                            out.writeLong(column.length());
+                        }
+                    }
+                    out.writeLong(footer);
+                    out.write(SnapshotFormat.MAGIC);
+                }
+                connection.commit();
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException("Falha ao gravar o snapshot " + file + ": " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(spillDir);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("snapshot em {} concluído em {} s: {}", file, String.format("%.1f", seconds), results);
+        return new BulkReport("snapshot", "snapshot", file.toString(), seconds, results);
+    }
+
+    private static TableEntry writeTable(Connection connection, BulkTable table, DataOutputStream out,
+                                         CountingOutputStream counting, Path spillDir) throws SQLException, IOException {
+        List<SnapshotColumn> columns = new ArrayList<>();
+        int rows = 0;
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.setFetchSize(FETCH_SIZE);
+                try (ResultSet resultSet = statement.executeQuery(
+                        "SELECT " + table.getColumns() + " FROM " + table.getTableName() + " ORDER BY id")) {
+                    ResultSetMetaData metaData = resultSet.getMetaData();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        columns.add(SnapshotColumn.of(metaData.getColumnName(i), metaData.getColumnType(i), spillDir));
+                    }
+                    while (resultSet.next()) {
+                        for (int i = 0; i < columns.size(); i++) {
+                            columns.get(i).add(resultSet, i + 1);
+                        }
+                        rows++;
+                    }
+                }
+            }
+
+            List<ColumnEntry> entries = new ArrayList<>();
+            for (SnapshotColumn column : columns) {
+                long offset = counting.count;
+                column.write(out);
+                entries.add(new ColumnEntry(column.name, column.type, offset, counting.count - offset));
+            }
+            return new TableEntry(table.getTableName(), rows, entries);
+        } finally {
+            for (SnapshotColumn column : columns) {
+                column.close();
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path spilled : files.toList()) {
+                Files.deleteIfExists(spilled);
+            }
+            Files.deleteIfExists(dir);
+        } catch (IOException e) {
+            log.warn("Não foi possível apagar {}: {}", dir, e.getMessage());
+        }
+    }
+
+    // DataOutputStream.size() é int: arquivos passam de 2 GB
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.jsonplaceholderapi.changes;
+
+import com.example.jsonplaceholderapi.bulk.BulkTable;
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Tabela change_log (V8): cada save/delete de repositório vira uma linha por usuário interessado,
+// gravada pelo JdbcTemplate na transação do service que fez a escrita (rollback leva a linha junto).
+// Interessados: o dono da entidade e, para comentários e fotos, também o dono do post/álbum.
+// Escritas em massa (EntitiesChangedEvent) viram um único batch de INSERTs; remoções em cascata também
+// (PostService, AlbumService e UserService publicam os filhos removidos junto).
+// Não entram: cargas em massa (COPY), que não geram eventos por linha.
+@Component
+@Profile("!fixture")
+public class ChangeLog {
+
+    private static final RowMapper<Entry> ENTRY = (resultSet, rowNum) -> new Entry(
+            new Cursor(resultSet.getLong("xid"), resultSet.getLong("id")),
+            BulkTable.of(resultSet.getString("entity_type")),
+            resultSet.getLong("entity_id"),
+            EntityChangedEvent.Action.valueOf(resultSet.getString("action")));
+
+    private static final RowMapper<Cursor> CURSOR = (resultSet, rowNum) ->
+            new Cursor(resultSet.getLong("xid"), resultSet.getLong("id"));
+
+    private static final String INSERT =
+            "INSERT INTO change_log (user_id, entity_type, entity_id, action) VALUES (?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.changes.enabled}")
+    private boolean enabled;
+
+    @Value("${app.changes.retention}")
+    private Duration retention;
+
+    // Posição no feed: (xid da transação, id da linha), na forma "xid-id"
+    public record Cursor(long xid, long id) implements Comparable<Cursor> {
+
+        public static final Cursor START = new Cursor(0, 0);
+
+        public static Cursor parse(String value) {
+            int dash = value.indexOf('-');
+            try {
+                return new Cursor(Long.parseLong(value.substring(0, dash)), Long.parseLong(value.substring(dash + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cursor inválido: " + value);
+            }
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int byXid = Long.compare(xid, other.xid);
+            return byXid != 0 ? byXid : Long.compare(id, other.id);
+        }
+
+        @Override
+        public String toString() {
+            return xid + "-" + id;
+        }
+    }
+
+    public record Entry(Cursor position, BulkTable table, long entityId, EntityChangedEvent.Action action) {}
+
+    // Síncrono, dentro da transação da escrita (não é @TransactionalEventListener)
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!enabled || event.isBulk() || event.id() == null) {
+            return;
+        }
+        BulkTable table = BulkTable.forEntity(event.type());
+        if (table == null) {
+            return;
+        }
+        for (Long userId : interestedUsers(event.entity())) {
+            jdbcTemplate.update(INSERT, userId, table.getTableName(), event.id(), event.action().name());
+        }
+    }
+
+    @EventListener
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        BulkTable table = BulkTable.forEntity(event.type());
+        if (!enabled || table == null) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(event.size());
+        for (int i = 0; i < event.size(); i++) {
+            for (Long userId : interestedUsers(event.entities().get(i))) {
+                rows.add(new Object[]{userId, table.getTableName(), event.ids().get(i), event.action().name()});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, rows);
+        }
+    }
+
+    // Transações com xid abaixo deste limite já terminaram: tudo abaixo dele é definitivo
+    public long stableXid() {
+        return jdbcTemplate.queryForObject("SELECT txid_snapshot_xmin(txid_current_snapshot())", Long.class);
+    }
+
+    public List<Entry> read(long userId, Cursor since, long stableXid, int limit) {
+        return jdbcTemplate.query("""
+                SELECT xid, id, entity_type, entity_id, action FROM change_log
+                WHERE user_id = ? AND (xid, id) > (?, ?) AND xid < ?
+                ORDER BY xid, id
+                LIMIT ?
+                """, ENTRY, userId, since.xid(), since.id(), stableXid, limit);
+    }
+
+    // Última posição definitiva do log inteiro: sem alterações do usuário até ela, o cursor pode avançar
+    public Cursor head(long stableXid) {
+        List<Cursor> head = jdbcTemplate.query(
+                "SELECT xid, id FROM change_log WHERE xid < ? ORDER BY xid DESC, id DESC LIMIT 1", CURSOR, stableXid);
+        return head.isEmpty() ? horizon() : head.get(0);
+    }
+
+    // Cursores anteriores a esta posição podem ter perdido linhas para a retenção
+    public Cursor horizon() {
+        return jdbcTemplate.queryForObject("SELECT xid, id FROM change_log_horizon", CURSOR);
+    }
+
+    // Remove linhas mais antigas que app.changes.retention e avança o horizonte até a maior removida
+    @Scheduled(fixedDelayString = "${app.changes.prune-interval-ms}", initialDelayString = "${app.changes.prune-interval-ms}")
+    public void prune() {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.update("""
+                WITH deleted AS (
+                    DELETE FROM change_log WHERE changed_at < LOCALTIMESTAMP - make_interval(secs => ?)
+                    RETURNING xid, id
+                ), newest AS (
+                    SELECT xid, id FROM deleted ORDER BY xid DESC, id DESC LIMIT 1
+                )
+                UPDATE change_log_horizon h SET xid = newest.xid, id = newest.id
+                FROM newest WHERE (newest.xid, newest.id) > (h.xid, h.id)
+                """, retention.toSeconds());
+    }
+
+    private static Set<Long> interestedUsers(Object entity) {
+        Set<Long> users = new LinkedHashSet<>();
+        if (entity instanceof User user) {
+            users.add(user.getId());
+        } else if (entity instanceof Post post) {
+            users.add(idOf(post.getUser()));
+        } else if (entity instanceof Album album) {
+            users.add(idOf(album.getUser()));
+        } else if (entity instanceof Todo todo) {
+            users.add(idOf(todo.getUser()));
+        } else if (entity instanceof Comment comment) {
+            users.add(idOf(comment.getUser()));
+            users.add(comment.getPost() != null ? idOf(comment.getPost().getUser()) : null);
+        } else if (entity instanceof Photo photo) {
+            users.add(idOf(photo.getUser()));
+            users.add(photo.getAlbum() != null ? idOf(photo.getAlbum().getUser()) : null);
+        }
+        users.remove(null);
+        return users;
+    }
+
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
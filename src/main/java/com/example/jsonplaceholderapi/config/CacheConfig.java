@@ -0,0 +1,12 @@
+package com.example.jsonplaceholderapi.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Caches em memória (Caffeine), configurados em spring.cache.*
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USER_SUMMARIES = "userSummaries";
+}
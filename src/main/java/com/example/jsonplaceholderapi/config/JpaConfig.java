@@ -0,0 +1,62 @@
+package com.example.jsonplaceholderapi.config;
+
+import com.example.jsonplaceholderapi.metrics.SlowQueryLog;
+import com.example.jsonplaceholderapi.metrics.SqlStatementTracker;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class JpaConfig {
+
+    // Contagem de statements por requisição (detector de N+1)
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(SqlStatementTracker sqlStatementTracker) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementTracker);
+    }
+
+    // Envolver o DataSource com o log de consultas lentas (app.slow-query.threshold-ms <= 0 desliga).
+    // O SlowQueryLog é resolvido só na primeira consulta lenta, depois de o contexto subir.
+    // Roda depois do limitador de concorrência (ThreadingConfig.CONCURRENCY_LIMIT_ORDER): fica por fora dele.
+    // O tipo de retorno é a classe concreta para o Spring enxergar o Ordered antes de instanciar o BPP
+    @Bean
+    public static SlowQueryPostProcessor slowQueryDataSourcePostProcessor(Environment environment,
+                                                                          ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new SlowQueryPostProcessor(environment, slowQueryLog);
+    }
+
+    static final class SlowQueryPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+        private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+        SlowQueryPostProcessor(Environment environment, ObjectProvider<SlowQueryLog> slowQueryLog) {
+            this.environment = environment;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof SlowQueryDataSource) {
+                return bean;
+            }
+            long thresholdMs = environment.getRequiredProperty("app.slow-query.threshold-ms", Long.class);
+            if (thresholdMs <= 0) {
+                return bean;
+            }
+            return new SlowQueryDataSource(dataSource, thresholdMs, slowQueryLog::getObject);
+        }
+
+        @Override
+        public int getOrder() {
+            return ThreadingConfig.CONCURRENCY_LIMIT_ORDER + 1;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.jsonplaceholderapi.config;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Configuration
+public class OpenApiConfig {
+
+    @Autowired
+    private SortRegistry sortRegistry;
+
+    // Documentar as ordenações permitidas e quais são sustentadas por índice
+    @Bean
+    public OpenApiCustomizer sortOptionsCustomizer() {
+        return openApi -> {
+            if (openApi.getPaths() == null) {
+                return;
+            }
+            openApi.getPaths().forEach((path, item) -> {
+                Operation get = item.getGet();
+                if (get == null || get.getParameters() == null || !sortRegistry.hasScope(path)) {
+                    return;
+                }
+                for (Parameter parameter : get.getParameters()) {
+                    if ("sortBy".equals(parameter.getName())) {
+                        describeSort(parameter, sortRegistry.options(path));
+                    }
+                }
+            });
+        };
+    }
+
+    private void describeSort(Parameter parameter, Map<String, SortRegistry.SortOption> options) {
+        StringSchema schema = new StringSchema();
+        schema.setEnum(new ArrayList<>(options.keySet()));
+        if (parameter.getSchema() != null && parameter.getSchema().getDefault() != null) {
+            schema.setDefault(parameter.getSchema().getDefault().toString());
+        }
+        parameter.setSchema(schema);
+
+        String details = options.entrySet().stream()
+                .map(e -> e.getKey() + (e.getValue().indexBacked()
+                        ? " (índice " + e.getValue().index() + ")"
+                        : " (sem índice)"))
+                .collect(Collectors.joining(", "));
+        parameter.setDescription("Campo para ordenação (id como desempate): " + details);
+    }
+}
@@ -1,6 +1,13 @@
 package com.example.jsonplaceholderapi.config;
 
+import com.example.jsonplaceholderapi.logging.AccessLogFilter;
+import com.example.jsonplaceholderapi.metrics.TimedPasswordEncoder;
+import com.example.jsonplaceholderapi.security.AdminAuthorizationManager;
 import com.example.jsonplaceholderapi.security.JwtAuthenticationFilter;
+import com.example.jsonplaceholderapi.security.LoadSheddingFilter;
+import com.example.jsonplaceholderapi.security.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,9 +42,24 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private LoadSheddingFilter loadSheddingFilter;
+
+    @Autowired
+    private AccessLogFilter accessLogFilter;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private AdminAuthorizationManager adminAuthorizationManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     @Bean
@@ -64,11 +86,21 @@ public class SecurityConfig {
 
                 // Configurar autorização
                 .authorizeHttpRequests(authz -> authz
+                        // Dispatches ASYNC (SseEmitter) e ERROR: a requisição original já foi autorizada,
+                        // e o contexto do JWT não é guardado entre dispatches (sessão stateless)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                         // Endpoints públicos
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
                         .requestMatchers("/h2-console/**").permitAll() // Para desenvolvimento
+                        .requestMatchers("/error").permitAll() // Erros mantêm o status original (não viram 403)
+                        .requestMatchers("/ws").permitAll() // JWT validado no handshake (JwtHandshakeInterceptor)
+
+                        // Administração e métricas internas (pool, limitadores, SQL por endpoint):
+                        // apenas os IDs de usuário em app.admin.user-ids
+                        .requestMatchers("/admin/**", "/actuator/**").access(adminAuthorizationManager)
 
                         // Todos os outros endpoints requerem autenticação
                         .anyRequest().authenticated()
@@ -82,6 +114,15 @@ public class SecurityConfig {
                 // Adicionar filtro JWT
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+                // Descarte de carga antes do JWT (que consulta o banco)
+                .addFilterBefore(loadSheddingFilter, JwtAuthenticationFilter.class)
+
+                // Rate limiting por usuário/IP (precisa do usuário já autenticado)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+
+                // Access log (antes dos limitadores, para registrar também 429/503)
+                .addFilterBefore(accessLogFilter, LoadSheddingFilter.class)
+
                 // Configurar provider de autenticação
                 .authenticationProvider(authenticationProvider())
 
@@ -0,0 +1,114 @@
+package com.example.jsonplaceholderapi.config;
+
+import com.example.jsonplaceholderapi.metrics.SlowQueryLog;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+// Mede cada execução de statement e entrega ao SlowQueryLog as que passam do limiar,
+// com o SQL, os parâmetros (capturados nos setXxx do PreparedStatement) e o tempo.
+// Abaixo do limiar o custo é só o proxy e um System.nanoTime() antes e depois.
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final long thresholdNanos;
+    private final Supplier<SlowQueryLog> slowQueryLog;
+
+    public SlowQueryDataSource(DataSource target, long thresholdMs, Supplier<SlowQueryLog> slowQueryLog) {
+        super(target);
+        this.thresholdNanos = thresholdMs * 1_000_000;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(super.getConnection(username, password));
+    }
+
+    private Connection timed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SlowQueryDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invokeTarget(connection, proxy, method, args);
+                    if (result instanceof Statement statement && method.getReturnType().isInterface()
+                            && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        // prepareStatement/prepareCall: o SQL vem no primeiro argumento
+                        String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                        return timed(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement timed(Statement statement, Class<?> type, String preparedSql) {
+        Map<Integer, Object> binds = new TreeMap<>();
+        return (Statement) Proxy.newProxyInstance(
+                SlowQueryDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        binds.put(index, name.equals("setNull") ? null : args[1]);
+                    } else if (name.equals("clearParameters")) {
+                        binds.clear();
+                    } else if (EXECUTE_METHODS.contains(name)) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                        long start = System.nanoTime();
+                        try {
+                            return invokeTarget(statement, proxy, method, args);
+                        } finally {
+                            long elapsed = System.nanoTime() - start;
+                            if (elapsed >= thresholdNanos && sql != null) {
+                                slowQueryLog.get().record(sql, new TreeMap<>(binds), elapsed, getTargetDataSource());
+                            }
+                        }
+                    }
+                    return invokeTarget(statement, proxy, method, args);
+                });
+    }
+
+    private static Object invokeTarget(Object target, Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "unwrap" -> {
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return proxy;
+                }
+            }
+            case "isWrapperFor" -> {
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return true;
+                }
+            }
+            default -> { }
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
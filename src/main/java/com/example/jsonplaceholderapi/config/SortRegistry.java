@@ -0,0 +1,152 @@
+package com.example.jsonplaceholderapi.config;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class SortRegistry {
+
+    // Escopos de ordenação (mesmo template de caminho exposto no OpenAPI)
+    public static final String USERS = "/users";
+    public static final String POSTS = "/posts";
+    public static final String POSTS_BY_USER = "/posts/user/{userId}";
+    public static final String COMMENTS = "/comments";
+    public static final String COMMENTS_BY_POST = "/comments/post/{postId}";
+    public static final String ALBUMS = "/albums";
+    public static final String ALBUMS_BY_USER = "/albums/user/{userId}";
+    public static final String PHOTOS = "/photos";
+    public static final String PHOTOS_BY_ALBUM = "/photos/album/{albumId}";
+    public static final String TODOS = "/todos";
+    public static final String TODOS_BY_USER = "/todos/user/{userId}";
+
+    private final Map<String, Map<String, SortOption>> scopes = new LinkedHashMap<>();
+
+    public SortRegistry() {
+        scope(USERS)
+                .indexed("id", "users_pkey")
+                .unique("username", "users_username_key")
+                .unique("email", "users_email_key")
+                .indexed("name", "idx_users_name_id");
+
+        scope(POSTS)
+                .indexed("id", "posts_pkey")
+                .indexed("createdAt", "idx_posts_created_at_id")
+                .indexed("title", "idx_posts_title_id");
+
+        scope(POSTS_BY_USER)
+                .indexed("id", "idx_posts_user_id_id")
+                .indexed("createdAt", "idx_posts_user_id_created_at_id")
+                .unindexed("title");
+
+        scope(COMMENTS)
+                .indexed("id", "comments_pkey")
+                .indexed("createdAt", "idx_comments_created_at_id");
+
+        scope(COMMENTS_BY_POST)
+                .indexed("id", "idx_comments_post_id_id")
+                .indexed("createdAt", "idx_comments_post_id_created_at_id");
+
+        scope(ALBUMS)
+                .indexed("id", "albums_pkey")
+                .indexed("createdAt", "idx_albums_created_at_id");
+
+        scope(ALBUMS_BY_USER)
+                .indexed("id", "idx_albums_user_id_id")
+                .indexed("createdAt", "idx_albums_user_id_created_at_id")
+                .unindexed("title");
+
+        scope(PHOTOS)
+                .indexed("id", "photos_pkey")
+                .indexed("createdAt", "idx_photos_created_at_id");
+
+        scope(PHOTOS_BY_ALBUM)
+                .indexed("id", "idx_photos_album_id_id")
+                .indexed("createdAt", "idx_photos_album_id_created_at_id")
+                .unindexed("title");
+
+        scope(TODOS)
+                .indexed("id", "todos_pkey")
+                .indexed("createdAt", "idx_todos_created_at_id")
+                .indexed("dueDate", "idx_todos_due_date_id");
+
+        scope(TODOS_BY_USER)
+                .indexed("id", "idx_todos_user_id_id")
+                .indexed("createdAt", "idx_todos_user_id_created_at_id")
+                .indexed("dueDate", "idx_todos_user_id_due_date_id")
+                .unindexed("priority")
+                .unindexed("title");
+    }
+
+    // Resolver ordenação permitida (id sempre como desempate)
+    public Sort resolve(String scope, String sortBy, String sortDir) {
+        SortOption option = options(scope).get(sortBy);
+        if (option == null) {
+            throw new IllegalArgumentException("Campo de ordenação inválido: " + sortBy
+                    + ". Permitidos: " + String.join(", ", options(scope).keySet()));
+        }
+
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, option.property());
+
+        // Colunas únicas já definem ordem total
+        if (option.unique()) {
+            return sort;
+        }
+        return sort.and(Sort.by(direction, "id"));
+    }
+
+    // Ordenações permitidas para um escopo
+    public Map<String, SortOption> options(String scope) {
+        Map<String, SortOption> options = scopes.get(scope);
+        if (options == null) {
+            throw new IllegalStateException("Escopo de ordenação não registrado: " + scope);
+        }
+        return Collections.unmodifiableMap(options);
+    }
+
+    public boolean hasScope(String scope) {
+        return scopes.containsKey(scope);
+    }
+
+    private ScopeBuilder scope(String scope) {
+        Map<String, SortOption> options = new LinkedHashMap<>();
+        scopes.put(scope, options);
+        return new ScopeBuilder(options);
+    }
+
+    // Opção de ordenação: propriedade JPA e índice que a sustenta (null se não indexada)
+    public record SortOption(String property, String index, boolean unique) {
+
+        public boolean indexBacked() {
+            return index != null;
+        }
+    }
+
+    private static class ScopeBuilder {
+        private final Map<String, SortOption> options;
+
+        ScopeBuilder(Map<String, SortOption> options) {
+            this.options = options;
+        }
+
+        ScopeBuilder indexed(String property, String index) {
+            options.put(property, new SortOption(property, index, "id".equals(property)));
+            return this;
+        }
+
+        ScopeBuilder unique(String property, String index) {
+            options.put(property, new SortOption(property, index, true));
+            return this;
+        }
+
+        // Apenas para escopos já filtrados por um pai (poucas linhas a ordenar)
+        ScopeBuilder unindexed(String property) {
+            options.put(property, new SortOption(property, null, false));
+            return this;
+        }
+    }
+}
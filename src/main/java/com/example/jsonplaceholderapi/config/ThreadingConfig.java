@@ -0,0 +1,60 @@
+package com.example.jsonplaceholderapi.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+// Execução de requisições, @Async e @Scheduled.
+// Com spring.threads.virtual.enabled=true o Spring Boot usa virtual threads no Tomcat e no
+// executor de @Async; o limitador abaixo mantém a concorrência no banco sob controle.
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ThreadingConfig {
+
+    // Ordem dos wrappers do DataSource (menor = mais perto do Hikari). O limitador fica por dentro do
+    // log de consultas lentas (JpaConfig), então o EXPLAIN dele, que usa o DataSource interno, também passa pelo limite
+    public static final int CONCURRENCY_LIMIT_ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    // Envolver o DataSource (Hikari) com o limitador de concorrência
+    @Bean
+    @ConditionalOnProperty(name = "app.db.max-concurrency")
+    public static ConcurrencyLimitPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        return new ConcurrencyLimitPostProcessor(environment);
+    }
+
+    static final class ConcurrencyLimitPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        ConcurrencyLimitPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                return bean;
+            }
+            int maxConcurrency = environment.getRequiredProperty("app.db.max-concurrency", Integer.class);
+            if (maxConcurrency <= 0) {
+                return bean;
+            }
+            int maxWaiting = environment.getProperty("app.db.max-waiting", Integer.class, 10000);
+            long acquireTimeoutMs = environment.getProperty("app.db.acquire-timeout-ms", Long.class, 2000L);
+            return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, maxWaiting, acquireTimeoutMs);
+        }
+
+        @Override
+        public int getOrder() {
+            return CONCURRENCY_LIMIT_ORDER;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.jsonplaceholderapi.config;
+
+import com.example.jsonplaceholderapi.fixture.FixtureRequestInterceptor;
+import com.example.jsonplaceholderapi.jfr.JfrRequestInterceptor;
+import com.example.jsonplaceholderapi.metrics.ControllerTimingInterceptor;
+import com.example.jsonplaceholderapi.metrics.SqlBudgetInterceptor;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Streams SSE: conexões longas e paradas (ver StreamHub)
+    private static final String[] STREAM_PATHS = {"/posts/*/comments/stream", "/todos/user/*/stream"};
+
+    // Sem banco (perfil fixture) não há JPA
+    @Autowired(required = false)
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ControllerTimingInterceptor controllerTimingInterceptor;
+
+    @Autowired
+    private SqlBudgetInterceptor sqlBudgetInterceptor;
+
+    @Autowired
+    private JfrRequestInterceptor jfrRequestInterceptor;
+
+    // Só no perfil fixture
+    @Autowired(required = false)
+    private FixtureRequestInterceptor fixtureRequestInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Open Session in View no lugar do Spring Boot (spring.jpa.open-in-view=false), fora dos streams:
+        // lá o EntityManager ficaria aberto enquanto a conexão durasse
+        if (entityManagerFactory != null) {
+            OpenEntityManagerInViewInterceptor openEntityManagerInView = new OpenEntityManagerInViewInterceptor();
+            openEntityManagerInView.setEntityManagerFactory(entityManagerFactory);
+            registry.addWebRequestInterceptor(openEntityManagerInView).excludePathPatterns(STREAM_PATHS);
+        }
+
+        // Métricas por método de controller
+        registry.addInterceptor(controllerTimingInterceptor);
+
+        // Statements SQL por requisição (N+1 e orçamento)
+        registry.addInterceptor(sqlBudgetInterceptor);
+
+        // Evento JFR por requisição
+        registry.addInterceptor(jfrRequestInterceptor);
+
+        // Modo fixture: overlay de escrita por cliente
+        if (fixtureRequestInterceptor != null) {
+            registry.addInterceptor(fixtureRequestInterceptor);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.jsonplaceholderapi.controller;
+
+import com.example.jsonplaceholderapi.bulk.BulkDataService;
+import com.example.jsonplaceholderapi.bulk.BulkFormat;
+import com.example.jsonplaceholderapi.bulk.BulkTable;
+import com.example.jsonplaceholderapi.bulk.SnapshotService;
+import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BulkReport;
+import com.example.jsonplaceholderapi.dto.SlowQueryReport;
+import com.example.jsonplaceholderapi.jfr.JfrRecordingService;
+import com.example.jsonplaceholderapi.metrics.SlowQueryLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+@Tag(name = "Admin", description = "Operações de diagnóstico (apenas administradores)")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
+    @Autowired(required = false)
+    private JfrRecordingService jfrRecordingService;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired(required = false)
+    private BulkDataService bulkDataService;
+
+    @Autowired(required = false)
+    private SnapshotService snapshotService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping("/jfr/dump")
+    @Operation(summary = "Dump JFR", description = "Grava os últimos N minutos da gravação JFR contínua em um arquivo .jfr e o retorna para download")
+    public ResponseEntity<?> dumpJfr(
+            @Parameter(description = "Minutos a incluir (a partir de agora)")
+            @RequestParam(defaultValue = "5") int minutes) {
+
+        if (jfrRecordingService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ApiResponse(false, "Gravação JFR desabilitada (app.jfr.enabled=false)"));
+        }
+
+        try {
+            Path file = jfrRecordingService.dump(minutes);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                    .body(new FileSystemResource(file));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    @GetMapping("/slow-queries")
+    @Operation(summary = "Consultas lentas", description = "Formatos de SQL mais lentos (acima de app.slow-query.threshold-ms) com parâmetros, endpoint e plano do EXPLAIN")
+    public ResponseEntity<?> getSlowQueries(
+            @Parameter(description = "Quantidade de formatos")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Ordenação: total, max ou count")
+            @RequestParam(defaultValue = "total") String sort) {
+
+        if (limit < 1 || limit > 500) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Limite deve estar entre 1 e 500"));
+        }
+
+        try {
+            List<SlowQueryReport> reports = slowQueryLog.top(limit, sort);
+            return ResponseEntity.ok(reports);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    @DeleteMapping("/slow-queries")
+    @Operation(summary = "Limpar consultas lentas", description = "Descarta os formatos registrados (os planos são capturados de novo)")
+    public ResponseEntity<?> clearSlowQueries() {
+        slowQueryLog.clear();
+        return ResponseEntity.ok(new ApiResponse(true, "Consultas lentas descartadas"));
+    }
+
+    @GetMapping("/bulk/tables/{table}")
+    @Operation(summary = "Exportar tabela", description = "Stream da tabela inteira via COPY, em CSV (com cabeçalho) ou NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportTable(
+            @Parameter(description = "users, posts, comments, albums, photos ou todos")
+            @PathVariable String table,
+            @Parameter(description = "csv ou ndjson")
+            @RequestParam(defaultValue = "csv") String format) {
+
+        // ResponseEntity<?> não é tratado como stream: o erro também vai como StreamingResponseBody
+        if (bulkDataService == null) {
+            ApiResponse error = bulkUnavailable();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+
+        try {
+            BulkTable bulkTable = BulkTable.of(table);
+            BulkFormat bulkFormat = BulkFormat.of(format);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(bulkFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(bulkTable.getTableName() + "." + bulkFormat.getExtension()).build().toString())
+                    .body(out -> bulkDataService.exportTable(bulkTable, bulkFormat, out));
+        } catch (IllegalArgumentException e) {
+            ApiResponse error = new ApiResponse(false, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+    }
+
+    @PostMapping("/bulk/tables/{table}")
+    @Operation(summary = "Importar tabela", description = "Carrega o corpo da requisição (CSV com cabeçalho ou NDJSON) via COPY; IDs já existentes são ignorados")
+    public ResponseEntity<?> importTable(
+            @Parameter(description = "users, posts, comments, albums, photos ou todos")
+            @PathVariable String table,
+            @Parameter(description = "csv ou ndjson")
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request) {
+
+        if (bulkDataService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(bulkUnavailable());
+        }
+
+        try {
+            long rows = bulkDataService.importTable(BulkTable.of(table), BulkFormat.of(format), request.getInputStream());
+            return ResponseEntity.ok(Map.of("table", table, "rows", rows));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            log.error("Falha na importação de {}", table, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    @PostMapping("/bulk/export")
+    @Operation(summary = "Exportar tudo", description = "Exporta as seis tabelas em blocos paralelos para app.bulk.base-dir/{name}; repetir continua do checkpoint")
+    public ResponseEntity<?> exportAll(
+            @Parameter(description = "Nome do diretório dentro de app.bulk.base-dir")
+            @RequestParam String name,
+            @Parameter(description = "csv ou ndjson")
+            @RequestParam(defaultValue = "csv") String format) {
+
+        if (bulkDataService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(bulkUnavailable());
+        }
+
+        try {
+            BulkReport report = bulkDataService.exportAll(bulkDataService.resolveDirectory(name), BulkFormat.of(format));
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            log.error("Falha na exportação", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    @PostMapping("/bulk/import")
+    @Operation(summary = "Importar tudo", description = "Importa um diretório gerado por /admin/bulk/export, respeitando a ordem das FKs; repetir continua do checkpoint")
+    public ResponseEntity<?> importAll(
+            @Parameter(description = "Nome do diretório dentro de app.bulk.base-dir")
+            @RequestParam String name) {
+
+        if (bulkDataService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(bulkUnavailable());
+        }
+
+        try {
+            BulkReport report = bulkDataService.importAll(bulkDataService.resolveDirectory(name));
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            log.error("Falha na importação", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    @PostMapping("/bulk/snapshot")
+    @Operation(summary = "Gravar snapshot", description = "Grava o snapshot binário colunar das seis tabelas em app.bulk.base-dir/{name}, para app.fixture.snapshot")
+    public ResponseEntity<?> writeSnapshot(
+            @Parameter(description = "Nome do arquivo dentro de app.bulk.base-dir (ex.: dataset.snap)")
+            @RequestParam String name) {
+
+        if (bulkDataService == null || snapshotService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(bulkUnavailable());
+        }
+
+        try {
+            BulkReport report = snapshotService.writeSnapshot(bulkDataService.resolveDirectory(name));
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            log.error("Falha ao gravar o snapshot", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    private static ApiResponse bulkUnavailable() {
+        return new ApiResponse(false, "Import/export indisponível sem banco (perfil fixture)");
+    }
+}
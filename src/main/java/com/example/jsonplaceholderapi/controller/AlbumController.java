@@ -1,6 +1,8 @@
 package com.example.jsonplaceholderapi.controller;
 
+import com.example.jsonplaceholderapi.config.SortRegistry;
 import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Album;
 import com.example.jsonplaceholderapi.service.AlbumService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,6 +11,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,9 +32,15 @@ public class AlbumController {
     @Autowired
     private AlbumService albumService;
 
+    @Autowired
+    private SortRegistry sortRegistry;
+
+    @Value("${app.batch.max-ids}")
+    private int maxBatchIds;
+
     @GetMapping
     @Operation(summary = "Listar todos os álbuns", description = "Retorna lista paginada de álbuns")
-    public ResponseEntity<Page<Album>> getAllAlbums(
+    public ResponseEntity<?> getAllAlbums(
             @Parameter(description = "Número da página (0-indexed)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
@@ -42,13 +51,15 @@ public class AlbumController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.ALBUMS, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
             Page<Album> albums = albumService.findAll(pageable);
 
             return ResponseEntity.ok(albums);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -65,6 +76,26 @@ public class AlbumController {
         }
     }
 
+    @GetMapping(params = "id")
+    @Operation(summary = "Buscar álbuns por lista de IDs", description = "Retorna os álbuns pedidos em uma única consulta, na ordem dos IDs, e informa os IDs não encontrados")
+    public ResponseEntity<?> getAlbumsByIds(
+            @Parameter(description = "IDs (id=1&id=2...)")
+            @RequestParam("id") List<Long> ids) {
+
+        try {
+            if (ids.size() > maxBatchIds) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Máximo de " + maxBatchIds + " IDs por requisição"));
+            }
+
+            BatchResult<Album> result = albumService.findAllByIds(ids);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar álbum por ID", description = "Retorna um álbum específico pelo ID")
     public ResponseEntity<Album> getAlbumById(
@@ -82,7 +113,7 @@ public class AlbumController {
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Buscar álbuns por usuário", description = "Retorna álbuns de um usuário específico")
-    public ResponseEntity<Page<Album>> getAlbumsByUser(
+    public ResponseEntity<?> getAlbumsByUser(
             @Parameter(description = "ID do usuário")
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
@@ -91,13 +122,15 @@ public class AlbumController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.ALBUMS_BY_USER, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
             Page<Album> albums = albumService.findByUserId(userId, pageable);
 
             return ResponseEntity.ok(albums);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
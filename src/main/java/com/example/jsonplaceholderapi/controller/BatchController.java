@@ -0,0 +1,51 @@
+package com.example.jsonplaceholderapi.controller;
+
+import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BatchRequest;
+import com.example.jsonplaceholderapi.dto.BatchResponse;
+import com.example.jsonplaceholderapi.service.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/batch")
+@Tag(name = "Batch", description = "Várias requisições em uma única chamada")
+@SecurityRequirement(name = "Bearer Authentication")
+public class BatchController {
+
+    @Autowired
+    private BatchService batchService;
+
+    @PostMapping
+    @Operation(summary = "Executar lote de requisições",
+            description = "Executa as sub-requisições em paralelo (virtual threads) com prazo único e retorna todas as respostas na ordem enviada")
+    public ResponseEntity<?> executeBatch(@Valid @RequestBody BatchRequest batchRequest,
+                                          HttpServletRequest request,
+                                          HttpServletResponse response) {
+        try {
+            BatchResponse batchResponse = batchService.execute(batchRequest, request, response);
+            return ResponseEntity.ok(batchResponse);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ApiResponse(false, "Lote interrompido"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.jsonplaceholderapi.controller;
+
+import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.security.AdminAuthorizationManager;
+import com.example.jsonplaceholderapi.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/changes")
+@Tag(name = "Changes", description = "Feed de alterações para sincronização incremental")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ChangeController {
+
+    // Sem banco (perfil fixture) não há change_log
+    @Autowired(required = false)
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private AdminAuthorizationManager adminAuthorizationManager;
+
+    @Value("${app.changes.max-limit}")
+    private int maxLimit;
+
+    @GetMapping
+    @Operation(summary = "Alterações desde um cursor",
+            description = "Criações, alterações e remoções (tombstones) das entidades do usuário, na ordem do log. "
+                    + "Sem since, devolve só o cursor atual (pegue-o antes de uma carga completa); 410 = cursor expirado")
+    public ResponseEntity<?> getChanges(
+            @Parameter(description = "Cursor devolvido pela chamada anterior")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Usuário (padrão: o do token; outro usuário só para administradores)")
+            @RequestParam(required = false) Long userId,
+            @Parameter(description = "Máximo de linhas do log por página")
+            @RequestParam(defaultValue = "100") int limit,
+            Authentication authentication) {
+
+        if (changeFeedService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ApiResponse(false, "Feed de alterações indisponível sem banco (perfil fixture)"));
+        }
+        if (limit < 1 || limit > maxLimit) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "limit deve estar entre 1 e " + maxLimit));
+        }
+
+        // O feed é do usuário do token; userId de outro usuário só para administradores (app.admin.user-ids)
+        Long self = authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+        Long owner = userId != null ? userId : self;
+        if (owner == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse(false, "Autenticação necessária"));
+        }
+        if (!owner.equals(self) && !adminAuthorizationManager.isAdmin(authentication)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ApiResponse(false, "Feed de outro usuário só para administradores"));
+        }
+
+        try {
+            return ResponseEntity.ok(since == null
+                    ? changeFeedService.current()
+                    : changeFeedService.changesSince(owner, since, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.jsonplaceholderapi.controller;
 
+import com.example.jsonplaceholderapi.config.SortRegistry;
 import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Comment;
 import com.example.jsonplaceholderapi.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,6 +11,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,9 +32,15 @@ public class CommentController {
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private SortRegistry sortRegistry;
+
+    @Value("${app.batch.max-ids}")
+    private int maxBatchIds;
+
     @GetMapping
     @Operation(summary = "Listar todos os comentários", description = "Retorna lista paginada de comentários")
-    public ResponseEntity<Page<Comment>> getAllComments(
+    public ResponseEntity<?> getAllComments(
             @Parameter(description = "Número da página (0-indexed)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
@@ -42,13 +51,15 @@ public class CommentController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.COMMENTS, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
             Page<Comment> comments = commentService.findAll(pageable);
 
             return ResponseEntity.ok(comments);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -65,6 +76,26 @@ public class CommentController {
         }
     }
 
+    @GetMapping(params = "id")
+    @Operation(summary = "Buscar comentários por lista de IDs", description = "Retorna os comentários pedidos em uma única consulta, na ordem dos IDs, e informa os IDs não encontrados")
+    public ResponseEntity<?> getCommentsByIds(
+            @Parameter(description = "IDs (id=1&id=2...)")
+            @RequestParam("id") List<Long> ids) {
+
+        try {
+            if (ids.size() > maxBatchIds) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Máximo de " + maxBatchIds + " IDs por requisição"));
+            }
+
+            BatchResult<Comment> result = commentService.findAllByIds(ids);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar comentário por ID", description = "Retorna um comentário específico pelo ID")
     public ResponseEntity<Comment> getCommentById(
@@ -82,7 +113,7 @@ public class CommentController {
 
     @GetMapping("/post/{postId}")
     @Operation(summary = "Buscar comentários por post", description = "Retorna comentários de um post específico")
-    public ResponseEntity<Page<Comment>> getCommentsByPost(
+    public ResponseEntity<?> getCommentsByPost(
             @Parameter(description = "ID do post")
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int page,
@@ -91,13 +122,15 @@ public class CommentController {
             @RequestParam(defaultValue = "asc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.COMMENTS_BY_POST, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
             Page<Comment> comments = commentService.findByPostId(postId, pageable);
 
             return ResponseEntity.ok(comments);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -1,14 +1,18 @@
 package com.example.jsonplaceholderapi.controller;
 
+import com.example.jsonplaceholderapi.config.SortRegistry;
 import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Photo;
 import com.example.jsonplaceholderapi.service.PhotoService;
+import com.example.jsonplaceholderapi.slab.JsonSlabStore;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,9 +33,18 @@ public class PhotoController {
     @Autowired
     private PhotoService photoService;
 
+    @Autowired
+    private SortRegistry sortRegistry;
+
+    @Autowired
+    private JsonSlabStore jsonSlabStore;
+
+    @Value("${app.batch.max-ids}")
+    private int maxBatchIds;
+
     @GetMapping
     @Operation(summary = "Listar todas as fotos", description = "Retorna lista paginada de fotos")
-    public ResponseEntity<Page<Photo>> getAllPhotos(
+    public ResponseEntity<?> getAllPhotos(
             @Parameter(description = "Número da página (0-indexed)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
@@ -42,13 +55,16 @@ public class PhotoController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.PHOTOS, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
+            long stamp = jsonSlabStore.photos().stamp();
             Page<Photo> photos = photoService.findAll(pageable);
 
-            return ResponseEntity.ok(photos);
+            return ResponseEntity.ok(jsonSlabStore.photos().page(stamp, photos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -56,24 +72,47 @@ public class PhotoController {
 
     @GetMapping("/all")
     @Operation(summary = "Listar todas as fotos (sem paginação)", description = "Retorna lista completa de fotos")
-    public ResponseEntity<List<Photo>> getAllPhotosNoPagination() {
+    public ResponseEntity<List<?>> getAllPhotosNoPagination() {
         try {
+            long stamp = jsonSlabStore.photos().stamp();
             List<Photo> photos = photoService.findAll();
-            return ResponseEntity.ok(photos);
+            return ResponseEntity.ok(jsonSlabStore.photos().list(stamp, photos));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping(params = "id")
+    @Operation(summary = "Buscar fotos por lista de IDs", description = "Retorna as fotos pedidas em uma única consulta, na ordem dos IDs, e informa os IDs não encontrados")
+    public ResponseEntity<?> getPhotosByIds(
+            @Parameter(description = "IDs (id=1&id=2...)")
+            @RequestParam("id") List<Long> ids) {
+
+        try {
+            if (ids.size() > maxBatchIds) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Máximo de " + maxBatchIds + " IDs por requisição"));
+            }
+
+            long stamp = jsonSlabStore.photos().stamp();
+            BatchResult<Photo> result = photoService.findAllByIds(ids);
+            return ResponseEntity.ok(new BatchResult<>(jsonSlabStore.photos().list(stamp, result.getItems()), result.getMissing()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar foto por ID", description = "Retorna uma foto específica pelo ID")
-    public ResponseEntity<Photo> getPhotoById(
+    public ResponseEntity<?> getPhotoById(
             @Parameter(description = "ID da foto")
             @PathVariable Long id) {
 
         try {
-            Optional<Photo> photo = photoService.findById(id);
-            return photo.map(ResponseEntity::ok)
+            long stamp = jsonSlabStore.photos().stamp();
+            Optional<?> photo = jsonSlabStore.photos().one(stamp, photoService.findById(id));
+            return photo.<ResponseEntity<?>>map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -82,7 +121,7 @@ public class PhotoController {
 
     @GetMapping("/album/{albumId}")
     @Operation(summary = "Buscar fotos por álbum", description = "Retorna fotos de um álbum específico")
-    public ResponseEntity<Page<Photo>> getPhotosByAlbum(
+    public ResponseEntity<?> getPhotosByAlbum(
             @Parameter(description = "ID do álbum")
             @PathVariable Long albumId,
             @RequestParam(defaultValue = "0") int page,
@@ -91,13 +130,16 @@ public class PhotoController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.PHOTOS_BY_ALBUM, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
+            long stamp = jsonSlabStore.photos().stamp();
             Page<Photo> photos = photoService.findByAlbumId(albumId, pageable);
 
-            return ResponseEntity.ok(photos);
+            return ResponseEntity.ok(jsonSlabStore.photos().page(stamp, photos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -105,13 +147,14 @@ public class PhotoController {
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Buscar fotos por usuário", description = "Retorna fotos de um usuário específico")
-    public ResponseEntity<List<Photo>> getPhotosByUser(
+    public ResponseEntity<List<?>> getPhotosByUser(
             @Parameter(description = "ID do usuário")
             @PathVariable Long userId) {
 
         try {
+            long stamp = jsonSlabStore.photos().stamp();
             List<Photo> photos = photoService.findByUserId(userId);
-            return ResponseEntity.ok(photos);
+            return ResponseEntity.ok(jsonSlabStore.photos().list(stamp, photos));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -237,8 +280,9 @@ public class PhotoController {
 
         try {
             if (title != null) {
+                long stamp = jsonSlabStore.photos().stamp();
                 List<Photo> photos = photoService.findByTitle(title);
-                return ResponseEntity.ok(photos);
+                return ResponseEntity.ok(jsonSlabStore.photos().list(stamp, photos));
             }
 
             return ResponseEntity.badRequest()
@@ -1,14 +1,20 @@
 package com.example.jsonplaceholderapi.controller;
 
+import com.example.jsonplaceholderapi.config.SortRegistry;
 import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Post;
 import com.example.jsonplaceholderapi.service.PostService;
+import com.example.jsonplaceholderapi.slab.JsonSlabStore;
+import com.example.jsonplaceholderapi.stream.EntityStreamPublisher;
+import com.example.jsonplaceholderapi.stream.StreamHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +22,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,9 +36,21 @@ public class PostController {
     @Autowired
     private PostService postService;
 
+    @Autowired
+    private SortRegistry sortRegistry;
+
+    @Autowired
+    private JsonSlabStore jsonSlabStore;
+
+    @Autowired
+    private StreamHub streamHub;
+
+    @Value("${app.batch.max-ids}")
+    private int maxBatchIds;
+
     @GetMapping
     @Operation(summary = "Listar todos os posts", description = "Retorna lista paginada de posts")
-    public ResponseEntity<Page<Post>> getAllPosts(
+    public ResponseEntity<?> getAllPosts(
             @Parameter(description = "Número da página (0-indexed)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
@@ -42,13 +61,16 @@ public class PostController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.POSTS, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
+            long stamp = jsonSlabStore.posts().stamp();
             Page<Post> posts = postService.findAll(pageable);
 
-            return ResponseEntity.ok(posts);
+            return ResponseEntity.ok(jsonSlabStore.posts().page(stamp, posts));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -56,24 +78,47 @@ public class PostController {
 
     @GetMapping("/all")
     @Operation(summary = "Listar todos os posts (sem paginação)", description = "Retorna lista completa de posts")
-    public ResponseEntity<List<Post>> getAllPostsNoPagination() {
+    public ResponseEntity<List<?>> getAllPostsNoPagination() {
         try {
+            long stamp = jsonSlabStore.posts().stamp();
             List<Post> posts = postService.findAll();
-            return ResponseEntity.ok(posts);
+            return ResponseEntity.ok(jsonSlabStore.posts().list(stamp, posts));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping(params = "id")
+    @Operation(summary = "Buscar posts por lista de IDs", description = "Retorna os posts pedidos em uma única consulta, na ordem dos IDs, e informa os IDs não encontrados")
+    public ResponseEntity<?> getPostsByIds(
+            @Parameter(description = "IDs (id=1&id=2...)")
+            @RequestParam("id") List<Long> ids) {
+
+        try {
+            if (ids.size() > maxBatchIds) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Máximo de " + maxBatchIds + " IDs por requisição"));
+            }
+
+            long stamp = jsonSlabStore.posts().stamp();
+            BatchResult<Post> result = postService.findAllByIds(ids);
+            return ResponseEntity.ok(new BatchResult<>(jsonSlabStore.posts().list(stamp, result.getItems()), result.getMissing()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar post por ID", description = "Retorna um post específico pelo ID")
-    public ResponseEntity<Post> getPostById(
+    public ResponseEntity<?> getPostById(
             @Parameter(description = "ID do post")
             @PathVariable Long id) {
 
         try {
-            Optional<Post> post = postService.findById(id);
-            return post.map(ResponseEntity::ok)
+            long stamp = jsonSlabStore.posts().stamp();
+            Optional<?> post = jsonSlabStore.posts().one(stamp, postService.findById(id));
+            return post.<ResponseEntity<?>>map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -82,7 +127,7 @@ public class PostController {
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Buscar posts por usuário", description = "Retorna posts de um usuário específico")
-    public ResponseEntity<Page<Post>> getPostsByUser(
+    public ResponseEntity<?> getPostsByUser(
             @Parameter(description = "ID do usuário")
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
@@ -91,13 +136,16 @@ public class PostController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.POSTS_BY_USER, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
+            long stamp = jsonSlabStore.posts().stamp();
             Page<Post> posts = postService.findByUserId(userId, pageable);
 
-            return ResponseEntity.ok(posts);
+            return ResponseEntity.ok(jsonSlabStore.posts().page(stamp, posts));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -105,14 +153,15 @@ public class PostController {
 
     @GetMapping("/latest")
     @Operation(summary = "Posts mais recentes", description = "Retorna os posts mais recentes")
-    public ResponseEntity<Page<Post>> getLatestPosts(
+    public ResponseEntity<Page<?>> getLatestPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
         try {
             Pageable pageable = PageRequest.of(page, size);
+            long stamp = jsonSlabStore.posts().stamp();
             Page<Post> posts = postService.findLatestPosts(pageable);
-            return ResponseEntity.ok(posts);
+            return ResponseEntity.ok(jsonSlabStore.posts().page(stamp, posts));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -225,13 +274,15 @@ public class PostController {
 
         try {
             if (title != null) {
+                long stamp = jsonSlabStore.posts().stamp();
                 List<Post> posts = postService.findByTitle(title);
-                return ResponseEntity.ok(posts);
+                return ResponseEntity.ok(jsonSlabStore.posts().list(stamp, posts));
             }
 
             if (content != null) {
+                long stamp = jsonSlabStore.posts().stamp();
                 List<Post> posts = postService.findByContent(content);
-                return ResponseEntity.ok(posts);
+                return ResponseEntity.ok(jsonSlabStore.posts().list(stamp, posts));
             }
 
             return ResponseEntity.badRequest()
@@ -258,4 +309,26 @@ public class PostController {
                     .body(new ApiResponse(false, "Erro interno do servidor"));
         }
     }
+
+    @GetMapping("/{id}/comments/stream")
+    @Operation(summary = "Stream de comentários do post",
+            description = "Server-Sent Events (created/updated/deleted) a cada escrita de comentário do post, em vez de polling. "
+                    + "Reconectando com Last-Event-ID, recebe o que perdeu; \"reset\" = recarregue os comentários")
+    public ResponseEntity<SseEmitter> streamComments(
+            @Parameter(description = "ID do post")
+            @PathVariable Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        try {
+            if (!postService.existsById(id)) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(streamHub.subscribe(EntityStreamPublisher.postComments(id), lastEventId));
+        } catch (IllegalStateException e) {
+            // Limite de conexões (app.streams.max-subscribers)
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
\ No newline at end of file
@@ -1,22 +1,32 @@
 package com.example.jsonplaceholderapi.controller;
 
+import com.example.jsonplaceholderapi.config.SortRegistry;
+import com.example.jsonplaceholderapi.dto.AffectedRows;
 import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Todo;
 import com.example.jsonplaceholderapi.service.TodoService;
+import com.example.jsonplaceholderapi.service.UserService;
+import com.example.jsonplaceholderapi.stream.EntityStreamPublisher;
+import com.example.jsonplaceholderapi.stream.StreamHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,9 +39,24 @@ public class TodoController {
     @Autowired
     private TodoService todoService;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private SortRegistry sortRegistry;
+
+    @Autowired
+    private StreamHub streamHub;
+
+    @Value("${app.batch.max-ids}")
+    private int maxBatchIds;
+
+    @Value("${app.batch.max-rows}")
+    private int maxBatchRows;
+
     @GetMapping
     @Operation(summary = "Listar todas as tarefas", description = "Retorna lista paginada de tarefas")
-    public ResponseEntity<Page<Todo>> getAllTodos(
+    public ResponseEntity<?> getAllTodos(
             @Parameter(description = "Número da página (0-indexed)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
@@ -42,13 +67,15 @@ public class TodoController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.TODOS, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
             Page<Todo> todos = todoService.findAll(pageable);
 
             return ResponseEntity.ok(todos);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -65,6 +92,26 @@ public class TodoController {
         }
     }
 
+    @GetMapping(params = "id")
+    @Operation(summary = "Buscar tarefas por lista de IDs", description = "Retorna as tarefas pedidas em uma única consulta, na ordem dos IDs, e informa os IDs não encontrados")
+    public ResponseEntity<?> getTodosByIds(
+            @Parameter(description = "IDs (id=1&id=2...)")
+            @RequestParam("id") List<Long> ids) {
+
+        try {
+            if (ids.size() > maxBatchIds) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Máximo de " + maxBatchIds + " IDs por requisição"));
+            }
+
+            BatchResult<Todo> result = todoService.findAllByIds(ids);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar tarefa por ID", description = "Retorna uma tarefa específica pelo ID")
     public ResponseEntity<Todo> getTodoById(
@@ -82,7 +129,7 @@ public class TodoController {
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Buscar tarefas por usuário", description = "Retorna tarefas de um usuário específico")
-    public ResponseEntity<Page<Todo>> getTodosByUser(
+    public ResponseEntity<?> getTodosByUser(
             @Parameter(description = "ID do usuário")
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
@@ -91,13 +138,15 @@ public class TodoController {
             @RequestParam(defaultValue = "desc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.TODOS_BY_USER, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
             Page<Todo> todos = todoService.findByUserId(userId, pageable);
 
             return ResponseEntity.ok(todos);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -318,6 +367,86 @@ public class TodoController {
         }
     }
 
+    @PatchMapping("/user/{userId}/complete")
+    @Operation(summary = "Completar tarefas do usuário em massa",
+            description = "Completa num único UPDATE até app.batch.max-rows tarefas pendentes do usuário, com filtros opcionais; "
+                    + "retorna quantas mudaram (hasMore = repita)")
+    public ResponseEntity<?> completeUserTodos(
+            @Parameter(description = "ID do usuário")
+            @PathVariable Long userId,
+            @Parameter(description = "Só esta prioridade")
+            @RequestParam(required = false) Todo.Priority priority,
+            @Parameter(description = "Só as que vencem antes desta data (ISO, ex.: 2024-05-01T00:00:00)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueBefore) {
+
+        try {
+            int affected = todoService.completeByUser(userId, priority, dueBefore, maxBatchRows);
+            return ResponseEntity.ok(new AffectedRows(affected, affected == maxBatchRows));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    @PatchMapping(value = "/complete", params = "id")
+    @Operation(summary = "Completar tarefas por lista de IDs",
+            description = "Completa num único UPDATE as tarefas pendentes entre os IDs; retorna quantas mudaram")
+    public ResponseEntity<?> completeTodosByIds(
+            @Parameter(description = "IDs (id=1&id=2...)")
+            @RequestParam("id") List<Long> ids) {
+
+        try {
+            if (ids.size() > maxBatchIds) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Máximo de " + maxBatchIds + " IDs por requisição"));
+            }
+
+            return ResponseEntity.ok(new AffectedRows(todoService.completeByIds(ids)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    @DeleteMapping("/user/{userId}")
+    @Operation(summary = "Deletar tarefas do usuário em massa",
+            description = "Remove num único DELETE até app.batch.max-rows tarefas completas (ou pendentes) do usuário; "
+                    + "retorna quantas foram removidas (hasMore = repita)")
+    public ResponseEntity<?> deleteUserTodos(
+            @Parameter(description = "ID do usuário")
+            @PathVariable Long userId,
+            @Parameter(description = "Status de conclusão das tarefas a remover")
+            @RequestParam Boolean completed) {
+
+        try {
+            int affected = todoService.deleteByUser(userId, completed, maxBatchRows);
+            return ResponseEntity.ok(new AffectedRows(affected, affected == maxBatchRows));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
+    @DeleteMapping(params = "id")
+    @Operation(summary = "Deletar tarefas por lista de IDs",
+            description = "Remove num único DELETE as tarefas pedidas; retorna quantas foram removidas")
+    public ResponseEntity<?> deleteTodosByIds(
+            @Parameter(description = "IDs (id=1&id=2...)")
+            @RequestParam("id") List<Long> ids) {
+
+        try {
+            if (ids.size() > maxBatchIds) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Máximo de " + maxBatchIds + " IDs por requisição"));
+            }
+
+            return ResponseEntity.ok(new AffectedRows(todoService.deleteByIds(ids)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Buscar tarefas", description = "Busca tarefas por título")
     public ResponseEntity<?> searchTodos(
@@ -354,4 +483,26 @@ public class TodoController {
                     .body(new ApiResponse(false, "Erro interno do servidor"));
         }
     }
+
+    @GetMapping("/user/{userId}/stream")
+    @Operation(summary = "Stream de tarefas do usuário",
+            description = "Server-Sent Events (created/updated/deleted) a cada escrita de tarefa do usuário, em vez de polling. "
+                    + "Reconectando com Last-Event-ID, recebe o que perdeu; \"reset\" = recarregue as tarefas")
+    public ResponseEntity<SseEmitter> streamTodos(
+            @Parameter(description = "ID do usuário")
+            @PathVariable Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        try {
+            if (!userService.existsById(userId)) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(streamHub.subscribe(EntityStreamPublisher.userTodos(userId), lastEventId));
+        } catch (IllegalStateException e) {
+            // Limite de conexões (app.streams.max-subscribers)
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
\ No newline at end of file
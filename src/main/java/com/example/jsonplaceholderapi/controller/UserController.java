@@ -1,14 +1,19 @@
 package com.example.jsonplaceholderapi.controller;
 
+import com.example.jsonplaceholderapi.config.SortRegistry;
 import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BatchResult;
+import com.example.jsonplaceholderapi.dto.UserSummary;
 import com.example.jsonplaceholderapi.entity.User;
 import com.example.jsonplaceholderapi.service.UserService;
+import com.example.jsonplaceholderapi.service.UserSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,9 +34,24 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserSummaryService userSummaryService;
+
+    @Autowired
+    private SortRegistry sortRegistry;
+
+    @Value("${app.batch.max-ids}")
+    private int maxBatchIds;
+
+    @Value("${app.summary.default-limit}")
+    private int defaultSummaryLimit;
+
+    @Value("${app.summary.max-limit}")
+    private int maxSummaryLimit;
+
     @GetMapping
     @Operation(summary = "Listar todos os usuários", description = "Retorna lista paginada de usuários")
-    public ResponseEntity<Page<User>> getAllUsers(
+    public ResponseEntity<?> getAllUsers(
             @Parameter(description = "Número da página (0-indexed)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
@@ -42,13 +62,15 @@ public class UserController {
             @RequestParam(defaultValue = "asc") String sortDir) {
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = sortRegistry.resolve(SortRegistry.USERS, sortBy, sortDir);
 
             Pageable pageable = PageRequest.of(page, size, sort);
             Page<User> users = userService.findAll(pageable);
 
             return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -65,6 +87,26 @@ public class UserController {
         }
     }
 
+    @GetMapping(params = "id")
+    @Operation(summary = "Buscar usuários por lista de IDs", description = "Retorna os usuários pedidos em uma única consulta, na ordem dos IDs, e informa os IDs não encontrados")
+    public ResponseEntity<?> getUsersByIds(
+            @Parameter(description = "IDs (id=1&id=2...)")
+            @RequestParam("id") List<Long> ids) {
+
+        try {
+            if (ids.size() > maxBatchIds) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Máximo de " + maxBatchIds + " IDs por requisição"));
+            }
+
+            BatchResult<User> result = userService.findAllByIds(ids);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar usuário por ID", description = "Retorna um usuário específico pelo ID")
     public ResponseEntity<User> getUserById(
@@ -202,6 +244,32 @@ public class UserController {
         }
     }
 
+    @GetMapping("/{id}/summary")
+    @Operation(summary = "Resumo do usuário", description = "Retorna perfil, contagens de posts, álbuns, fotos, comentários e todos, últimos posts e próximos todos")
+    public ResponseEntity<?> getUserSummary(
+            @Parameter(description = "ID do usuário")
+            @PathVariable Long id,
+            @Parameter(description = "Quantidade de últimos posts e próximos todos")
+            @RequestParam(required = false) Integer limit) {
+
+        try {
+            int size = limit != null ? limit : defaultSummaryLimit;
+            if (size < 1 || size > maxSummaryLimit) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "O limite deve estar entre 1 e " + maxSummaryLimit));
+            }
+
+            UserSummary summary = userSummaryService.getSummary(id, size);
+            return ResponseEntity.ok(summary);
+        } catch (RuntimeException e) {
+            if (e.getMessage() != null && e.getMessage().contains("não encontrado")) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Erro interno do servidor"));
+        }
+    }
+
     @GetMapping("/{id}/exists")
     @Operation(summary = "Verificar se usuário existe", description = "Verifica se um usuário existe pelo ID")
     public ResponseEntity<ApiResponse> userExists(
@@ -0,0 +1,10 @@
+package com.example.jsonplaceholderapi.dto;
+
+// Resultado de uma escrita em massa: quantas linhas o UPDATE/DELETE alterou.
+// hasMore: a escrita parou no limite de linhas e pode haver mais; repita a requisição
+public record AffectedRows(int affected, boolean hasMore) {
+
+    public AffectedRows(int affected) {
+        this(affected, false);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jsonplaceholderapi.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class BatchRequest {
+
+    @NotEmpty(message = "Pelo menos uma requisição é necessária")
+    @Valid
+    private List<Item> requests;
+
+    // Constructors
+    public BatchRequest() {}
+
+    public BatchRequest(List<Item> requests) {
+        this.requests = requests;
+    }
+
+    // Getters and Setters
+    public List<Item> getRequests() { return requests; }
+    public void setRequests(List<Item> requests) { this.requests = requests; }
+
+    // Sub-requisição do lote
+    public static class Item {
+
+        // Identificador devolvido na resposta (opcional)
+        private String id;
+
+        private String method = "GET";
+
+        @NotBlank(message = "Caminho é obrigatório")
+        private String path;
+
+        private JsonNode body;
+
+        // Constructors
+        public Item() {}
+
+        public Item(String id, String method, String path) {
+            this.id = id;
+            this.method = method;
+            this.path = path;
+        }
+
+        // Getters and Setters
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+
+        public String getMethod() { return method; }
+        public void setMethod(String method) { this.method = method; }
+
+        public String getPath() { return path; }
+        public void setPath(String path) { this.path = path; }
+
+        public JsonNode getBody() { return body; }
+        public void setBody(JsonNode body) { this.body = body; }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.jsonplaceholderapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.util.List;
+
+public class BatchResponse {
+
+    private List<Item> responses;
+
+    // Constructors
+    public BatchResponse() {}
+
+    public BatchResponse(List<Item> responses) {
+        this.responses = responses;
+    }
+
+    // Getters and Setters
+    public List<Item> getResponses() { return responses; }
+    public void setResponses(List<Item> responses) { this.responses = responses; }
+
+    // Resposta de uma sub-requisição
+    public static class Item {
+
+        private String id;
+        private int status;
+
+        // JSON já serializado pelo controller de destino (copiado sem reprocessar)
+        @JsonRawValue
+        private String body;
+
+        // Constructors
+        public Item() {}
+
+        public Item(String id, int status, String body) {
+            this.id = id;
+            this.status = status;
+            this.body = body;
+        }
+
+        // Getters and Setters
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+
+        public int getStatus() { return status; }
+        public void setStatus(int status) { this.status = status; }
+
+        public String getBody() { return body; }
+        public void setBody(String body) { this.body = body; }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.jsonplaceholderapi.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class BatchResult<T> {
+
+    private List<T> items;
+    private List<Long> missing;
+
+    // Constructors
+    public BatchResult() {}
+
+    public BatchResult(List<T> items, List<Long> missing) {
+        this.items = items;
+        this.missing = missing;
+    }
+
+    // IDs pedidos sem duplicatas, na ordem da requisição
+    public static List<Long> distinctIds(List<Long> ids) {
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .collect(LinkedHashSet<Long>::new, LinkedHashSet::add, LinkedHashSet::addAll)
+                .stream()
+                .toList();
+    }
+
+    // Reordenar o resultado da consulta IN conforme os IDs pedidos
+    public static <T> BatchResult<T> of(List<Long> ids, Iterable<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T item : found) {
+            byId.put(idOf.apply(item), item);
+        }
+
+        List<T> items = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            T item = byId.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BatchResult<>(items, missing);
+    }
+
+    // Getters and Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public List<Long> getMissing() { return missing; }
+    public void setMissing(List<Long> missing) { this.missing = missing; }
+}
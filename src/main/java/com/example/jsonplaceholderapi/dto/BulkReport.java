@@ -0,0 +1,11 @@
+package com.example.jsonplaceholderapi.dto;
+
+import java.util.List;
+
+// Resultado de um export/import em diretório: linhas e blocos por tabela.
+// skippedChunks = blocos já concluídos em uma execução anterior (checkpoint).
+public record BulkReport(String operation, String format, String directory, double seconds,
+                         List<TableResult> tables) {
+
+    public record TableResult(String table, long rows, int chunks, int skippedChunks) {}
+}
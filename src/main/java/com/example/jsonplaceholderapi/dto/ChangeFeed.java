@@ -0,0 +1,13 @@
+package com.example.jsonplaceholderapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Uma página do feed de alterações. cursor vai no próximo ?since=; hasMore = há mais páginas agora.
+// data é a entidade como os endpoints do recurso a devolvem; ausente em remoções (tombstone).
+public record ChangeFeed(List<Change> changes, String cursor, boolean hasMore) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Change(String type, Long id, String action, Object data) {}
+}
@@ -0,0 +1,15 @@
+package com.example.jsonplaceholderapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+import java.util.List;
+
+// Um formato de consulta lenta (SQL normalizado) com estatísticas, a execução mais lenta e o plano
+public record SlowQueryReport(String shape, long count, double totalMs, double avgMs, double maxMs,
+                              Sample slowest, Sample last,
+                              @JsonRawValue String plan, String planError) {
+
+    // Uma execução: quando, de qual endpoint, quanto tempo, SQL e parâmetros
+    public record Sample(Instant at, String endpoint, double durationMs, String sql, List<String> binds) {}
+}
@@ -0,0 +1,73 @@
+package com.example.jsonplaceholderapi.dto;
+
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Resumo do usuário: perfil, contagens e itens recentes.
+// Só valores simples (sem entidades) para poder ficar em cache fora da sessão JPA.
+public class UserSummary {
+
+    private Long id;
+    private String name;
+    private String username;
+    private String email;
+    private Counts counts;
+    private List<PostItem> latestPosts;
+    private List<TodoItem> upcomingTodos;
+
+    // Constructors
+    public UserSummary() {}
+
+    public UserSummary(User user, Counts counts, List<PostItem> latestPosts, List<TodoItem> upcomingTodos) {
+        this.id = user.getId();
+        this.name = user.getName();
+        this.username = user.getUsername();
+        this.email = user.getEmail();
+        this.counts = counts;
+        this.latestPosts = latestPosts;
+        this.upcomingTodos = upcomingTodos;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public Counts getCounts() { return counts; }
+    public void setCounts(Counts counts) { this.counts = counts; }
+
+    public List<PostItem> getLatestPosts() { return latestPosts; }
+    public void setLatestPosts(List<PostItem> latestPosts) { this.latestPosts = latestPosts; }
+
+    public List<TodoItem> getUpcomingTodos() { return upcomingTodos; }
+    public void setUpcomingTodos(List<TodoItem> upcomingTodos) { this.upcomingTodos = upcomingTodos; }
+
+    public record Counts(long posts, long albums, long photos, long comments,
+                         long todos, long completedTodos, long pendingTodos, long overdueTodos) {}
+
+    public record PostItem(Long id, String title, LocalDateTime createdAt) {
+
+        public static PostItem of(Post post) {
+            return new PostItem(post.getId(), post.getTitle(), post.getCreatedAt());
+        }
+    }
+
+    public record TodoItem(Long id, String title, Todo.Priority priority, LocalDateTime dueDate) {
+
+        public static TodoItem of(Todo todo) {
+            return new TodoItem(todo.getId(), todo.getTitle(), todo.getPriority(), todo.getDueDate());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jsonplaceholderapi.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+// Várias entidades do mesmo tipo alteradas ou removidas por uma única escrita em massa
+// (UPDATE/DELETE ... RETURNING, ver TodoService): um evento só, em vez de um EntityChangedEvent por linha.
+// Também os filhos removidos em cascata junto com um post, álbum ou usuário (deleted).
+// ids e entities andam juntos (mesmo índice); entities traz as linhas devolvidas pelo RETURNING.
+// Ouvintes que gravam no banco (change_log, outbox) fazem um batch; os de depois do commit agrupam
+// por usuário/tópico.
+public record EntitiesChangedEvent(Class<?> type, List<Long> ids, List<?> entities, EntityChangedEvent.Action action) {
+
+    // Removidas pelo cascade do JPA, sem passar pelo delete do repositório (EntityChangeAspect)
+    public static <T> EntitiesChangedEvent deleted(Class<T> type, Collection<T> entities, Function<T, Long> id) {
+        List<T> deleted = List.copyOf(entities);
+        return new EntitiesChangedEvent(type, deleted.stream().map(id).toList(), deleted, EntityChangedEvent.Action.DELETED);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
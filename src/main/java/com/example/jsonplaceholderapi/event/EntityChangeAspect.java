@@ -0,0 +1,46 @@
+package com.example.jsonplaceholderapi.event;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Publica EntityChangedEvent para save/saveAndFlush/delete de qualquer repositório, sem mexer nos services.
+// Remoções em cascata (ex.: posts de um usuário apagado) não passam por aqui: os services publicam
+// um EntitiesChangedEvent.deleted com os filhos.
+@Aspect
+@Component
+public class EntityChangeAspect {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Around("execution(* org.springframework.data.repository.CrudRepository+.save(..)) || "
+            + "execution(* org.springframework.data.jpa.repository.JpaRepository+.saveAndFlush(..))")
+    public Object publishSave(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object entity = joinPoint.getArgs()[0];
+        boolean created = idOf(entity) == null;
+
+        Object saved = joinPoint.proceed();
+        EntityChangedEvent.Action action = created ? EntityChangedEvent.Action.CREATED : EntityChangedEvent.Action.UPDATED;
+        eventPublisher.publishEvent(new EntityChangedEvent(entity.getClass(), idOf(saved), saved, action));
+        return saved;
+    }
+
+    @Around("execution(* org.springframework.data.repository.CrudRepository+.delete(..))")
+    public Object publishDelete(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object entity = joinPoint.getArgs()[0];
+        Object result = joinPoint.proceed();
+        eventPublisher.publishEvent(new EntityChangedEvent(entity.getClass(), idOf(entity), entity, EntityChangedEvent.Action.DELETED));
+        return result;
+    }
+
+    private static Long idOf(Object entity) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        return wrapper.isReadableProperty("id") ? (Long) wrapper.getPropertyValue("id") : null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.jsonplaceholderapi.event;
+
+// Uma entidade foi criada, alterada ou removida por um repositório.
+// Publicado pelo EntityChangeAspect; ouvintes com @TransactionalEventListener recebem depois do commit.
+// entity é a instância salva (null em cargas em massa); id null = tabela inteira mudou.
+public record EntityChangedEvent(Class<?> type, Long id, Object entity, Action action) {
+
+    public enum Action { CREATED, UPDATED, DELETED, BULK }
+
+    // Carga em massa (COPY): linhas desconhecidas, quem guarda cópia da tabela deve recarregá-la
+    public static EntityChangedEvent bulk(Class<?> type) {
+        return new EntityChangedEvent(type, null, null, Action.BULK);
+    }
+
+    public boolean isBulk() {
+        return action == Action.BULK;
+    }
+}
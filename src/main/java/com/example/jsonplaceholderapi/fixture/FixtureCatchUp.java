@@ -0,0 +1,84 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import com.example.jsonplaceholderapi.bulk.BulkTable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Linhas criadas ou alteradas no banco depois do snapshot (COALESCE(updated_at, created_at) > since),
+// lidas na subida numa única transação REPEATABLE READ. O perfil fixture não tem DataSource:
+// uma conexão JDBC avulsa, fechada ao fim da leitura. Sem os índices opcionais de db/catch-up,
+// a condição faz um scan sequencial de cada tabela.
+// Remoções não aparecem aqui (a linha não existe mais); continuam no fixture até o próximo snapshot.
+final class FixtureCatchUp {
+
+    // Uma linha já lida, com os valores no tipo do JDBC
+    private record JdbcRow(Map<String, Object> values) implements FixtureReader.Row {
+
+        @Override
+        public String get(String column) {
+            Object value = values.get(column);
+            return value != null ? value.toString() : null;
+        }
+
+        @Override
+        public Long getLong(String column) {
+            return values.get(column) instanceof Number number ? number.longValue() : null;
+        }
+
+        @Override
+        public Boolean getBoolean(String column) {
+            return values.get(column) instanceof Boolean value ? value : null;
+        }
+
+        @Override
+        public LocalDateTime getTimestamp(String column) {
+            return values.get(column) instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : null;
+        }
+    }
+
+    private FixtureCatchUp() {}
+
+    static Map<BulkTable, List<FixtureReader.Row>> read(String url, String username, String password,
+                                                        LocalDateTime since) throws SQLException {
+        Map<BulkTable, List<FixtureReader.Row>> rows = new EnumMap<>(BulkTable.class);
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setReadOnly(true);
+
+            for (BulkTable table : BulkTable.values()) {
+                List<FixtureReader.Row> changed = new ArrayList<>();
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "SELECT " + table.getColumns() + " FROM " + table.getTableName()
+                                + " WHERE COALESCE(updated_at, created_at) > ? ORDER BY id")) {
+                    statement.setTimestamp(1, Timestamp.valueOf(since));
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        ResultSetMetaData metaData = resultSet.getMetaData();
+                        while (resultSet.next()) {
+                            Map<String, Object> values = new HashMap<>();
+                            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                                values.put(metaData.getColumnName(i), resultSet.getObject(i));
+                            }
+                            changed.add(new JdbcRow(values));
+                        }
+                    }
+                }
+                rows.put(table, changed);
+            }
+            connection.commit();
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import java.util.List;
+
+// Índice pai -> filhos em dois int[] (formato CSR): os filhos do pai p são
+// children[offsets[p] .. offsets[p + 1]), em ordem de ID.
+final class FixtureIndex {
+
+    private final int[] offsets;
+    private final int[] children;
+
+    // parentOf[posição do filho] = posição do pai (ou -1 sem pai)
+    FixtureIndex(int parentCount, int[] parentOf) {
+        offsets = new int[parentCount + 1];
+        for (int parent : parentOf) {
+            if (parent >= 0) {
+                offsets[parent + 1]++;
+            }
+        }
+        for (int i = 0; i < parentCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        children = new int[offsets[parentCount]];
+        int[] next = offsets.clone();
+        for (int child = 0; child < parentOf.length; child++) {
+            int parent = parentOf[child];
+            if (parent >= 0) {
+                children[next[parent]++] = child;
+            }
+        }
+    }
+
+    int count(int parent) {
+        return parent < 0 ? 0 : offsets[parent + 1] - offsets[parent];
+    }
+
+    <T> List<T> rows(int parent, FixtureTable<T> table) {
+        if (parent < 0) {
+            return List.of();
+        }
+        return table.view(children, offsets[parent], offsets[parent + 1]);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Escritas de um cliente (um JWT) sobre o dataset base, que nunca é alterado:
+// por tabela, linhas criadas/alteradas (cópias) e IDs removidos.
+// Concorrente: um mesmo cliente pode ter várias requisições em voo (ex.: /batch).
+final class FixtureOverlay {
+
+    private final Map<Class<?>, Changes<?>> tables = new ConcurrentHashMap<>();
+    private volatile boolean empty = true;
+
+    static final class Changes<T> {
+
+        final Map<Long, T> upserts = new ConcurrentHashMap<>();
+        final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+        final AtomicLong nextId;
+
+        Changes(long firstId) {
+            this.nextId = new AtomicLong(firstId);
+        }
+    }
+
+    // Sem nenhuma escrita ainda: leituras vão direto ao base
+    boolean isEmpty() {
+        return empty;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Changes<T> changes(Class<T> type) {
+        return (Changes<T>) tables.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Changes<T> changesForWrite(Class<T> type, long firstId) {
+        empty = false;
+        return (Changes<T>) tables.computeIfAbsent(type, key -> new Changes<T>(firstId));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Overlays de escrita do modo fixture, um por JWT, como o JSONPlaceholder público: POST/PUT/PATCH/DELETE
+// respondem normalmente, mas só o próprio cliente enxerga o resultado, e só até o TTL (sem acesso).
+// O FixtureRequestInterceptor liga o overlay do cliente à thread da requisição.
+@Component
+@Profile("fixture")
+public class FixtureOverlays {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.fixture.overlay.enabled}")
+    private boolean enabled;
+
+    @Value("${app.fixture.overlay.ttl}")
+    private Duration ttl;
+
+    @Value("${app.fixture.overlay.max-clients}")
+    private long maxClients;
+
+    private Cache<String, FixtureOverlay> overlays;
+
+    private final ThreadLocal<Binding> current = new ThreadLocal<>();
+
+    private record Binding(FixtureOverlay overlay, boolean writing) {}
+
+    @PostConstruct
+    public void init() {
+        overlays = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .maximumSize(maxClients)
+                .build();
+
+        Gauge.builder("fixture.overlay.clients", overlays, Cache::estimatedSize)
+                .description("Clientes com escritas no overlay do modo fixture")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Escrita cria o overlay do cliente; leitura só usa se já existir
+    void bind(String client, boolean writing) {
+        FixtureOverlay overlay = writing ? overlays.get(client, key -> new FixtureOverlay()) : overlays.getIfPresent(client);
+        current.set(new Binding(overlay, writing));
+    }
+
+    void unbind() {
+        current.remove();
+    }
+
+    // Overlay da requisição atual (null: sem escritas do cliente, ou fora de requisição)
+    FixtureOverlay current() {
+        Binding binding = current.get();
+        return binding != null ? binding.overlay() : null;
+    }
+
+    // O cliente da requisição tem escritas: caches compartilhados (ex.: slabs de JSON) não valem para ele
+    public boolean hasOverlay() {
+        FixtureOverlay overlay = current();
+        return overlay != null && !overlay.isEmpty();
+    }
+
+    // Requisição de escrita: findById devolve cópia, para o service alterar sem tocar no base
+    boolean isWriting() {
+        Binding binding = current.get();
+        return binding != null && binding.writing();
+    }
+}
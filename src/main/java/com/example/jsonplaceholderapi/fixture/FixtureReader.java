@@ -0,0 +1,166 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import com.example.jsonplaceholderapi.bulk.BulkFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Leitura dos arquivos gerados pelo export em massa (CSV do COPY com cabeçalho, ou NDJSON),
+// linha a linha, com acesso por nome de coluna.
+final class FixtureReader {
+
+    // Uma linha do arquivo; null para NULL.
+    // Os getters tipados convertem o texto; fontes binárias (snapshot, JDBC) leem o valor direto.
+    interface Row {
+        String get(String column);
+
+        default Long getLong(String column) {
+            String value = get(column);
+            return value != null ? Long.valueOf(value) : null;
+        }
+
+        // CSV do COPY: t/f; NDJSON: true/false
+        default Boolean getBoolean(String column) {
+            String value = get(column);
+            return value != null ? value.equals("t") || value.equals("true") : null;
+        }
+
+        // CSV do COPY: "2024-05-15 00:45:00"; NDJSON: "2024-05-15T00:45:00"
+        default LocalDateTime getTimestamp(String column) {
+            String value = get(column);
+            return value != null ? LocalDateTime.parse(value.replace(' ', 'T')) : null;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+
+    FixtureReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    void read(Path file, BulkFormat format, Consumer<Row> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (format == BulkFormat.NDJSON) {
+                readNdjson(reader, consumer);
+            } else {
+                readCsv(reader, consumer);
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Consumer<Row> consumer) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            JsonNode node = objectMapper.readTree(line);
+            consumer.accept(column -> {
+                JsonNode value = node.get(column);
+                return value == null || value.isNull() ? null : value.asText();
+            });
+        }
+    }
+
+    private static void readCsv(Reader reader, Consumer<Row> consumer) throws IOException {
+        CsvParser parser = new CsvParser(reader);
+        String[] header = parser.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columns.put(header[i], i);
+        }
+
+        String[] values;
+        while ((values = parser.next()) != null) {
+            String[] current = values;
+            consumer.accept(column -> {
+                Integer index = columns.get(column);
+                return index == null || index >= current.length ? null : current[index];
+            });
+        }
+    }
+
+    // CSV no formato do COPY: campo vazio sem aspas é NULL, "" é string vazia,
+    // aspas dobradas dentro de campo entre aspas, quebras de linha permitidas entre aspas
+    private static final class CsvParser {
+
+        private final Reader reader;
+        private final StringBuilder field = new StringBuilder();
+        private int lookahead = -2;
+
+        CsvParser(Reader reader) {
+            this.reader = reader;
+        }
+
+        String[] next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            while (true) {
+                field.setLength(0);
+                boolean quoted = false;
+                if (c == '"') {
+                    quoted = true;
+                    while (true) {
+                        c = read();
+                        if (c == -1) {
+                            throw new IOException("Campo entre aspas não terminado");
+                        }
+                        if (c == '"') {
+                            c = read();
+                            if (c != '"') {
+                                break;
+                            }
+                        }
+                        field.append((char) c);
+                    }
+                } else {
+                    while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                        field.append((char) c);
+                        c = read();
+                    }
+                }
+                values.add(quoted || field.length() > 0 ? field.toString() : null);
+
+                if (c == ',') {
+                    c = read();
+                    continue;
+                }
+                if (c == '\r') {
+                    int after = read();
+                    if (after != '\n') {
+                        lookahead = after;
+                    }
+                }
+                return values.toArray(new String[0]);
+            }
+        }
+
+        private int read() throws IOException {
+            if (lookahead != -2) {
+                int c = lookahead;
+                lookahead = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
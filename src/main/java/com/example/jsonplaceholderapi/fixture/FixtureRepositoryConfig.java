@@ -0,0 +1,605 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.repository.AlbumRepository;
+import com.example.jsonplaceholderapi.repository.CommentRepository;
+import com.example.jsonplaceholderapi.repository.PhotoRepository;
+import com.example.jsonplaceholderapi.repository.PostRepository;
+import com.example.jsonplaceholderapi.repository.TodoRepository;
+import com.example.jsonplaceholderapi.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Repositórios do perfil "fixture": as mesmas interfaces Spring Data, implementadas por proxies
+// sobre o FixtureStore. Services e controllers não mudam. O dataset base nunca é alterado:
+// save/delete vão para o overlay do cliente da requisição (FixtureOverlays), e as consultas
+// juntam base + overlay. Sem overlay (ou sem escritas que afetem a tabela), lê o base direto.
+@Configuration
+@Profile("fixture")
+public class FixtureRepositoryConfig {
+
+    // Metadados de cada entidade para o overlay: ID e visibilidade pelos pais
+    // (apagar um usuário ou post some com os filhos, como o CascadeType.ALL do JPA)
+    private record Kind<T>(Class<T> type, Function<T, Long> id, BiConsumer<T, Long> setId,
+                           BiPredicate<FixtureOverlay, T> parentsVisible, List<Class<?>> parents) {}
+
+    private static final Kind<User> USER = new Kind<>(User.class, User::getId, User::setId,
+            (overlay, user) -> true, List.of());
+    private static final Kind<Post> POST = new Kind<>(Post.class, Post::getId, Post::setId,
+            (overlay, post) -> visible(overlay, post.getUser()), List.of(User.class));
+    private static final Kind<Comment> COMMENT = new Kind<>(Comment.class, Comment::getId, Comment::setId,
+            (overlay, comment) -> visible(overlay, comment.getPost()) && visible(overlay, comment.getUser()),
+            List.of(Post.class, User.class));
+    private static final Kind<Album> ALBUM = new Kind<>(Album.class, Album::getId, Album::setId,
+            (overlay, album) -> visible(overlay, album.getUser()), List.of(User.class));
+    private static final Kind<Photo> PHOTO = new Kind<>(Photo.class, Photo::getId, Photo::setId,
+            (overlay, photo) -> visible(overlay, photo.getAlbum()) && visible(overlay, photo.getUser()),
+            List.of(Album.class, User.class));
+    private static final Kind<Todo> TODO = new Kind<>(Todo.class, Todo::getId, Todo::setId,
+            (overlay, todo) -> visible(overlay, todo.getUser()), List.of(User.class));
+
+    // Consulta derivada: linhas do base que atendem (sempre exatas: o base não muda),
+    // o mesmo critério para as linhas do overlay, e o formato do retorno (lista, página, Optional...).
+    // fast: atalho opcional quando o overlay não afeta a tabela
+    private record Query<T>(Function<Object[], List<T>> base, BiPredicate<T, Object[]> match,
+                            BiFunction<List<T>, Object[], Object> result, Function<Object[], Object> fast) {
+
+        Query(Function<Object[], List<T>> base, BiPredicate<T, Object[]> match, BiFunction<List<T>, Object[], Object> result) {
+            this(base, match, result, null);
+        }
+    }
+
+    // Callbacks @PrePersist/@PreUpdate por classe (o JPA os chamaria no flush)
+    private static final Map<String, Optional<Method>> callbacks = new ConcurrentHashMap<>();
+
+    // @Transactional dos services continua valendo, sem banco por trás
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {}
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {}
+        };
+    }
+
+    @Bean
+    public UserRepository userRepository(FixtureStore store, FixtureOverlays overlays, ObjectMapper objectMapper) {
+        FixtureTable<User> users = store.users();
+        Map<String, Query<User>> queries = new HashMap<>();
+        queries.put("findByUsername(String)", new Query<>(args -> optionalList(store.userByUsername((String) args[0])),
+                (user, args) -> Objects.equals(user.getUsername(), args[0]), FixtureRepositoryConfig::first));
+        queries.put("findByEmail(String)", new Query<>(args -> optionalList(store.userByEmail((String) args[0])),
+                (user, args) -> Objects.equals(user.getEmail(), args[0]), FixtureRepositoryConfig::first));
+        queries.put("existsByUsername(String)", new Query<>(args -> optionalList(store.userByUsername((String) args[0])),
+                (user, args) -> Objects.equals(user.getUsername(), args[0]), FixtureRepositoryConfig::exists));
+        queries.put("existsByEmail(String)", new Query<>(args -> optionalList(store.userByEmail((String) args[0])),
+                (user, args) -> Objects.equals(user.getEmail(), args[0]), FixtureRepositoryConfig::exists));
+        queries.put("findByUsernameOrEmail(String)", new Query<>(args -> {
+                    List<User> found = new ArrayList<>(optionalList(store.userByUsername((String) args[0])));
+                    found.addAll(optionalList(store.userByEmail((String) args[0])));
+                    found.sort(Comparator.comparing(User::getId));
+                    return found;
+                }, (user, args) -> Objects.equals(user.getUsername(), args[0]) || Objects.equals(user.getEmail(), args[0]),
+                FixtureRepositoryConfig::first));
+        // Address e Company não são visíveis fora do pacote entity: o valor sai do JSON do usuário
+        queries.put("findByCity(String)", new Query<>(args -> store.usersByCity((String) args[0]),
+                (user, args) -> Objects.equals(args[0], objectMapper.valueToTree(user).path("address").path("city").asText(null)),
+                FixtureRepositoryConfig::first));
+        queries.put("findByCompanyName(String)", new Query<>(args -> store.usersByCompany((String) args[0]),
+                (user, args) -> Objects.equals(args[0], objectMapper.valueToTree(user).path("company").path("name").asText(null)),
+                FixtureRepositoryConfig::first));
+
+        // countSummary precisa das outras tabelas: fica fora das consultas sobre a tabela de usuários
+        return repository(UserRepository.class, USER, users, overlays, queries, Map.of("countSummary(Long,LocalDateTime)",
+                args -> summary(store, overlays.current(), (Long) args[0], (LocalDateTime) args[1])));
+    }
+
+    @Bean
+    public PostRepository postRepository(FixtureStore store, FixtureOverlays overlays) {
+        FixtureTable<Post> posts = store.posts();
+        Map<String, Query<Post>> queries = new HashMap<>();
+        BiPredicate<Post, Object[]> byUser = (post, args) -> Objects.equals(post.getUser().getId(), args[0]);
+        queries.put("findByUserId(Long)", new Query<>(args -> store.postsOfUser((Long) args[0]), byUser, FixtureRepositoryConfig::list));
+        queries.put("findByUserId(Long,Pageable)", new Query<>(args -> store.postsOfUser((Long) args[0]), byUser, page(posts, 1)));
+        queries.put("findByUserIdOrderByCreatedAtDescIdDesc(Long,Limit)", new Query<>(args -> store.postsOfUser((Long) args[0]), byUser,
+                (rows, args) -> limit(rows, Comparator.comparing(Post::getCreatedAt, Comparator.nullsFirst(Comparator.reverseOrder()))
+                        .thenComparing(Post::getId, Comparator.reverseOrder()), (Limit) args[1])));
+        queries.put("findByTitleContainingIgnoreCase(String)", new Query<>(args -> posts.filter(post -> contains(post.getTitle(), (String) args[0])),
+                (post, args) -> contains(post.getTitle(), (String) args[0]), FixtureRepositoryConfig::list));
+        queries.put("findByContentContaining(String)", new Query<>(args -> posts.filter(post -> contains(post.getBody(), (String) args[0])),
+                (post, args) -> contains(post.getBody(), (String) args[0]), FixtureRepositoryConfig::list));
+        // ORDER BY da @Query; a página devolvida mantém o Pageable recebido, como no JPA
+        queries.put("findLatestPosts(Pageable)", new Query<>(args -> posts.all(), (post, args) -> true,
+                (rows, args) -> latest(posts.page(rows, latestOrder((Pageable) args[0])), (Pageable) args[0]),
+                args -> latest(posts.page(latestOrder((Pageable) args[0])), (Pageable) args[0])));
+        return repository(PostRepository.class, POST, posts, overlays, queries, Map.of());
+    }
+
+    @Bean
+    public CommentRepository commentRepository(FixtureStore store, FixtureOverlays overlays) {
+        FixtureTable<Comment> comments = store.comments();
+        Map<String, Query<Comment>> queries = new HashMap<>();
+        BiPredicate<Comment, Object[]> byPost = (comment, args) -> Objects.equals(comment.getPost().getId(), args[0]);
+        queries.put("findByPostId(Long)", new Query<>(args -> store.commentsOfPost((Long) args[0]), byPost, FixtureRepositoryConfig::list));
+        queries.put("findByPostId(Long,Pageable)", new Query<>(args -> store.commentsOfPost((Long) args[0]), byPost, page(comments, 1)));
+        queries.put("findByEmail(String)", new Query<>(args -> comments.filter(comment -> Objects.equals(comment.getEmail(), args[0])),
+                (comment, args) -> Objects.equals(comment.getEmail(), args[0]), FixtureRepositoryConfig::list));
+        queries.put("findByNameContainingIgnoreCase(String)", new Query<>(args -> comments.filter(comment -> contains(comment.getName(), (String) args[0])),
+                (comment, args) -> contains(comment.getName(), (String) args[0]), FixtureRepositoryConfig::list));
+        queries.put("countByPostId(Long)", new Query<>(args -> store.commentsOfPost((Long) args[0]), byPost, FixtureRepositoryConfig::count));
+        return repository(CommentRepository.class, COMMENT, comments, overlays, queries, Map.of());
+    }
+
+    @Bean
+    public AlbumRepository albumRepository(FixtureStore store, FixtureOverlays overlays) {
+        FixtureTable<Album> albums = store.albums();
+        Map<String, Query<Album>> queries = new HashMap<>();
+        BiPredicate<Album, Object[]> byUser = (album, args) -> Objects.equals(album.getUser().getId(), args[0]);
+        queries.put("findByUserId(Long)", new Query<>(args -> store.albumsOfUser((Long) args[0]), byUser, FixtureRepositoryConfig::list));
+        queries.put("findByUserId(Long,Pageable)", new Query<>(args -> store.albumsOfUser((Long) args[0]), byUser, page(albums, 1)));
+        queries.put("findByTitleContainingIgnoreCase(String)", new Query<>(args -> albums.filter(album -> contains(album.getTitle(), (String) args[0])),
+                (album, args) -> contains(album.getTitle(), (String) args[0]), FixtureRepositoryConfig::list));
+        queries.put("countByUserId(Long)", new Query<>(args -> store.albumsOfUser((Long) args[0]), byUser, FixtureRepositoryConfig::count));
+        return repository(AlbumRepository.class, ALBUM, albums, overlays, queries, Map.of());
+    }
+
+    @Bean
+    public PhotoRepository photoRepository(FixtureStore store, FixtureOverlays overlays) {
+        FixtureTable<Photo> photos = store.photos();
+        Map<String, Query<Photo>> queries = new HashMap<>();
+        BiPredicate<Photo, Object[]> byAlbum = (photo, args) -> Objects.equals(photo.getAlbum().getId(), args[0]);
+        queries.put("findByAlbumId(Long)", new Query<>(args -> store.photosOfAlbum((Long) args[0]), byAlbum, FixtureRepositoryConfig::list));
+        queries.put("findByAlbumId(Long,Pageable)", new Query<>(args -> store.photosOfAlbum((Long) args[0]), byAlbum, page(photos, 1)));
+        queries.put("findByTitleContainingIgnoreCase(String)", new Query<>(args -> photos.filter(photo -> contains(photo.getTitle(), (String) args[0])),
+                (photo, args) -> contains(photo.getTitle(), (String) args[0]), FixtureRepositoryConfig::list));
+        queries.put("countByAlbumId(Long)", new Query<>(args -> store.photosOfAlbum((Long) args[0]), byAlbum, FixtureRepositoryConfig::count));
+        queries.put("findByAlbumUserId(Long)", new Query<>(args -> store.photosOfUserAlbums((Long) args[0]),
+                (photo, args) -> Objects.equals(photo.getAlbum().getUser().getId(), args[0]), FixtureRepositoryConfig::list));
+        return repository(PhotoRepository.class, PHOTO, photos, overlays, queries, Map.of());
+    }
+
+    @Bean
+    public TodoRepository todoRepository(FixtureStore store, FixtureOverlays overlays) {
+        FixtureTable<Todo> todos = store.todos();
+        Map<String, Query<Todo>> queries = new HashMap<>();
+        BiPredicate<Todo, Object[]> byUser = (todo, args) -> Objects.equals(todo.getUser().getId(), args[0]);
+        queries.put("findByUserId(Long)", new Query<>(args -> store.todosOfUser((Long) args[0]), byUser, FixtureRepositoryConfig::list));
+        queries.put("findByUserId(Long,Pageable)", new Query<>(args -> store.todosOfUser((Long) args[0]), byUser, page(todos, 1)));
+        queries.put("findByUserIdAndCompleted(Long,Boolean)", todoQuery(store,
+                (todo, args) -> Objects.equals(todo.getCompleted(), args[1]), FixtureRepositoryConfig::list));
+        queries.put("findByUserIdAndPriority(Long,Priority)", todoQuery(store,
+                (todo, args) -> todo.getPriority() == args[1], FixtureRepositoryConfig::list));
+        queries.put("findOverdueTodos(Long,LocalDateTime)", todoQuery(store,
+                (todo, args) -> isOverdue(todo, (LocalDateTime) args[1]), FixtureRepositoryConfig::list));
+        queries.put("findUpcomingTodos(Long,LocalDateTime,LocalDateTime)", todoQuery(store,
+                (todo, args) -> isPendingBetween(todo, (LocalDateTime) args[1], (LocalDateTime) args[2]), FixtureRepositoryConfig::list));
+        queries.put("findByUserIdAndTitleContainingIgnoreCase(Long,String)", todoQuery(store,
+                (todo, args) -> contains(todo.getTitle(), (String) args[1]), FixtureRepositoryConfig::list));
+        queries.put("countByUserId(Long)", new Query<>(args -> store.todosOfUser((Long) args[0]), byUser, FixtureRepositoryConfig::count));
+        queries.put("countByUserIdAndCompleted(Long,Boolean)", todoQuery(store,
+                (todo, args) -> Objects.equals(todo.getCompleted(), args[1]), FixtureRepositoryConfig::count));
+        queries.put("findByUserIdAndCompletedFalseAndDueDateGreaterThanEqualOrderByDueDateAscIdAsc(Long,LocalDateTime,Limit)", todoQuery(store,
+                (todo, args) -> isPendingBetween(todo, (LocalDateTime) args[1], null),
+                (rows, args) -> limit(rows, Comparator.comparing(Todo::getDueDate).thenComparing(Todo::getId), (Limit) args[2])));
+
+        // Escritas em massa: as linhas que o UPDATE/DELETE ... RETURNING pegaria, gravadas no overlay uma a uma
+        Map<String, Function<Object[], Object>> bulk = new HashMap<>();
+        Function<Object[], List<Todo>> ofUser = args -> merge(overlays.current(), TODO, store.todosOfUser((Long) args[0]),
+                todo -> Objects.equals(todo.getUser().getId(), args[0]));
+        Function<Object[], List<Todo>> byIds = args -> {
+            List<Todo> found = new ArrayList<>();
+            for (Long id : castIds(args[0])) {
+                findById(overlays, TODO, todos, id).ifPresent(found::add);
+            }
+            return found;
+        };
+        bulk.put("bulkCompleteByUser(Long,String,LocalDateTime,LocalDateTime,int)", args -> completeTodos(overlays, todos,
+                ofUser.apply(args).stream()
+                        .filter(todo -> !Boolean.TRUE.equals(todo.getCompleted()))
+                        .filter(todo -> args[1] == null || (todo.getPriority() != null && todo.getPriority().name().equals(args[1])))
+                        .filter(todo -> args[2] == null || (todo.getDueDate() != null && todo.getDueDate().isBefore((LocalDateTime) args[2])))
+                        .sorted(Comparator.comparing(Todo::getId))
+                        .limit((Integer) args[4])
+                        .toList(),
+                (LocalDateTime) args[3]));
+        bulk.put("bulkCompleteByIds(Collection,LocalDateTime)", args -> completeTodos(overlays, todos, byIds.apply(args), (LocalDateTime) args[1]));
+        bulk.put("bulkDeleteByUser(Long,Boolean,int)", args -> deleteTodos(overlays, todos,
+                ofUser.apply(args).stream()
+                        .filter(todo -> Objects.equals(todo.getCompleted(), args[1]))
+                        .sorted(Comparator.comparing(Todo::getId))
+                        .limit((Integer) args[2])
+                        .toList()));
+        bulk.put("bulkDeleteByIds(Collection)", args -> deleteTodos(overlays, todos, byIds.apply(args)));
+        return repository(TodoRepository.class, TODO, todos, overlays, queries, bulk);
+    }
+
+    // Mesma semântica do UPDATE em massa: só as pendentes, completed_at = updated_at = now
+    private static List<Todo> completeTodos(FixtureOverlays overlays, FixtureTable<Todo> table, List<Todo> rows, LocalDateTime now) {
+        List<Todo> completed = new ArrayList<>();
+        for (Todo row : rows) {
+            if (Boolean.TRUE.equals(row.getCompleted())) {
+                continue;
+            }
+            Todo todo = copy(TODO, row);
+            todo.setCompleted(true);
+            todo.setCompletedAt(now);
+            todo.setUpdatedAt(now);
+            completed.add(save(overlays, TODO, table, todo));
+        }
+        return completed;
+    }
+
+    private static List<Todo> deleteTodos(FixtureOverlays overlays, FixtureTable<Todo> table, List<Todo> rows) {
+        for (Todo row : rows) {
+            deleteById(overlays, TODO, table, row.getId());
+        }
+        return rows;
+    }
+
+    // Todos do usuário (args[0]) filtrados pelo critério, no base e no overlay
+    private static Query<Todo> todoQuery(FixtureStore store, BiPredicate<Todo, Object[]> filter,
+                                         BiFunction<List<Todo>, Object[], Object> result) {
+        return new Query<>(args -> store.todosOfUser((Long) args[0]).stream().filter(todo -> filter.test(todo, args)).toList(),
+                (todo, args) -> Objects.equals(todo.getUser().getId(), args[0]) && filter.test(todo, args), result);
+    }
+
+    private static UserRepository.SummaryCounts summary(FixtureStore store, FixtureOverlay overlay, Long userId, LocalDateTime now) {
+        List<Todo> todos = merge(overlay, TODO, store.todosOfUser(userId), todo -> Objects.equals(todo.getUser().getId(), userId));
+        long posts = merge(overlay, POST, store.postsOfUser(userId), post -> Objects.equals(post.getUser().getId(), userId)).size();
+        long albums = merge(overlay, ALBUM, store.albumsOfUser(userId), album -> Objects.equals(album.getUser().getId(), userId)).size();
+        long photos = merge(overlay, PHOTO, store.photosOfUser(userId), photo -> Objects.equals(photo.getUser().getId(), userId)).size();
+        long comments = merge(overlay, COMMENT, store.commentsOfUser(userId), comment -> Objects.equals(comment.getUser().getId(), userId)).size();
+        long completed = todos.stream().filter(todo -> Boolean.TRUE.equals(todo.getCompleted())).count();
+        long overdue = todos.stream().filter(todo -> isOverdue(todo, now)).count();
+
+        return new UserRepository.SummaryCounts() {
+            public long getPosts() { return posts; }
+            public long getAlbums() { return albums; }
+            public long getPhotos() { return photos; }
+            public long getComments() { return comments; }
+            public long getTodos() { return todos.size(); }
+            public long getCompletedTodos() { return completed; }
+            public long getOverdueTodos() { return overdue; }
+        };
+    }
+
+    // Base + overlay: tira do base o que foi apagado, alterado (a versão nova vem do overlay)
+    // ou perdeu um pai; acrescenta as linhas do overlay que atendem ao critério. Ordem por ID.
+    private static <T> List<T> merge(FixtureOverlay overlay, Kind<T> kind, List<T> base, Predicate<T> match) {
+        if (!affects(overlay, kind)) {
+            return base;
+        }
+        FixtureOverlay.Changes<T> changes = overlay.changes(kind.type());
+        List<T> merged = new ArrayList<>();
+        for (T row : base) {
+            Long id = kind.id().apply(row);
+            if ((changes == null || (!changes.deleted.contains(id) && !changes.upserts.containsKey(id)))
+                    && kind.parentsVisible().test(overlay, row)) {
+                merged.add(row);
+            }
+        }
+        if (changes != null && !changes.upserts.isEmpty()) {
+            for (T row : changes.upserts.values()) {
+                if (match.test(row) && kind.parentsVisible().test(overlay, row)) {
+                    merged.add(row);
+                }
+            }
+            merged.sort(Comparator.comparing(kind.id()));
+        }
+        return merged;
+    }
+
+    // O overlay mexe na tabela ou em algum pai dela?
+    private static boolean affects(FixtureOverlay overlay, Kind<?> kind) {
+        if (overlay == null || overlay.isEmpty()) {
+            return false;
+        }
+        if (overlay.changes(kind.type()) != null) {
+            return true;
+        }
+        for (Class<?> parent : kind.parents()) {
+            if (overlay.changes(parent) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDeleted(FixtureOverlay overlay, Class<?> type, Long id) {
+        FixtureOverlay.Changes<?> changes = overlay.changes(type);
+        return changes != null && changes.deleted.contains(id);
+    }
+
+    // Versão atual (overlay ou base) de um pai referenciado por uma linha
+    private static <T> T current(FixtureOverlay overlay, Class<T> type, Long id, T referenced) {
+        FixtureOverlay.Changes<T> changes = overlay.changes(type);
+        return changes != null ? changes.upserts.getOrDefault(id, referenced) : referenced;
+    }
+
+    private static boolean visible(FixtureOverlay overlay, User user) {
+        return user == null || !isDeleted(overlay, User.class, user.getId());
+    }
+
+    private static boolean visible(FixtureOverlay overlay, Post post) {
+        return post == null || (!isDeleted(overlay, Post.class, post.getId())
+                && visible(overlay, current(overlay, Post.class, post.getId(), post).getUser()));
+    }
+
+    private static boolean visible(FixtureOverlay overlay, Album album) {
+        return album == null || (!isDeleted(overlay, Album.class, album.getId())
+                && visible(overlay, current(overlay, Album.class, album.getId(), album).getUser()));
+    }
+
+    private static <T> Optional<T> findById(FixtureOverlays overlays, Kind<T> kind, FixtureTable<T> table, Long id) {
+        FixtureOverlay overlay = overlays.current();
+        Optional<T> found;
+        if (!affects(overlay, kind)) {
+            found = table.findById(id);
+        } else {
+            FixtureOverlay.Changes<T> changes = overlay.changes(kind.type());
+            if (changes != null && changes.deleted.contains(id)) {
+                found = Optional.empty();
+            } else if (changes != null && changes.upserts.containsKey(id)) {
+                found = Optional.ofNullable(changes.upserts.get(id));
+            } else {
+                found = table.findById(id);
+            }
+            found = found.filter(row -> kind.parentsVisible().test(overlay, row));
+        }
+        // Em escritas o service altera a entidade antes do save: entrega uma cópia
+        return overlays.isWriting() ? found.map(row -> copy(kind, row)) : found;
+    }
+
+    private static <T> T copy(Kind<T> kind, T row) {
+        T copy = BeanUtils.instantiateClass(kind.type());
+        BeanUtils.copyProperties(row, copy);
+        return copy;
+    }
+
+    private static <T> T save(FixtureOverlays overlays, Kind<T> kind, FixtureTable<T> table, T entity) {
+        FixtureOverlay overlay = writableOverlay(overlays, kind);
+        FixtureOverlay.Changes<T> changes = overlay.changesForWrite(kind.type(), table.maxId() + 1);
+
+        Long id = kind.id().apply(entity);
+        if (id == null) {
+            id = changes.nextId.getAndIncrement();
+            kind.setId().accept(entity, id);
+            callback(entity, PrePersist.class);
+        } else {
+            callback(entity, PreUpdate.class);
+        }
+        changes.deleted.remove(id);
+        changes.upserts.put(id, entity);
+        return entity;
+    }
+
+    private static <T> void deleteById(FixtureOverlays overlays, Kind<T> kind, FixtureTable<T> table, Long id) {
+        FixtureOverlay.Changes<T> changes = writableOverlay(overlays, kind).changesForWrite(kind.type(), table.maxId() + 1);
+        changes.upserts.remove(id);
+        changes.deleted.add(id);
+    }
+
+    private static FixtureOverlay writableOverlay(FixtureOverlays overlays, Kind<?> kind) {
+        FixtureOverlay overlay = overlays.current();
+        if (overlay == null || !overlays.isWriting()) {
+            throw new UnsupportedOperationException("Modo fixture é somente leitura fora de uma requisição de escrita: "
+                    + kind.type().getSimpleName());
+        }
+        return overlay;
+    }
+
+    private static void callback(Object entity, Class<? extends Annotation> annotation) {
+        Optional<Method> method = callbacks.computeIfAbsent(entity.getClass().getName() + "@" + annotation.getSimpleName(), key -> {
+            for (Method candidate : entity.getClass().getDeclaredMethods()) {
+                if (candidate.isAnnotationPresent(annotation)) {
+                    candidate.setAccessible(true);
+                    return Optional.of(candidate);
+                }
+            }
+            return Optional.empty();
+        });
+        if (method.isPresent()) {
+            try {
+                method.get().invoke(entity);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Falha no callback " + annotation.getSimpleName() + " de "
+                        + entity.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static <T> List<T> optionalList(T row) {
+        return row != null ? List.of(row) : List.of();
+    }
+
+    private static Object list(List<?> rows, Object[] args) {
+        return rows;
+    }
+
+    private static Object first(List<?> rows, Object[] args) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    private static Object exists(List<?> rows, Object[] args) {
+        return !rows.isEmpty();
+    }
+
+    private static Object count(List<?> rows, Object[] args) {
+        return (long) rows.size();
+    }
+
+    private static <T> BiFunction<List<T>, Object[], Object> page(FixtureTable<T> table, int pageableIndex) {
+        return (rows, args) -> table.page(rows, (Pageable) args[pageableIndex]);
+    }
+
+    private static Pageable latestOrder(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    private static Page<Post> latest(Page<Post> latest, Pageable pageable) {
+        return new PageImpl<>(latest.getContent(), pageable, latest.getTotalElements());
+    }
+
+    private static boolean isOverdue(Todo todo, LocalDateTime now) {
+        return !Boolean.TRUE.equals(todo.getCompleted()) && todo.getDueDate() != null && todo.getDueDate().isBefore(now);
+    }
+
+    // Pendente com dueDate em [from, to] (to == null: sem limite superior)
+    private static boolean isPendingBetween(Todo todo, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime dueDate = todo.getDueDate();
+        return !Boolean.TRUE.equals(todo.getCompleted()) && dueDate != null
+                && !dueDate.isBefore(from) && (to == null || !dueDate.isAfter(to));
+    }
+
+    // LIKE '%termo%' sem diferenciar maiúsculas, sem alocar
+    private static boolean contains(String value, String term) {
+        if (value == null || term == null) {
+            return false;
+        }
+        int max = value.length() - term.length();
+        for (int i = 0; i <= max; i++) {
+            if (value.regionMatches(true, i, term, 0, term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> List<T> limit(List<T> rows, Comparator<T> order, Limit limit) {
+        return rows.stream()
+                .sorted(order)
+                .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+                .toList();
+    }
+
+    // Proxy da interface: métodos do CrudRepository/PagingAndSortingRepository sobre a tabela + overlay,
+    // consultas derivadas pelo mapa (chave: nome(TiposSimples)); o que não está mapeado não existe aqui
+    private static <R, T> R repository(Class<R> type, Kind<T> kind, FixtureTable<T> table, FixtureOverlays overlays,
+                                       Map<String, Query<T>> queries, Map<String, Function<Object[], Object>> custom) {
+        Map<String, Function<Object[], Object>> methods = new HashMap<>(custom);
+        queries.forEach((signature, query) -> methods.put(signature, args -> {
+            FixtureOverlay overlay = overlays.current();
+            if (!affects(overlay, kind)) {
+                return query.fast() != null ? query.fast().apply(args) : query.result().apply(query.base().apply(args), args);
+            }
+            List<T> rows = merge(overlay, kind, query.base().apply(args), row -> query.match().test(row, args));
+            return query.result().apply(rows, args);
+        }));
+
+        Function<Object[], List<T>> all = args -> merge(overlays.current(), kind, table.all(), row -> true);
+        methods.put("findAll()", all::apply);
+        methods.put("findAll(Pageable)", args -> affects(overlays.current(), kind)
+                ? table.page(all.apply(args), (Pageable) args[0])
+                : table.page((Pageable) args[0]));
+        methods.put("count()", args -> affects(overlays.current(), kind) ? (long) all.apply(args).size() : (long) table.size());
+        methods.put("findById(Object)", args -> findById(overlays, kind, table, (Long) args[0]));
+        methods.put("getReferenceById(Object)", args -> findById(overlays, kind, table, (Long) args[0]).orElseThrow());
+        methods.put("existsById(Object)", args -> findById(overlays, kind, table, (Long) args[0]).isPresent());
+        methods.put("findAllById(Iterable)", args -> {
+            List<T> found = new ArrayList<>();
+            for (Long id : castIds(args[0])) {
+                findById(overlays, kind, table, id).ifPresent(found::add);
+            }
+            return found;
+        });
+
+        methods.put("save(Object)", args -> save(overlays, kind, table, kind.type().cast(args[0])));
+        methods.put("saveAndFlush(Object)", args -> save(overlays, kind, table, kind.type().cast(args[0])));
+        methods.put("delete(Object)", args -> {
+            deleteById(overlays, kind, table, kind.id().apply(kind.type().cast(args[0])));
+            return null;
+        });
+        methods.put("deleteById(Object)", args -> {
+            deleteById(overlays, kind, table, (Long) args[0]);
+            return null;
+        });
+        methods.put("flush()", args -> null);
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(type, proxy, method, args);
+            }
+            Function<Object[], Object> query = methods.get(signature(method));
+            if (query == null) {
+                throw new UnsupportedOperationException("Modo fixture: "
+                        + type.getSimpleName() + "." + method.getName() + " não disponível");
+            }
+            return query.apply(args != null ? args : new Object[0]);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static String signature(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        Class<?>[] parameters = method.getParameterTypes();
+        for (int i = 0; i < parameters.length; i++) {
+            signature.append(i > 0 ? "," : "").append(parameters[i].getSimpleName());
+        }
+        return signature.append(')').toString();
+    }
+
+    private static Object objectMethod(Class<?> type, Object proxy, Method method, Object[] args)
+            throws IllegalAccessException, InvocationTargetException {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Fixture" + type.getSimpleName();
+            default -> method.invoke(proxy, args);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterable<Long> castIds(Object ids) {
+        return (Iterable<Long>) ids;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+// Liga o overlay do cliente (pelo JWT) à requisição. Escritas sem overlay possível
+// (app.fixture.overlay.enabled=false, ou sem token, como o signup) são recusadas antes do service.
+// Interceptor, e não filtro, para valer também dentro do /batch.
+@Component
+@Profile("fixture")
+public class FixtureRequestInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    // POSTs que não escrevem: login e o envelope do lote (cada sub-requisição passa por aqui)
+    private static final Set<String> READ_POSTS = Set.of("/auth/login", "/batch");
+
+    @Autowired
+    private FixtureOverlays overlays;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        String method = request.getMethod();
+        boolean writing = !READ_METHODS.contains(method)
+                && !("POST".equals(method) && READ_POSTS.contains(request.getRequestURI()));
+
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        String client = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+
+        if (writing && (client == null || !overlays.isEnabled())) {
+            response.setStatus(HttpStatus.METHOD_NOT_ALLOWED.value());
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD, OPTIONS");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    new ApiResponse(false, "Modo fixture é somente leitura"));
+            return false;
+        }
+
+        if (client != null) {
+            overlays.bind(client, writing);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        overlays.unbind();
+    }
+}
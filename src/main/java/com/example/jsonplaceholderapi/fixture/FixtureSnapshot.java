@@ -0,0 +1,247 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import com.example.jsonplaceholderapi.bulk.BulkTable;
+import com.example.jsonplaceholderapi.bulk.SnapshotFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Leitura do snapshot binário (SnapshotFormat) via mmap: cada coluna é uma região mapeada
+// (somente leitura, sem cópia para o heap), lida linha a linha por um cursor que serve de
+// FixtureReader.Row. Só as strings viram objetos, uma vez por valor distinto da coluna.
+// Os bytes das strings podem passar do limite de 2 GB de um mapeamento: ficam fora da região da
+// coluna (data = posição no arquivo) e são mapeados em janelas na decodificação.
+final class FixtureSnapshot implements AutoCloseable {
+
+    private static final long STRING_WINDOW = 1L << 30;
+
+    private record Column(byte type, MappedByteBuffer buffer, long data) {}
+
+    private record Table(int rows, Map<String, Column> columns) {}
+
+    private final Path file;
+    private final FileChannel channel;
+    private final LocalDateTime snapshotAt;
+    private final Map<String, Table> tables = new HashMap<>();
+
+    FixtureSnapshot(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < SnapshotFormat.HEADER_SIZE + SnapshotFormat.TRAILER_SIZE) {
+                throw new IOException("Snapshot truncado: " + file);
+            }
+
+            ByteBuffer header = read(0, SnapshotFormat.HEADER_SIZE);
+            checkMagic(header);
+            int version = header.getInt();
+            if (version != SnapshotFormat.VERSION) {
+                throw new IOException("Versão de snapshot não suportada: " + version + " em " + file);
+            }
+            snapshotAt = SnapshotFormat.fromMicros(header.getLong());
+
+            ByteBuffer trailer = read(size - SnapshotFormat.TRAILER_SIZE, SnapshotFormat.TRAILER_SIZE);
+            long footerOffset = trailer.getLong();
+            checkMagic(trailer);
+
+            ByteBuffer footer = read(footerOffset, (int) (size - SnapshotFormat.TRAILER_SIZE - footerOffset));
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer.array()));
+            int tableCount = in.readInt();
+            for (int t = 0; t < tableCount; t++) {
+                String name = in.readUTF();
+                int rows = in.readInt();
+                int columnCount = in.readInt();
+                Map<String, Column> columns = new HashMap<>();
+                for (int c = 0; c < columnCount; c++) {
+                    String column = in.readUTF();
+                    byte type = in.readByte();
+                    long offset = in.readLong();
+                    long length = in.readLong();
+                    columns.put(column, column(type, offset, length, rows));
+                }
+                tables.put(name, new Table(rows, columns));
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // STRING: só o cabeçalho, os códigos e os offsets (int k, n ints, k + 1 longs)
+    private Column column(byte type, long offset, long length, int rows) throws IOException {
+        if (type != SnapshotFormat.STRING) {
+            return new Column(type, channel.map(FileChannel.MapMode.READ_ONLY, offset, length), -1);
+        }
+        int count = read(offset, Integer.BYTES).getInt();
+        long index = Integer.BYTES + (long) rows * Integer.BYTES + (count + 1L) * Long.BYTES;
+        return new Column(type, channel.map(FileChannel.MapMode.READ_ONLY, offset, index), offset + index);
+    }
+
+    LocalDateTime snapshotAt() {
+        return snapshotAt;
+    }
+
+    boolean contains(BulkTable table) {
+        return tables.containsKey(table.getTableName());
+    }
+
+    // A mesma instância de Row é reutilizada para todas as linhas
+    void read(BulkTable table, Consumer<FixtureReader.Row> consumer) {
+        Table snapshot = tables.get(table.getTableName());
+        if (snapshot == null) {
+            return;
+        }
+        Cursor cursor = new Cursor(channel, snapshot);
+        for (int row = 0; row < snapshot.rows(); row++) {
+            cursor.row = row;
+            consumer.accept(cursor);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Snapshot truncado: " + file);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private void checkMagic(ByteBuffer buffer) throws IOException {
+        byte[] magic = new byte[SnapshotFormat.MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, SnapshotFormat.MAGIC)) {
+            throw new IOException("Não é um snapshot: " + file);
+        }
+    }
+
+    private static final class Cursor implements FixtureReader.Row {
+
+        private final FileChannel channel;
+        private final Table table;
+        private final int bitmapSize;
+        private final Map<String, String[]> strings = new HashMap<>();
+        private int row;
+
+        Cursor(FileChannel channel, Table table) {
+            this.channel = channel;
+            this.table = table;
+            this.bitmapSize = SnapshotFormat.bitmapSize(table.rows());
+        }
+
+        @Override
+        public String get(String name) {
+            Column column = table.columns().get(name);
+            if (column == null) {
+                return null;
+            }
+            return switch (column.type()) {
+                case SnapshotFormat.STRING -> string(name, column);
+                case SnapshotFormat.BOOLEAN -> {
+                    Boolean value = getBoolean(name);
+                    yield value != null ? value.toString() : null;
+                }
+                case SnapshotFormat.TIMESTAMP -> {
+                    LocalDateTime value = getTimestamp(name);
+                    yield value != null ? value.toString() : null;
+                }
+                default -> {
+                    Long value = getLong(name);
+                    yield value != null ? value.toString() : null;
+                }
+            };
+        }
+
+        @Override
+        public Long getLong(String name) {
+            Column column = table.columns().get(name);
+            if (column == null || column.type() == SnapshotFormat.STRING) {
+                return FixtureReader.Row.super.getLong(name);
+            }
+            return isNull(column) ? null : column.buffer().getLong(bitmapSize + row * Long.BYTES);
+        }
+
+        @Override
+        public Boolean getBoolean(String name) {
+            Column column = table.columns().get(name);
+            if (column == null || column.type() != SnapshotFormat.BOOLEAN) {
+                return FixtureReader.Row.super.getBoolean(name);
+            }
+            return isNull(column) ? null : bit(column.buffer(), bitmapSize, row);
+        }
+
+        @Override
+        public LocalDateTime getTimestamp(String name) {
+            Column column = table.columns().get(name);
+            if (column == null || column.type() != SnapshotFormat.TIMESTAMP) {
+                return FixtureReader.Row.super.getTimestamp(name);
+            }
+            return isNull(column) ? null : SnapshotFormat.fromMicros(column.buffer().getLong(bitmapSize + row * Long.BYTES));
+        }
+
+        private boolean isNull(Column column) {
+            return bit(column.buffer(), 0, row);
+        }
+
+        private static boolean bit(ByteBuffer buffer, int base, int index) {
+            return (buffer.get(base + (index >> 3)) & (1 << (index & 7))) != 0;
+        }
+
+        private String string(String name, Column column) {
+            ByteBuffer buffer = column.buffer();
+            int code = buffer.getInt(Integer.BYTES + row * Integer.BYTES);
+            if (code < 0) {
+                return null;
+            }
+            return strings.computeIfAbsent(name, key -> decode(column))[code];
+        }
+
+        // Tabela de strings da coluna, decodificada na primeira leitura
+        private String[] decode(Column column) {
+            ByteBuffer buffer = column.buffer();
+            int count = buffer.getInt(0);
+            int offsets = Integer.BYTES + table.rows() * Integer.BYTES;
+            long total = buffer.getLong(offsets + count * Long.BYTES);
+            String[] values = new String[count];
+            try {
+                MappedByteBuffer window = null;
+                long windowStart = 0;
+                for (int i = 0; i < count; i++) {
+                    long start = buffer.getLong(offsets + i * Long.BYTES);
+                    long end = buffer.getLong(offsets + (i + 1) * Long.BYTES);
+                    if (window == null || end - windowStart > window.capacity()) {
+                        windowStart = start;
+                        long size = Math.min(total - start, Math.max(STRING_WINDOW, end - start));
+                        window = channel.map(FileChannel.MapMode.READ_ONLY, column.data() + start, size);
+                    }
+                    byte[] bytes = new byte[Math.toIntExact(end - start)];
+                    window.get((int) (start - windowStart), bytes);
+                    values[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return values;
+        }
+    }
+}
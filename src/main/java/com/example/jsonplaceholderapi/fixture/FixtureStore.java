@@ -0,0 +1,426 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import com.example.jsonplaceholderapi.bulk.BulkDataService;
+import com.example.jsonplaceholderapi.bulk.BulkFormat;
+import com.example.jsonplaceholderapi.bulk.BulkTable;
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+// Dataset inteiro em memória para o perfil "fixture" (API de demonstração/CI sem PostgreSQL).
+// Carregado uma vez na subida a partir de um diretório do export em massa (app.fixture.dir) ou de um
+// snapshot binário mapeado em memória (app.fixture.snapshot), e nunca alterado depois: entidades
+// ligadas entre si como o JPA entregaria, tabelas ordenadas por ID e índices pai -> filhos em int[]
+// (usuário -> posts/álbuns/tarefas, post -> comentários, álbum -> fotos).
+@Component
+@Profile("fixture")
+public class FixtureStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureStore.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.fixture.dir}")
+    private String directory;
+
+    // Snapshot binário (SnapshotService); se informado, tem precedência sobre app.fixture.dir
+    @Value("${app.fixture.snapshot}")
+    private String snapshot;
+
+    @Value("${app.fixture.catch-up.url}")
+    private String catchUpUrl;
+
+    @Value("${app.fixture.catch-up.username}")
+    private String catchUpUsername;
+
+    @Value("${app.fixture.catch-up.password}")
+    private String catchUpPassword;
+
+    @Value("${app.fixture.catch-up.overlap}")
+    private Duration catchUpOverlap;
+
+    private FixtureTable<User> users;
+    private FixtureTable<Post> posts;
+    private FixtureTable<Comment> comments;
+    private FixtureTable<Album> albums;
+    private FixtureTable<Photo> photos;
+    private FixtureTable<Todo> todos;
+
+    private FixtureIndex postsByUser;
+    private FixtureIndex commentsByPost;
+    private FixtureIndex commentsByUser;
+    private FixtureIndex albumsByUser;
+    private FixtureIndex photosByAlbum;
+    private FixtureIndex photosByUser;
+    private FixtureIndex todosByUser;
+
+    // Campos dos embeddables de User (Address/Company não são públicos), por posição
+    private String[] userCities;
+    private String[] userCompanies;
+    private Map<String, Integer> usersByUsername;
+    private Map<String, Integer> usersByEmail;
+
+    // De onde vêm as linhas de cada tabela: diretório do export em massa ou snapshot
+    private interface Source {
+        void read(BulkTable table, Consumer<FixtureReader.Row> consumer) throws IOException;
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        long start = System.nanoTime();
+        String origin;
+        if (snapshot.isBlank()) {
+            origin = directory;
+            load(directorySource(Path.of(directory)));
+        } else {
+            origin = snapshot;
+            try (FixtureSnapshot file = new FixtureSnapshot(Path.of(snapshot))) {
+                load(withCatchUp(snapshotSource(file), file.snapshotAt()));
+            }
+        }
+
+        log.info("Fixture carregado de {} em {} ms: {} usuários, {} posts, {} comentários, {} álbuns, {} fotos, {} tarefas",
+                origin, (System.nanoTime() - start) / 1_000_000, users.size(), posts.size(), comments.size(),
+                albums.size(), photos.size(), todos.size());
+    }
+
+    private void load(Source source) throws IOException {
+        Map<Long, String[]> userEmbeddables = new HashMap<>();
+        users = new FixtureTable<>(read(source, BulkTable.USERS, row -> {
+            User user = user(row);
+            userEmbeddables.put(user.getId(), new String[] {row.get("city"), row.get("company_name")});
+            return user;
+        }), User::getId, Map.of(
+                "id", User::getId,
+                "username", User::getUsername,
+                "email", User::getEmail,
+                "name", User::getName));
+
+        userCities = new String[users.size()];
+        userCompanies = new String[users.size()];
+        usersByUsername = new HashMap<>(users.size() * 2);
+        usersByEmail = new HashMap<>(users.size() * 2);
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.row(i);
+            String[] embeddables = userEmbeddables.get(user.getId());
+            userCities[i] = embeddables[0];
+            userCompanies[i] = embeddables[1];
+            usersByUsername.put(user.getUsername(), i);
+            usersByEmail.put(user.getEmail(), i);
+        }
+
+        posts = new FixtureTable<>(read(source, BulkTable.POSTS, row -> {
+            Post post = new Post();
+            post.setId(row.getLong("id"));
+            post.setTitle(row.get("title"));
+            post.setBody(row.get("body"));
+            post.setUser(userRow(row.getLong("user_id")));
+            post.setCreatedAt(row.getTimestamp("created_at"));
+            post.setUpdatedAt(row.getTimestamp("updated_at"));
+            return post;
+        }), Post::getId, Map.of(
+                "id", Post::getId,
+                "createdAt", Post::getCreatedAt,
+                "title", Post::getTitle));
+
+        albums = new FixtureTable<>(read(source, BulkTable.ALBUMS, row -> {
+            Album album = new Album();
+            album.setId(row.getLong("id"));
+            album.setTitle(row.get("title"));
+            album.setDescription(row.get("description"));
+            album.setUser(userRow(row.getLong("user_id")));
+            album.setCreatedAt(row.getTimestamp("created_at"));
+            album.setUpdatedAt(row.getTimestamp("updated_at"));
+            return album;
+        }), Album::getId, Map.of(
+                "id", Album::getId,
+                "createdAt", Album::getCreatedAt,
+                "title", Album::getTitle));
+
+        todos = new FixtureTable<>(read(source, BulkTable.TODOS, row -> {
+            Todo todo = new Todo();
+            todo.setId(row.getLong("id"));
+            todo.setTitle(row.get("title"));
+            todo.setDescription(row.get("description"));
+            todo.setCompleted(row.getBoolean("completed"));
+            todo.setPriority(row.get("priority") != null ? Todo.Priority.valueOf(row.get("priority")) : null);
+            todo.setDueDate(row.getTimestamp("due_date"));
+            todo.setUser(userRow(row.getLong("user_id")));
+            todo.setCreatedAt(row.getTimestamp("created_at"));
+            todo.setUpdatedAt(row.getTimestamp("updated_at"));
+            todo.setCompletedAt(row.getTimestamp("completed_at"));
+            return todo;
+        }), Todo::getId, Map.of(
+                "id", Todo::getId,
+                "createdAt", Todo::getCreatedAt,
+                "dueDate", Todo::getDueDate,
+                "priority", Todo::getPriority,
+                "title", Todo::getTitle));
+
+        comments = new FixtureTable<>(read(source, BulkTable.COMMENTS, row -> {
+            Comment comment = new Comment();
+            comment.setId(row.getLong("id"));
+            comment.setName(row.get("name"));
+            comment.setEmail(row.get("email"));
+            comment.setBody(row.get("body"));
+            comment.setPost(posts.findById(row.getLong("post_id")).orElse(null));
+            comment.setUser(userRow(row.getLong("user_id")));
+            comment.setCreatedAt(row.getTimestamp("created_at"));
+            comment.setUpdatedAt(row.getTimestamp("updated_at"));
+            return comment;
+        }), Comment::getId, Map.of(
+                "id", Comment::getId,
+                "createdAt", Comment::getCreatedAt));
+
+        photos = new FixtureTable<>(read(source, BulkTable.PHOTOS, row -> {
+            Photo photo = new Photo();
+            photo.setId(row.getLong("id"));
+            photo.setTitle(row.get("title"));
+            photo.setUrl(row.get("url"));
+            photo.setThumbnailUrl(row.get("thumbnail_url"));
+            photo.setAltText(row.get("alt_text"));
+            photo.setAlbum(albums.findById(row.getLong("album_id")).orElse(null));
+            photo.setUser(userRow(row.getLong("user_id")));
+            photo.setCreatedAt(row.getTimestamp("created_at"));
+            photo.setUpdatedAt(row.getTimestamp("updated_at"));
+            return photo;
+        }), Photo::getId, Map.of(
+                "id", Photo::getId,
+                "createdAt", Photo::getCreatedAt,
+                "title", Photo::getTitle));
+
+        postsByUser = index(users, posts, post -> id(post.getUser() != null ? post.getUser().getId() : null));
+        albumsByUser = index(users, albums, album -> id(album.getUser() != null ? album.getUser().getId() : null));
+        todosByUser = index(users, todos, todo -> id(todo.getUser() != null ? todo.getUser().getId() : null));
+        commentsByPost = index(posts, comments, comment -> id(comment.getPost() != null ? comment.getPost().getId() : null));
+        commentsByUser = index(users, comments, comment -> id(comment.getUser() != null ? comment.getUser().getId() : null));
+        photosByAlbum = index(albums, photos, photo -> id(photo.getAlbum() != null ? photo.getAlbum().getId() : null));
+        photosByUser = index(users, photos, photo -> id(photo.getUser() != null ? photo.getUser().getId() : null));
+
+        // Coleções que o JPA carregaria sob demanda: visões sobre os índices
+        for (int i = 0; i < posts.size(); i++) {
+            posts.row(i).setComments(commentsByPost.rows(i, comments));
+        }
+        for (int i = 0; i < albums.size(); i++) {
+            albums.row(i).setPhotos(photosByAlbum.rows(i, photos));
+        }
+    }
+
+    FixtureTable<User> users() { return users; }
+
+    FixtureTable<Post> posts() { return posts; }
+
+    FixtureTable<Comment> comments() { return comments; }
+
+    FixtureTable<Album> albums() { return albums; }
+
+    FixtureTable<Photo> photos() { return photos; }
+
+    FixtureTable<Todo> todos() { return todos; }
+
+    List<Post> postsOfUser(Long userId) {
+        return postsByUser.rows(users.positionOf(userId), posts);
+    }
+
+    List<Album> albumsOfUser(Long userId) {
+        return albumsByUser.rows(users.positionOf(userId), albums);
+    }
+
+    List<Todo> todosOfUser(Long userId) {
+        return todosByUser.rows(users.positionOf(userId), todos);
+    }
+
+    List<Comment> commentsOfPost(Long postId) {
+        return commentsByPost.rows(posts.positionOf(postId), comments);
+    }
+
+    List<Photo> photosOfAlbum(Long albumId) {
+        return photosByAlbum.rows(albums.positionOf(albumId), photos);
+    }
+
+    // Fotos dos álbuns do usuário (photos.user_id pode divergir do dono do álbum)
+    List<Photo> photosOfUserAlbums(Long userId) {
+        List<Photo> result = new ArrayList<>();
+        for (Album album : albumsOfUser(userId)) {
+            result.addAll(photosOfAlbum(album.getId()));
+        }
+        return result;
+    }
+
+    List<Comment> commentsOfUser(Long userId) {
+        return commentsByUser.rows(users.positionOf(userId), comments);
+    }
+
+    List<Photo> photosOfUser(Long userId) {
+        return photosByUser.rows(users.positionOf(userId), photos);
+    }
+
+    User userByUsername(String username) {
+        Integer position = usersByUsername.get(username);
+        return position != null ? users.row(position) : null;
+    }
+
+    User userByEmail(String email) {
+        Integer position = usersByEmail.get(email);
+        return position != null ? users.row(position) : null;
+    }
+
+    List<User> usersByCity(String city) {
+        return matches(userCities, city);
+    }
+
+    List<User> usersByCompany(String companyName) {
+        return matches(userCompanies, companyName);
+    }
+
+    private List<User> matches(String[] column, String value) {
+        List<User> matches = new ArrayList<>();
+        for (int i = 0; i < column.length; i++) {
+            if (value != null && value.equals(column[i])) {
+                matches.add(users.row(i));
+            }
+        }
+        return matches;
+    }
+
+    private static <T> List<T> read(Source source, BulkTable table, Function<FixtureReader.Row, T> mapper) throws IOException {
+        List<T> rows = new ArrayList<>();
+        source.read(table, row -> rows.add(mapper.apply(row)));
+        return rows;
+    }
+
+    private Source directorySource(Path root) throws IOException {
+        BulkFormat format = BulkDataService.formatOf(root, objectMapper);
+        FixtureReader reader = new FixtureReader(objectMapper);
+        return (table, consumer) -> {
+            for (Path file : BulkDataService.chunkFiles(root, table, format)) {
+                reader.read(file, format, consumer);
+            }
+            if (!Files.isDirectory(root.resolve(table.getTableName()))) {
+                log.warn("Fixture sem a tabela {} em {}", table.getTableName(), root);
+            }
+        };
+    }
+
+    private Source snapshotSource(FixtureSnapshot file) {
+        return (table, consumer) -> {
+            if (!file.contains(table)) {
+                log.warn("Snapshot {} sem a tabela {}", snapshot, table.getTableName());
+            }
+            file.read(table, consumer);
+        };
+    }
+
+    // Linhas alteradas depois do snapshot substituem as do arquivo (mesmo ID); as novas entram no fim
+    // (FixtureTable reordena). Sem app.fixture.catch-up.url, ou com o banco fora do ar, fica o snapshot.
+    private Source withCatchUp(Source source, LocalDateTime snapshotAt) {
+        if (catchUpUrl.isBlank()) {
+            return source;
+        }
+        LocalDateTime since = snapshotAt.minus(catchUpOverlap);
+        Map<BulkTable, List<FixtureReader.Row>> changed;
+        try {
+            changed = FixtureCatchUp.read(catchUpUrl, catchUpUsername, catchUpPassword, since);
+        } catch (SQLException e) {
+            log.warn("Catch-up do snapshot desde {} falhou, servindo só o snapshot: {}", since, e.getMessage());
+            return source;
+        }
+        log.info("Catch-up do snapshot desde {}: {}", since, changed.entrySet().stream()
+                .map(entry -> entry.getKey().getTableName() + "=" + entry.getValue().size())
+                .collect(Collectors.joining(", ")));
+
+        return (table, consumer) -> {
+            List<FixtureReader.Row> rows = changed.getOrDefault(table, List.of());
+            Set<Long> ids = new HashSet<>();
+            for (FixtureReader.Row row : rows) {
+                ids.add(row.getLong("id"));
+            }
+            source.read(table, row -> {
+                if (ids.isEmpty() || !ids.contains(row.getLong("id"))) {
+                    consumer.accept(row);
+                }
+            });
+            rows.forEach(consumer);
+        };
+    }
+
+    // parentOf de cada filho, resolvido para a posição do pai
+    private static <P, C> FixtureIndex index(FixtureTable<P> parents, FixtureTable<C> children, ToLongFunction<C> parentId) {
+        int[] parentOf = new int[children.size()];
+        for (int i = 0; i < parentOf.length; i++) {
+            long id = parentId.applyAsLong(children.row(i));
+            parentOf[i] = id > 0 ? parents.positionOf(id) : -1;
+        }
+        return new FixtureIndex(parents.size(), parentOf);
+    }
+
+    private static long id(Long id) {
+        return id != null ? id : -1;
+    }
+
+    // User via JSON: Address, Geo e Company só são construíveis dentro do pacote entity
+    private User user(FixtureReader.Row row) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", row.getLong("id"));
+        node.put("name", row.get("name"));
+        node.put("username", row.get("username"));
+        node.put("email", row.get("email"));
+        node.put("password", row.get("password"));
+        node.put("phone", row.get("phone"));
+        node.put("website", row.get("website"));
+
+        ObjectNode address = node.putObject("address");
+        address.put("street", row.get("street"));
+        address.put("suite", row.get("suite"));
+        address.put("city", row.get("city"));
+        address.put("zipcode", row.get("zipcode"));
+        ObjectNode geo = address.putObject("geo");
+        geo.put("lat", row.get("lat"));
+        geo.put("lng", row.get("lng"));
+
+        ObjectNode company = node.putObject("company");
+        company.put("name", row.get("company_name"));
+        company.put("catchPhrase", row.get("company_catch_phrase"));
+        company.put("bs", row.get("company_bs"));
+
+        try {
+            return objectMapper.treeToValue(node, User.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Usuário inválido no fixture: " + row.get("id"), e);
+        }
+    }
+
+    private User userRow(Long id) {
+        return id != null ? users.findById(id).orElse(null) : null;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.jsonplaceholderapi.fixture;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+// Tabela imutável em memória: linhas ordenadas por ID, busca binária sobre um long[].
+// "Posição" é o índice da linha no array; os índices (FixtureIndex) guardam posições.
+final class FixtureTable<T> {
+
+    private final long[] ids;
+    private final T[] rows;
+    private final Map<String, Function<T, Comparable<?>>> sortKeys;
+
+    // Ordem completa da tabela por Sort (ex.: "createdAt: DESC,id: DESC"), calculada na primeira página
+    private final Map<String, int[]> sortedPositions = new ConcurrentHashMap<>();
+
+    FixtureTable(List<T> rows, ToLongFunction<T> id, Map<String, Function<T, Comparable<?>>> sortKeys) {
+        List<T> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingLong(id));
+
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) sorted.toArray();
+        this.rows = array;
+        this.ids = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            ids[i] = id.applyAsLong(array[i]);
+        }
+        this.sortKeys = sortKeys;
+    }
+
+    int size() {
+        return rows.length;
+    }
+
+    // Maior ID da tabela (0 se vazia): IDs criados no overlay começam depois dele
+    long maxId() {
+        return ids.length > 0 ? ids[ids.length - 1] : 0;
+    }
+
+    T row(int position) {
+        return rows[position];
+    }
+
+    // Posição do ID, ou -1
+    int positionOf(Long id) {
+        if (id == null) {
+            return -1;
+        }
+        int position = Arrays.binarySearch(ids, id);
+        return position >= 0 ? position : -1;
+    }
+
+    Optional<T> findById(Long id) {
+        int position = positionOf(id);
+        return position >= 0 ? Optional.of(rows[position]) : Optional.empty();
+    }
+
+    List<T> findAllById(Iterable<Long> requested) {
+        List<T> found = new ArrayList<>();
+        for (Long id : requested) {
+            int position = positionOf(id);
+            if (position >= 0) {
+                found.add(rows[position]);
+            }
+        }
+        return found;
+    }
+
+    List<T> all() {
+        return Collections.unmodifiableList(Arrays.asList(rows));
+    }
+
+    // Linhas nas posições dadas (visão, sem cópia)
+    List<T> view(int[] positions, int from, int to) {
+        return new PositionList(positions, from, to);
+    }
+
+    List<T> filter(Predicate<T> predicate) {
+        List<T> matches = new ArrayList<>();
+        for (T row : rows) {
+            if (predicate.test(row)) {
+                matches.add(row);
+            }
+        }
+        return matches;
+    }
+
+    // Página da tabela inteira
+    Page<T> page(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all());
+        }
+        Sort sort = pageable.getSort();
+        int from = (int) Math.min(pageable.getOffset(), rows.length);
+        int to = Math.min(from + pageable.getPageSize(), rows.length);
+
+        if (sort.isUnsorted() || isIdAscending(sort)) {
+            return new PageImpl<>(List.of(Arrays.copyOfRange(rows, from, to)), pageable, rows.length);
+        }
+        int[] order = sortedPositions.computeIfAbsent(sort.toString(), key -> sortPositions(sort));
+        return new PageImpl<>(new ArrayList<>(view(order, from, to)), pageable, rows.length);
+    }
+
+    // Página de um subconjunto (ex.: posts de um usuário), já em ordem de ID
+    Page<T> page(List<T> subset, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(subset);
+        }
+        List<T> ordered = subset;
+        Sort sort = pageable.getSort();
+        if (sort.isSorted() && !isIdAscending(sort)) {
+            ordered = new ArrayList<>(subset);
+            ordered.sort(comparator(sort));
+        }
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        return new PageImpl<>(new ArrayList<>(ordered.subList(from, to)), pageable, ordered.size());
+    }
+
+    private int[] sortPositions(Sort sort) {
+        Comparator<T> comparator = comparator(sort);
+        Integer[] positions = new Integer[rows.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (a, b) -> comparator.compare(rows[a], rows[b]));
+        return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+    }
+
+    // Mesma semântica do PostgreSQL: NULL por último em ASC, primeiro em DESC
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<T> comparator(Sort sort) {
+        Comparator<T> comparator = null;
+        for (Sort.Order order : sort) {
+            Function<T, Comparable<?>> key = sortKeys.get(order.getProperty());
+            if (key == null) {
+                throw new IllegalArgumentException("Ordenação não suportada no modo fixture: " + order.getProperty());
+            }
+            Comparator<T> next = Comparator.comparing((Function) key, Comparator.nullsLast(Comparator.naturalOrder()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static boolean isIdAscending(Sort sort) {
+        Sort.Order first = sort.iterator().next();
+        return first.getProperty().equals("id") && first.isAscending();
+    }
+
+    private final class PositionList extends AbstractList<T> implements RandomAccess {
+
+        private final int[] positions;
+        private final int from;
+        private final int to;
+
+        PositionList(int[] positions, int from, int to) {
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return rows[positions[from + index]];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
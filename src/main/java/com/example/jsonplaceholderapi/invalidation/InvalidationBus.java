@@ -0,0 +1,236 @@
+package com.example.jsonplaceholderapi.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Invalidação de caches locais entre réplicas, só com o PostgreSQL como infraestrutura comum.
+// publish() é chamado depois do commit (ouvintes @TransactionalEventListener): invalida aqui na hora
+// e enfileira a chave; a thread "invalidation-notify" junta as chaves de app.invalidation.flush-interval-ms
+// e manda um NOTIFY por rajada. Cada nó recebe pelo InvalidationListener (conexão própria com LISTEN).
+// Payload: "nó|namespace:chave,namespace:chave"; o próprio nó ignora o que enviou.
+// Namespace com mais de max-keys-per-namespace chaves na rajada vira "*" (esvaziar tudo).
+// Sem NOTIFY (falha ao enviar, ouvinte desconectado) os caches dependem do TTL de cada um.
+@Component
+public class InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    // Limite do payload do NOTIFY é 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    // Sem banco (perfil fixture) só há invalidação local
+    @Autowired(required = false)
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.invalidation.enabled}")
+    private boolean enabled;
+
+    @Value("${app.invalidation.channel}")
+    private String channel;
+
+    @Value("${app.invalidation.flush-interval-ms}")
+    private long flushIntervalMs;
+
+    @Value("${app.invalidation.max-keys-per-namespace}")
+    private int maxKeysPerNamespace;
+
+    @Value("${app.invalidation.queue-size}")
+    private int queueSize;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    // Os caches se registram na subida (register), não por injeção: eles mesmos dependem do barramento
+    private final Map<String, InvalidationTarget> targets = new ConcurrentHashMap<>();
+
+    private BlockingQueue<String> queue;
+
+    // Fila cheia: a próxima rajada esvazia todos os namespaces
+    private final AtomicBoolean overflow = new AtomicBoolean();
+
+    private Counter sent;
+    private Counter received;
+    private Counter failed;
+    private Thread worker;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    public void start() {
+        sent = keys("sent");
+        received = keys("received");
+        failed = Counter.builder("invalidation.notify.errors")
+                .description("Rajadas de invalidação que não chegaram ao banco")
+                .register(meterRegistry);
+
+        if (isRemote()) {
+            queue = new ArrayBlockingQueue<>(queueSize);
+            worker = Thread.ofPlatform().name("invalidation-notify").daemon().start(this::drain);
+        }
+    }
+
+    public boolean isRemote() {
+        return enabled && jdbcTemplate != null;
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    public void register(InvalidationTarget target) {
+        targets.put(target.namespace(), target);
+    }
+
+    // Invalida a chave neste nó e, com o barramento ligado, nos outros. Nunca bloqueia
+    public void publish(String namespace, String key) {
+        apply(namespace, key);
+        if (queue != null && !queue.offer(namespace + ":" + key)) {
+            overflow.set(true);
+        }
+    }
+
+    // Payload de um NOTIFY recebido pelo InvalidationListener
+    void receive(String payload) {
+        int bar = payload.indexOf('|');
+        if (bar < 0 || payload.substring(0, bar).equals(nodeId)) {
+            return;
+        }
+        for (String entry : payload.substring(bar + 1).split(",")) {
+            int colon = entry.indexOf(':');
+            if (colon > 0) {
+                apply(entry.substring(0, colon), entry.substring(colon + 1));
+                received.increment();
+            }
+        }
+    }
+
+    // Notificações perdidas (ouvinte caiu, reconectou): não dá para saber quais, esvazia tudo
+    void invalidateAll() {
+        for (InvalidationTarget target : targets.values()) {
+            target.invalidate(InvalidationTarget.ALL);
+        }
+    }
+
+    private void apply(String namespace, String key) {
+        InvalidationTarget target = targets.get(namespace);
+        if (target == null) {
+            return;
+        }
+        try {
+            target.invalidate(key);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao invalidar {}:{}: {}", namespace, key, e.getMessage());
+        }
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>();
+        while (running) {
+            try {
+                batch.add(queue.take());
+                // Janela de coalescência: as chaves da rajada vão juntas
+                Thread.sleep(flushIntervalMs);
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+            }
+            queue.drainTo(batch);
+            try {
+                for (String payload : payloads(coalesce(batch))) {
+                    jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, channel, payload);
+                }
+                sent.increment(batch.size());
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Falha ao enviar {} invalidações (os outros nós dependem do TTL): {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    private Map<String, Set<String>> coalesce(List<String> batch) {
+        Map<String, Set<String>> byNamespace = new LinkedHashMap<>();
+        if (overflow.getAndSet(false)) {
+            for (String namespace : targets.keySet()) {
+                byNamespace.put(namespace, Set.of(InvalidationTarget.ALL));
+            }
+        }
+        for (String entry : batch) {
+            int colon = entry.indexOf(':');
+            Set<String> keys = byNamespace.computeIfAbsent(entry.substring(0, colon), namespace -> new LinkedHashSet<>());
+            if (keys.contains(InvalidationTarget.ALL)) {
+                continue;
+            }
+            String key = entry.substring(colon + 1);
+            if (key.equals(InvalidationTarget.ALL) || keys.size() >= maxKeysPerNamespace) {
+                byNamespace.put(entry.substring(0, colon), Set.of(InvalidationTarget.ALL));
+            } else {
+                keys.add(key);
+            }
+        }
+        return byNamespace;
+    }
+
+    private List<String> payloads(Map<String, Set<String>> byNamespace) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId).append('|');
+        int empty = payload.length();
+        for (Map.Entry<String, Set<String>> entry : byNamespace.entrySet()) {
+            for (String key : entry.getValue()) {
+                String item = entry.getKey() + ":" + key;
+                if (payload.length() > empty
+                        && payload.toString().getBytes(StandardCharsets.UTF_8).length + item.length() + 1 > MAX_PAYLOAD_BYTES) {
+                    payloads.add(payload.toString());
+                    payload.setLength(empty);
+                }
+                if (payload.length() > empty) {
+                    payload.append(',');
+                }
+                payload.append(item);
+            }
+        }
+        if (payload.length() > empty) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    private Counter keys(String direction) {
+        return Counter.builder("invalidation.keys")
+                .description("Chaves de invalidação trocadas com os outros nós")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(2000);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.jsonplaceholderapi.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// LISTEN no canal do InvalidationBus, na thread "invalidation-listen", com uma conexão JDBC só dela
+// (fora do pool: fica presa esperando notificações e não pode voltar para outro uso).
+// A cada heartbeat-ms sem notificações, um SELECT 1 detecta conexão morta. Caiu: reconecta a cada
+// reconnect-delay-ms; enquanto isso os caches daqui só expiram pelo TTL, e ao reconectar são
+// esvaziados (as notificações do intervalo se perderam).
+@Component
+@Profile("!fixture")
+@ConditionalOnProperty(name = "app.invalidation.enabled", havingValue = "true")
+public class InvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationListener.class);
+
+    @Autowired
+    private InvalidationBus bus;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${app.invalidation.reconnect-delay-ms}")
+    private long reconnectDelayMs;
+
+    @Value("${app.invalidation.heartbeat-ms}")
+    private int heartbeatMs;
+
+    private Counter reconnects;
+    private Thread worker;
+    private volatile boolean running = true;
+    private volatile boolean connected;
+
+    @PostConstruct
+    public void start() {
+        // O canal vai direto no LISTEN (não aceita parâmetro)
+        if (!bus.channel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("app.invalidation.channel inválido: " + bus.channel());
+        }
+        reconnects = Counter.builder("invalidation.listener.reconnects")
+                .description("Reconexões do ouvinte de invalidação")
+                .register(meterRegistry);
+        Gauge.builder("invalidation.listener.connected", this, listener -> listener.connected ? 1 : 0)
+                .description("1 se o ouvinte de invalidação está conectado (0: caches só expiram por TTL)")
+                .register(meterRegistry);
+
+        worker = Thread.ofPlatform().name("invalidation-listen").daemon().start(this::run);
+    }
+
+    private void run() {
+        boolean first = true;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                listen(connection, first);
+            } catch (SQLException e) {
+                if (connected || first) {
+                    log.warn("Ouvinte de invalidação desconectado (caches expiram só por TTL até reconectar): {}", e.getMessage());
+                }
+            }
+            connected = false;
+            first = false;
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException e) {
+                    // stop()
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection, boolean first) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + bus.channel());
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        connected = true;
+        if (!first) {
+            reconnects.increment();
+            bus.invalidateAll();
+            log.info("Ouvinte de invalidação reconectado; caches locais esvaziados");
+        }
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(heartbeatMs);
+            if (notifications == null || notifications.length == 0) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                bus.receive(notification.getParameter());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(2000);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.jsonplaceholderapi.invalidation;
+
+// Cache local que recebe invalidações do InvalidationBus (deste nó e dos outros).
+// As chaves são do próprio cache, dentro do namespace; "*" = esvaziar tudo.
+public interface InvalidationTarget {
+
+    String ALL = "*";
+
+    String namespace();
+
+    void invalidate(String key);
+}
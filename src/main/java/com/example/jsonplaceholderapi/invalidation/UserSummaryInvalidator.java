@@ -0,0 +1,101 @@
+package com.example.jsonplaceholderapi.invalidation;
+
+import com.example.jsonplaceholderapi.config.CacheConfig;
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Cache de resumos (UserSummaryService, chave "userId:limit") no InvalidationBus, namespace "summaries",
+// chave = ID do usuário. Qualquer escrita numa entidade do usuário muda o perfil ou as contagens;
+// carga em massa esvazia tudo. O expireAfterWrite do spring.cache.caffeine.spec continua valendo como teto.
+@Component
+public class UserSummaryInvalidator implements InvalidationTarget {
+
+    public static final String NAMESPACE = "summaries";
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @PostConstruct
+    public void init() {
+        invalidationBus.register(this);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.isBulk()) {
+            invalidationBus.publish(NAMESPACE, ALL);
+            return;
+        }
+        Long userId = ownerOf(event.entity());
+        if (userId != null) {
+            invalidationBus.publish(NAMESPACE, userId.toString());
+        }
+    }
+
+    // Escrita em massa: uma invalidação por dono, não por linha
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        Set<Long> owners = new LinkedHashSet<>();
+        for (Object entity : event.entities()) {
+            Long userId = ownerOf(entity);
+            if (userId != null) {
+                owners.add(userId);
+            }
+        }
+        for (Long userId : owners) {
+            invalidationBus.publish(NAMESPACE, userId.toString());
+        }
+    }
+
+    @Override
+    public String namespace() {
+        return NAMESPACE;
+    }
+
+    @Override
+    public void invalidate(String key) {
+        // spring.cache.type=none (perfil fixture): não há cache
+        Cache cache = cacheManager.getCache(CacheConfig.USER_SUMMARIES);
+        if (cache == null) {
+            return;
+        }
+        if (key.equals(ALL) || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine)) {
+            cache.clear();
+            return;
+        }
+        // Um resumo por limit pedido: remove todas as chaves do usuário
+        String prefix = key + ":";
+        caffeine.asMap().keySet().removeIf(cached -> cached.toString().startsWith(prefix));
+    }
+
+    private static Long ownerOf(Object entity) {
+        User user = switch (entity) {
+            case User owner -> owner;
+            case Post post -> post.getUser();
+            case Album album -> album.getUser();
+            case Photo photo -> photo.getUser();
+            case Comment comment -> comment.getUser();
+            case Todo todo -> todo.getUser();
+            case null, default -> null;
+        };
+        return user != null ? user.getId() : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.jsonplaceholderapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.jsonplaceholderapi.HttpRequest")
+@Label("HTTP Request")
+@Description("Requisição HTTP tratada por um controller")
+@Category({"JsonPlaceholder API", "HTTP"})
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    @Description("Padrão do mapeamento, ex.: /posts/{id}")
+    public String endpoint;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("User")
+    public String user;
+
+    @Label("Status")
+    public int status;
+}
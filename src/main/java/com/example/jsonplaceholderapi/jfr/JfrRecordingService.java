@@ -0,0 +1,96 @@
+package com.example.jsonplaceholderapi.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+// Gravação JFR contínua em buffer circular (perfil "default" do JDK, baixo overhead + eventos da API)
+// e dump sob demanda dos últimos N minutos.
+@Component
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+public class JfrRecordingService {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingService.class);
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    @Value("${app.jfr.max-age-minutes}")
+    private long maxAgeMinutes;
+
+    @Value("${app.jfr.max-size-mb}")
+    private long maxSizeMb;
+
+    @Value("${app.jfr.method-threshold-ms}")
+    private long methodThresholdMs;
+
+    @Value("${app.jfr.dump-dir}")
+    private String dumpDir;
+
+    private Recording recording;
+
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName("jsonplaceholder-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+
+        recording.enable(HttpRequestEvent.class).withoutStackTrace();
+        recording.enable(ServiceCallEvent.class).withThreshold(Duration.ofMillis(methodThresholdMs)).withoutStackTrace();
+        recording.enable(RepositoryCallEvent.class).withThreshold(Duration.ofMillis(methodThresholdMs)).withoutStackTrace();
+
+        recording.start();
+        log.info("Gravação JFR contínua iniciada (últimos {} min, até {} MB)", maxAgeMinutes, maxSizeMb);
+    }
+
+    // Gravar os últimos N minutos em um arquivo .jfr
+    public Path dump(int minutes) throws IOException {
+        if (minutes < 1 || minutes > maxAgeMinutes) {
+            throw new IllegalArgumentException("Minutos devem estar entre 1 e " + maxAgeMinutes);
+        }
+
+        Path directory = Files.createDirectories(Path.of(dumpDir));
+        Instant now = Instant.now();
+        Instant cutoff = now.minus(Duration.ofMinutes(minutes));
+        Path destination = directory.resolve("jsonplaceholder-" + FILE_TIMESTAMP.format(now) + "-" + minutes + "m.jfr");
+
+        Path snapshotFile = Files.createTempFile(directory, "snapshot-", ".jfr");
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            snapshot.dump(snapshotFile);
+            try (RecordingFile recordingFile = new RecordingFile(snapshotFile)) {
+                recordingFile.write(destination, event -> !event.getEndTime().isBefore(cutoff));
+            }
+        } finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+
+        log.info("Dump JFR dos últimos {} min gravado em {}", minutes, destination);
+        return destination;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
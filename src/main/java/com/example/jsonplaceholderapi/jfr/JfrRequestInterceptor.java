@@ -0,0 +1,48 @@
+package com.example.jsonplaceholderapi.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Evento JFR por requisição (endpoint, usuário, status)
+@Component
+public class JfrRequestInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = JfrRequestInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof HttpRequestEvent event)) {
+            return;
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            event.method = request.getMethod();
+            event.endpoint = pattern != null ? pattern.toString() : null;
+            event.uri = request.getRequestURI();
+            event.user = authentication != null && !(authentication instanceof AnonymousAuthenticationToken)
+                    ? authentication.getName() : null;
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.jsonplaceholderapi.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Eventos JFR para cada método de service e de repositório.
+// Se o evento não está habilitado na gravação, o custo é só a checagem isEnabled().
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+public class JfrTracingAspect {
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("within(com.example.jsonplaceholderapi.service..*)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryName(joinPoint.getThis());
+                event.method = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+
+    // Nome da interface do repositório (PostRepository), não do SimpleJpaRepository por trás do proxy
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+            return interfaces.length > 0 ? interfaces[0].getSimpleName() : type.getSimpleName();
+        });
+    }
+}
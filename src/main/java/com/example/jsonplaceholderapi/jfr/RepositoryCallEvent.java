@@ -0,0 +1,25 @@
+package com.example.jsonplaceholderapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.jsonplaceholderapi.RepositoryCall")
+@Label("Repository Call")
+@Description("Chamada a um método de repositório Spring Data")
+@Category({"JsonPlaceholder API", "Repository"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,25 @@
+package com.example.jsonplaceholderapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.jsonplaceholderapi.ServiceCall")
+@Label("Service Call")
+@Description("Chamada a um método de service")
+@Category({"JsonPlaceholder API", "Service"})
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
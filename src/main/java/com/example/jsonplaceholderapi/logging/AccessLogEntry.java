@@ -0,0 +1,7 @@
+package com.example.jsonplaceholderapi.logging;
+
+import java.time.Instant;
+
+// Linha do access log (serializada em JSON pela thread do AccessLogWriter)
+public record AccessLogEntry(Instant timestamp, String method, String uri, String endpoint,
+                             int status, double durationMs, String user, String ip) {}
@@ -0,0 +1,58 @@
+package com.example.jsonplaceholderapi.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+
+// Primeiro filtro da cadeia de segurança: vê também as respostas 429/503 dos limitadores
+// e ainda tem o usuário no SecurityContext quando a cadeia retorna.
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    @Autowired(required = false)
+    private AccessLogWriter accessLogWriter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Instant timestamp = Instant.now();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String user = authentication != null && !(authentication instanceof AnonymousAuthenticationToken)
+                    ? authentication.getName() : null;
+
+            accessLogWriter.submit(new AccessLogEntry(
+                    timestamp,
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    pattern != null ? pattern.toString() : null,
+                    response.getStatus(),
+                    (System.nanoTime() - start) / 1_000_000.0,
+                    user,
+                    request.getRemoteAddr()));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        // Desligado fora do perfil prod (app.access-log.enabled=false)
+        return accessLogWriter == null;
+    }
+}
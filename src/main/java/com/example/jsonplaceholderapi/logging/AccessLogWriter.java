@@ -0,0 +1,98 @@
+package com.example.jsonplaceholderapi.logging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Access log em JSON, uma linha por requisição.
+// A thread da requisição só enfileira os campos (fila limitada, descarta se cheia);
+// serialização e escrita acontecem na thread "access-log".
+@Component
+@ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true")
+public class AccessLogWriter {
+
+    // Logger dedicado: o logback-spring.xml manda para um appender só com a mensagem
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private static final int DRAIN_BATCH = 256;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.access-log.queue-size}")
+    private int queueSize;
+
+    private BlockingQueue<AccessLogEntry> queue;
+    private Counter dropped;
+    private Thread worker;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueSize);
+        dropped = Counter.builder("access.log.dropped")
+                .description("Linhas de access log descartadas com a fila cheia")
+                .register(meterRegistry);
+
+        worker = Thread.ofPlatform().name("access-log").daemon().start(this::drain);
+    }
+
+    // Chamado na thread da requisição: nunca bloqueia
+    public void submit(AccessLogEntry entry) {
+        if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        List<AccessLogEntry> batch = new ArrayList<>(DRAIN_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                if (!running) {
+                    queue.drainTo(batch);
+                } else {
+                    continue;
+                }
+            }
+            queue.drainTo(batch, DRAIN_BATCH - batch.size());
+            for (AccessLogEntry entry : batch) {
+                write(entry);
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(AccessLogEntry entry) {
+        try {
+            accessLog.info(objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            dropped.increment();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(2000);
+    }
+}
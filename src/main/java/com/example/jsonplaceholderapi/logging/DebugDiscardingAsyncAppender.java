@@ -0,0 +1,15 @@
+package com.example.jsonplaceholderapi.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+// AsyncAppender do perfil prod: com a fila perto do limite (discardingThreshold) descarta só
+// DEBUG/TRACE. INFO, WARN e ERROR nunca são descartados (o padrão do logback descarta até INFO).
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.jsonplaceholderapi.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// Timer por método de controller (inclui sub-requisições de /batch, que passam pelo DispatcherServlet)
+@Component
+public class ControllerTimingInterceptor implements HandlerInterceptor {
+
+    public static final String TIMER = "controller.requests";
+
+    private static final String SAMPLE_ATTRIBUTE = ControllerTimingInterceptor.class.getName() + ".sample";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(request.getAttribute(SAMPLE_ATTRIBUTE) instanceof Timer.Sample sample)) {
+            return;
+        }
+
+        sample.stop(Timer.builder(TIMER)
+                .description("Tempo de execução por método de controller")
+                .tag("controller", handlerMethod.getBeanType().getSimpleName())
+                .tag("method", handlerMethod.getMethod().getName())
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("exception", ex != null ? ex.getClass().getSimpleName() : "none")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.jsonplaceholderapi.metrics;
+
+import com.example.jsonplaceholderapi.config.ConcurrencyLimitedDataSource;
+import com.example.jsonplaceholderapi.security.AdaptiveConcurrencyLimiter;
+import com.example.jsonplaceholderapi.security.RateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Métricas dos limitadores: concorrência adaptativa, rate limit e fila de conexões
+@Component
+public class LimiterMetrics implements MeterBinder {
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    // Ausente no perfil fixture
+    @Autowired(required = false)
+    private DataSource dataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Load shedding
+        Gauge.builder("limiter.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Limite de concorrência adaptativo atual")
+                .register(registry);
+        Gauge.builder("limiter.concurrency.inflight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requisições em andamento")
+                .register(registry);
+        Gauge.builder("limiter.concurrency.rtt", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLongRttMillis)
+                .description("Latência de referência (média longa) em ms")
+                .baseUnit("milliseconds")
+                .register(registry);
+
+        // Rate limit
+        Gauge.builder("ratelimit.buckets", rateLimiter, RateLimiter::getBucketCount)
+                .description("Baldes ativos em memória")
+                .register(registry);
+        rateLimiter.getGroups().values().forEach(group -> {
+            FunctionCounter.builder("ratelimit.requests", group, RateLimiter.Group::getAllowed)
+                    .description("Requisições avaliadas pelo rate limit")
+                    .tags("group", group.name(), "result", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("ratelimit.requests", group, RateLimiter.Group::getRejected)
+                    .description("Requisições avaliadas pelo rate limit")
+                    .tags("group", group.name(), "result", "rejected")
+                    .register(registry);
+        });
+
+        // Limitador na frente do Hikari (perfil virtual)
+        ConcurrencyLimitedDataSource limited = limiterOf(dataSource);
+        if (limited != null) {
+            Gauge.builder("db.limiter.available", limited, ConcurrencyLimitedDataSource::getAvailablePermits)
+                    .description("Permissões livres para pegar conexão")
+                    .register(registry);
+            Gauge.builder("db.limiter.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                    .description("Threads aguardando permissão")
+                    .register(registry);
+        }
+    }
+
+    // O limitador pode estar embrulhado por outros DataSources (ex.: SlowQueryDataSource, por fora dele)
+    private static ConcurrencyLimitedDataSource limiterOf(DataSource dataSource) {
+        while (dataSource instanceof DelegatingDataSource delegating) {
+            if (delegating instanceof ConcurrencyLimitedDataSource limited) {
+                return limited;
+            }
+            dataSource = delegating.getTargetDataSource();
+        }
+        return null;
+    }
+}
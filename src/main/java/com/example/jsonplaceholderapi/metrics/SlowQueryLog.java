@@ -0,0 +1,187 @@
+package com.example.jsonplaceholderapi.metrics;
+
+import com.example.jsonplaceholderapi.dto.SlowQueryReport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Consultas acima de app.slow-query.threshold-ms, agrupadas por formato (SQL normalizado).
+// Na primeira ocorrência de cada formato o plano é capturado com EXPLAIN (sem ANALYZE, o
+// statement não é executado) em uma thread separada, com os parâmetros da própria execução.
+@Component
+public class SlowQueryLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final int MAX_BIND_LENGTH = 200;
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(select|with|insert|update|delete)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.slow-query.max-shapes}")
+    private int maxShapes;
+
+    @Value("${app.slow-query.explain}")
+    private boolean explainEnabled;
+
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor explainExecutor;
+
+    @PostConstruct
+    public void start() {
+        // Uma thread e fila curta: se acumular, o EXPLAIN é descartado (o formato fica sem plano)
+        explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100),
+                Thread.ofPlatform().name("slow-query-explain").daemon().factory(),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    // Chamado pelo SlowQueryDataSource na thread da requisição; explainDataSource não passa pelo proxy
+    public void record(String sql, Map<Integer, Object> binds, long elapsedNanos, DataSource explainDataSource) {
+        String shape = SqlStatementTracker.shapeOf(sql);
+        String endpoint = SqlStatementTracker.currentEndpoint();
+        SlowQueryReport.Sample sample = new SlowQueryReport.Sample(
+                Instant.now(), endpoint, elapsedNanos / 1_000_000.0, sql, describe(binds));
+
+        Counter.builder("sql.slow.statements")
+                .description("Statements SQL acima do limiar de consulta lenta")
+                .tag("endpoint", endpoint != null ? endpoint : "NONE")
+                .register(meterRegistry)
+                .increment();
+
+        Shape stats = shapes.get(shape);
+        if (stats == null) {
+            if (shapes.size() >= maxShapes) {
+                return;
+            }
+            Shape created = new Shape(shape);
+            stats = shapes.putIfAbsent(shape, created);
+            if (stats == null) {
+                stats = created;
+                log.warn("Nova consulta lenta ({} ms) em {}: {}",
+                        Math.round(sample.durationMs()), endpoint, sample.sql());
+                if (explainEnabled) {
+                    explainExecutor.execute(() -> explain(created, sql, binds, explainDataSource));
+                }
+            }
+        }
+        stats.add(sample, elapsedNanos);
+    }
+
+    // Os N formatos mais lentos; sort = total (tempo somado), max ou count
+    public List<SlowQueryReport> top(int limit, String sort) {
+        Comparator<SlowQueryReport> order = switch (sort) {
+            case "max" -> Comparator.comparingDouble(SlowQueryReport::maxMs);
+            case "count" -> Comparator.comparingLong(SlowQueryReport::count);
+            case "total" -> Comparator.comparingDouble(SlowQueryReport::totalMs);
+            default -> throw new IllegalArgumentException("Ordenação inválida: " + sort + " (use total, max ou count)");
+        };
+
+        List<SlowQueryReport> reports = new ArrayList<>(shapes.size());
+        for (Shape stats : shapes.values()) {
+            reports.add(stats.report());
+        }
+        reports.sort(order.reversed());
+        return reports.subList(0, Math.min(limit, reports.size()));
+    }
+
+    public void clear() {
+        shapes.clear();
+    }
+
+    @PreDestroy
+    public void stop() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void explain(Shape stats, String sql, Map<Integer, Object> binds, DataSource dataSource) {
+        if (!EXPLAINABLE.matcher(sql).find()) {
+            stats.planError = "Statement não suportado por EXPLAIN";
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE off, FORMAT JSON) " + sql)) {
+            for (Map.Entry<Integer, Object> bind : binds.entrySet()) {
+                statement.setObject(bind.getKey(), bind.getValue());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    stats.plan = resultSet.getString(1);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            stats.planError = e.getMessage();
+            log.debug("EXPLAIN falhou para [{}]: {}", stats.shape, e.getMessage());
+        }
+    }
+
+    private static List<String> describe(Map<Integer, Object> binds) {
+        List<String> values = new ArrayList<>(binds.size());
+        for (Object value : binds.values()) {
+            String text = String.valueOf(value);
+            values.add(text.length() > MAX_BIND_LENGTH ? text.substring(0, MAX_BIND_LENGTH) + "..." : text);
+        }
+        return values;
+    }
+
+    // Estatísticas de um formato (atualizadas sem lock)
+    private static class Shape {
+
+        private final String shape;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicReference<SlowQueryReport.Sample> slowest = new AtomicReference<>();
+        private final AtomicReference<SlowQueryReport.Sample> last = new AtomicReference<>();
+        private volatile String plan;
+        private volatile String planError;
+
+        Shape(String shape) {
+            this.shape = shape;
+        }
+
+        void add(SlowQueryReport.Sample sample, long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            last.set(sample);
+            if (maxNanos.getAndAccumulate(elapsedNanos, Math::max) < elapsedNanos) {
+                slowest.set(sample);
+            }
+        }
+
+        SlowQueryReport report() {
+            long executions = count.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new SlowQueryReport(shape, executions, totalMs,
+                    executions > 0 ? totalMs / executions : 0, maxNanos.get() / 1_000_000.0,
+                    slowest.get(), last.get(), plan, planError);
+        }
+    }
+}
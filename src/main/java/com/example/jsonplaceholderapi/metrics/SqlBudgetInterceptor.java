@@ -0,0 +1,94 @@
+package com.example.jsonplaceholderapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+// Fecha a contagem de SQL de cada requisição: métricas por endpoint, alerta de N+1 e de orçamento
+@Component
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetInterceptor.class);
+
+    private static final int MAX_LOGGED_SQL = 300;
+
+    @Autowired
+    private SqlStatementTracker tracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.sql.repeat-threshold}")
+    private int repeatThreshold;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        tracker.begin(endpointOf(request));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Requisição assíncrona: a thread volta ao pool, não pode levar a contagem junto
+        tracker.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlStatementTracker.RequestStatements statements = tracker.end();
+        if (statements == null) {
+            return;
+        }
+
+        String endpoint = statements.getEndpoint();
+        DistributionSummary.builder("sql.statements.per.request")
+                .description("Statements SQL executados por requisição")
+                .tag("endpoint", endpoint)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(statements.getCount());
+
+        // Mesmo SQL repetido muitas vezes na mesma requisição = carregamento lazy em laço
+        Map.Entry<String, Integer> mostRepeated = null;
+        for (Map.Entry<String, Integer> shape : statements.getShapes().entrySet()) {
+            if (mostRepeated == null || shape.getValue() > mostRepeated.getValue()) {
+                mostRepeated = shape;
+            }
+        }
+        if (mostRepeated != null && mostRepeated.getValue() >= repeatThreshold) {
+            Counter.builder("sql.nplusone.detected")
+                    .description("Requisições com o mesmo SQL repetido acima do limiar")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Possível N+1 em {}: {} execuções de [{}] ({} statements no total)",
+                    endpoint, mostRepeated.getValue(), truncate(mostRepeated.getKey()), statements.getCount());
+        }
+
+        if (statements.getCount() > tracker.getBudget()) {
+            log.warn("Orçamento de SQL excedido em {}: {} statements (máximo {})",
+                    endpoint, statements.getCount(), tracker.getBudget());
+        }
+    }
+
+    // "GET /posts/{id}" (padrão do mapeamento, não a URL concreta, para não explodir as tags)
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+    }
+
+    private String truncate(String sql) {
+        return sql.length() > MAX_LOGGED_SQL ? sql.substring(0, MAX_LOGGED_SQL) + "..." : sql;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.jsonplaceholderapi.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+// Conta os statements SQL da requisição corrente (uma por thread, inclusive sub-requisições de /batch).
+// Registrado no Hibernate como StatementInspector; não altera o SQL.
+@Component
+public class SqlStatementTracker implements StatementInspector {
+
+    // Amostra de SQL (sem parâmetros); statements lentos com parâmetros saem em org.hibernate.SQL_SLOW
+    private static final Logger sqlSample = LoggerFactory.getLogger("SQL_SAMPLE");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    @Value("${app.sql.budget}")
+    private int budget;
+
+    @Value("${app.sql.fail-on-budget-exceeded}")
+    private boolean failOnBudgetExceeded;
+
+    @Value("${app.sql.log-sample-rate}")
+    private double logSampleRate;
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatements statements = CURRENT.get();
+        if (statements != null) {
+            int count = statements.add(shapeOf(sql));
+            if (failOnBudgetExceeded && count > budget) {
+                throw new IllegalStateException("Orçamento de SQL excedido em " + statements.getEndpoint()
+                        + ": " + count + " statements (máximo " + budget + ")");
+            }
+        }
+        if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            sqlSample.info("[{}] {}", statements != null ? statements.getEndpoint() : "-", shapeOf(sql));
+        }
+        return sql;
+    }
+
+    // Início/fim da contagem para a requisição da thread atual
+    public void begin(String endpoint) {
+        CURRENT.set(new RequestStatements(endpoint));
+    }
+
+    public RequestStatements end() {
+        RequestStatements statements = CURRENT.get();
+        CURRENT.remove();
+        return statements;
+    }
+
+    public int getBudget() { return budget; }
+
+    // Endpoint da requisição da thread atual (null fora de requisição)
+    public static String currentEndpoint() {
+        RequestStatements statements = CURRENT.get();
+        return statements != null ? statements.getEndpoint() : null;
+    }
+
+    // SQL sem espaços extras e com listas IN colapsadas, para agrupar consultas iguais
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(shape).replaceAll("(?...)");
+    }
+
+    // Statements de uma requisição
+    public static class RequestStatements {
+
+        private final String endpoint;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int count;
+
+        RequestStatements(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        int add(String shape) {
+            shapes.merge(shape, 1, Integer::sum);
+            return ++count;
+        }
+
+        public String getEndpoint() { return endpoint; }
+
+        public int getCount() { return count; }
+
+        public Map<String, Integer> getShapes() { return shapes; }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.jsonplaceholderapi.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Sink de exemplo: uma linha JSON por evento no logger "outbox" (app.outbox.log-sink.enabled=true)
+@Component
+@ConditionalOnProperty(name = "app.outbox.log-sink.enabled", havingValue = "true")
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger("outbox");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws Exception {
+        for (OutboxEvent event : events) {
+            log.info(objectMapper.writeValueAsString(event));
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.jsonplaceholderapi.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Despacha o outbox em segundo plano: a cada app.outbox.poll-interval-ms, lotes de até
+// app.outbox.batch-size eventos, em ordem de ID, até esvaziar. Cada lote é lido com
+// FOR UPDATE SKIP LOCKED (réplicas dividem o trabalho sem entregar o mesmo lote duas vezes),
+// entregue aos ouvintes de OutboxEvent.Batch e aos OutboxSink e apagado na mesma transação.
+// Falha: o lote volta com espera exponencial; depois de app.outbox.max-attempts tentativas é descartado.
+@Component
+@Profile("!fixture")
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final RowMapper<OutboxEvent> EVENT = (resultSet, rowNum) -> new OutboxEvent(
+            resultSet.getLong("id"),
+            resultSet.getString("entity_type"),
+            resultSet.getObject("entity_id", Long.class),
+            resultSet.getString("action"),
+            resultSet.getTimestamp("created_at").toLocalDateTime());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired(required = false)
+    private List<OutboxSink> sinks = Collections.emptyList();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.outbox.enabled}")
+    private boolean enabled;
+
+    @Value("${app.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.retry-backoff-ms}")
+    private long retryBackoffMs;
+
+    @Value("${app.outbox.max-backoff-ms}")
+    private long maxBackoffMs;
+
+    // Idade do evento pendente mais antigo, em ms (0 com o outbox vazio)
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private Counter delivered;
+    private Counter retried;
+    private Counter dropped;
+    private Timer batchTimer;
+    private Timer deliveryLag;
+
+    @PostConstruct
+    public void init() {
+        delivered = events("delivered");
+        retried = events("retried");
+        dropped = events("dropped");
+        batchTimer = Timer.builder("outbox.batch")
+                .description("Tempo de entrega de um lote do outbox (ouvintes + sinks)")
+                .register(meterRegistry);
+        deliveryLag = Timer.builder("outbox.delivery.lag")
+                .description("Tempo entre a gravação do evento e a entrega")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Idade do evento pendente mais antigo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        // Lote cheio: provavelmente há mais
+        int claimed;
+        do {
+            claimed = dispatchBatch();
+        } while (claimed == batchSize);
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM outbox", LocalDateTime.class);
+        lagMillis.set(oldest != null ? Math.max(Duration.between(oldest, LocalDateTime.now()).toMillis(), 0) : 0);
+    }
+
+    // Número de eventos lidos (entregues ou devolvidos)
+    private int dispatchBatch() {
+        AtomicReference<List<OutboxEvent>> claimed = new AtomicReference<>(List.of());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<OutboxEvent> events = jdbcTemplate.query("""
+                        SELECT id, entity_type, entity_id, action, created_at FROM outbox
+                        WHERE available_at <= LOCALTIMESTAMP
+                        ORDER BY id
+                        LIMIT ?
+                        FOR UPDATE SKIP LOCKED
+                        """, EVENT, batchSize);
+                claimed.set(events);
+                if (events.isEmpty()) {
+                    return;
+                }
+                batchTimer.record(() -> deliver(events));
+                jdbcTemplate.update("DELETE FROM outbox WHERE id IN (" + placeholders(events.size()) + ")", ids(events));
+            });
+        } catch (RuntimeException e) {
+            List<OutboxEvent> events = claimed.get();
+            if (events.isEmpty()) {
+                log.warn("Falha ao ler o outbox: {}", e.getMessage());
+                return 0;
+            }
+            retry(events, e);
+            return events.size();
+        }
+
+        List<OutboxEvent> events = claimed.get();
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            deliveryLag.record(Duration.between(event.createdAt(), now));
+        }
+        delivered.increment(events.size());
+        return events.size();
+    }
+
+    private void deliver(List<OutboxEvent> events) {
+        eventPublisher.publishEvent(new OutboxEvent.Batch(events));
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.publish(events);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(sink.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    // Devolve o lote com espera exponencial (retry-backoff-ms * 2^tentativas, até max-backoff-ms)
+    // e descarta os eventos que esgotaram as tentativas
+    private void retry(List<OutboxEvent> events, RuntimeException cause) {
+        Object[] ids = ids(events);
+        String in = placeholders(events.size());
+        String error = String.valueOf(cause.getMessage());
+
+        List<Object> params = new ArrayList<>();
+        params.add(error);
+        params.add(retryBackoffMs / 1000.0);
+        params.add(maxBackoffMs / 1000.0);
+        Collections.addAll(params, ids);
+        jdbcTemplate.update("""
+                UPDATE outbox SET attempts = attempts + 1, last_error = ?,
+                    available_at = LOCALTIMESTAMP + make_interval(secs => LEAST(? * power(2, attempts), ?))
+                WHERE id IN (%s)
+                """.formatted(in), params.toArray());
+
+        List<Object> deleteParams = new ArrayList<>();
+        deleteParams.add(maxAttempts);
+        Collections.addAll(deleteParams, ids);
+        List<Long> exhausted = jdbcTemplate.queryForList(
+                "DELETE FROM outbox WHERE attempts >= ? AND id IN (" + in + ") RETURNING id", Long.class, deleteParams.toArray());
+
+        retried.increment(events.size() - exhausted.size());
+        dropped.increment(exhausted.size());
+        if (!exhausted.isEmpty()) {
+            log.error("Eventos do outbox descartados após {} tentativas: {} ({})", maxAttempts, exhausted, error);
+        } else {
+            log.warn("Falha ao entregar {} eventos do outbox, nova tentativa depois: {}", events.size(), error);
+        }
+    }
+
+    private Counter events(String result) {
+        return Counter.builder("outbox.events")
+                .description("Eventos do outbox processados pelo despachante")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::id).toArray();
+    }
+}
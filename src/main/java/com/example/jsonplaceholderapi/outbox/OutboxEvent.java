@@ -0,0 +1,13 @@
+package com.example.jsonplaceholderapi.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Um evento do outbox: tabela (posts, todos...), ID da entidade (null em carga em massa) e ação.
+// Só a identidade da mudança: quem precisa do estado atual o carrega na entrega.
+public record OutboxEvent(long id, String type, Long entityId, String action, LocalDateTime createdAt) {
+
+    // Lote entregue aos ouvintes em processo (@EventListener), fora de qualquer requisição.
+    // Entrega ao menos uma vez: um lote que falhou volta inteiro na próxima tentativa.
+    public record Batch(List<OutboxEvent> events) {}
+}
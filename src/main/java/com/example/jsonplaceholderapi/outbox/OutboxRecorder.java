@@ -0,0 +1,57 @@
+package com.example.jsonplaceholderapi.outbox;
+
+import com.example.jsonplaceholderapi.bulk.BulkTable;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Grava no outbox cada save/delete de repositório, na transação do service que fez a escrita
+// (PostService, CommentService, TodoService...): o evento existe se e somente se a escrita foi confirmada.
+// Cargas em massa viram um evento por tabela (entity_id NULL); escritas em massa (EntitiesChangedEvent),
+// uma linha por entidade num único batch.
+@Component
+@Profile("!fixture")
+public class OutboxRecorder {
+
+    private static final String INSERT = "INSERT INTO outbox (entity_type, entity_id, action) VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.outbox.enabled}")
+    private boolean enabled;
+
+    // Síncrono, dentro da transação da escrita (não é @TransactionalEventListener)
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        BulkTable table = BulkTable.forEntity(event.type());
+        if (table == null || (event.id() == null && !event.isBulk())) {
+            return;
+        }
+        jdbcTemplate.update(INSERT, table.getTableName(), event.id(), event.action().name());
+    }
+
+    @EventListener
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        BulkTable table = BulkTable.forEntity(event.type());
+        if (!enabled || table == null || event.size() == 0) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(event.size());
+        for (Long id : event.ids()) {
+            rows.add(new Object[]{table.getTableName(), id, event.action().name()});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+}
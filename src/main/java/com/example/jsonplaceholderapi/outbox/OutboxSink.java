@@ -0,0 +1,11 @@
+package com.example.jsonplaceholderapi.outbox;
+
+import java.util.List;
+
+// Destino externo dos eventos do outbox (webhook, fila, indexador). Qualquer bean que implemente
+// esta interface recebe cada lote depois dos ouvintes em processo; uma exceção devolve o lote
+// inteiro para nova tentativa, então a implementação deve tolerar eventos repetidos.
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -1,6 +1,7 @@
 package com.example.jsonplaceholderapi.repository;
 
 import com.example.jsonplaceholderapi.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +18,9 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findByUserId(Long userId);
     Page<Post> findByUserId(Long userId, Pageable pageable);
 
+    // Últimos posts do usuário (sem consulta de contagem)
+    List<Post> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
+
     // Buscar posts por título (contém)
     List<Post> findByTitleContainingIgnoreCase(String title);
 
@@ -1,14 +1,17 @@
 package com.example.jsonplaceholderapi.repository;
 
 import com.example.jsonplaceholderapi.entity.Todo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -40,4 +43,49 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     // Buscar todos com data limite próxima (próximos 7 dias)
     @Query("SELECT t FROM Todo t WHERE t.user.id = :userId AND t.completed = false AND t.dueDate BETWEEN :now AND :weekFromNow")
     List<Todo> findUpcomingTodos(@Param("userId") Long userId, @Param("now") LocalDateTime now, @Param("weekFromNow") LocalDateTime weekFromNow);
-}
\ No newline at end of file
+
+    // Próximos todos pendentes a partir de agora, limitados
+    List<Todo> findByUserIdAndCompletedFalseAndDueDateGreaterThanEqualOrderByDueDateAscIdAsc(Long userId, LocalDateTime now, Limit limit);
+
+    // Escritas em massa: um único UPDATE/DELETE ... RETURNING (PostgreSQL) que devolve as linhas afetadas.
+    // Completar segue Todo.markAsCompleted (completed_at = updated_at = now) e só pega as pendentes.
+    // As por usuário pegam no máximo :limit linhas (as de menor ID); quem chama repete enquanto vier cheio.
+    // Não passam pelo EntityChangeAspect: quem chama publica os eventos (ver TodoService)
+    @Transactional
+    @Query(value = """
+            UPDATE todos SET completed = true, completed_at = :now, updated_at = :now
+            WHERE completed = false AND id IN (
+                SELECT id FROM todos
+                WHERE user_id = :userId AND completed = false
+                  AND (CAST(:priority AS VARCHAR) IS NULL OR priority = CAST(:priority AS VARCHAR))
+                  AND (CAST(:dueBefore AS TIMESTAMP) IS NULL OR due_date < CAST(:dueBefore AS TIMESTAMP))
+                ORDER BY id
+                LIMIT :limit)
+            RETURNING *
+            """, nativeQuery = true)
+    List<Todo> bulkCompleteByUser(@Param("userId") Long userId, @Param("priority") String priority,
+                                  @Param("dueBefore") LocalDateTime dueBefore, @Param("now") LocalDateTime now,
+                                  @Param("limit") int limit);
+
+    @Transactional
+    @Query(value = """
+            UPDATE todos SET completed = true, completed_at = :now, updated_at = :now
+            WHERE id IN (:ids) AND completed = false
+            RETURNING *
+            """, nativeQuery = true)
+    List<Todo> bulkCompleteByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Query(value = """
+            DELETE FROM todos
+            WHERE completed = :completed AND id IN (
+                SELECT id FROM todos WHERE user_id = :userId AND completed = :completed ORDER BY id LIMIT :limit)
+            RETURNING *
+            """, nativeQuery = true)
+    List<Todo> bulkDeleteByUser(@Param("userId") Long userId, @Param("completed") Boolean completed,
+                                @Param("limit") int limit);
+
+    @Transactional
+    @Query(value = "DELETE FROM todos WHERE id IN (:ids) RETURNING *", nativeQuery = true)
+    List<Todo> bulkDeleteByIds(@Param("ids") Collection<Long> ids);
+}
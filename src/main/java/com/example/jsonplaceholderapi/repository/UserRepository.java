@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -30,4 +31,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Buscar usuários por empresa
     @Query("SELECT u FROM User u WHERE u.company.name = :companyName")
     Optional<User> findByCompanyName(@Param("companyName") String companyName);
-}
\ No newline at end of file
+
+    // Contagens do resumo do usuário em uma única consulta (uma varredura de índice por tabela)
+    @Query(value = """
+            SELECT p.total AS "posts", a.total AS "albums", ph.total AS "photos", c.total AS "comments",
+                   t.total AS "todos", t.completed AS "completedTodos", t.overdue AS "overdueTodos"
+            FROM (SELECT COUNT(*) AS total FROM posts WHERE user_id = :userId) p,
+                 (SELECT COUNT(*) AS total FROM albums WHERE user_id = :userId) a,
+                 (SELECT COUNT(*) AS total FROM photos WHERE user_id = :userId) ph,
+                 (SELECT COUNT(*) AS total FROM comments WHERE user_id = :userId) c,
+                 (SELECT COUNT(*) AS total,
+                         COUNT(*) FILTER (WHERE completed) AS completed,
+                         COUNT(*) FILTER (WHERE NOT completed AND due_date < :now) AS overdue
+                  FROM todos WHERE user_id = :userId) t
+            """, nativeQuery = true)
+    SummaryCounts countSummary(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    interface SummaryCounts {
+        long getPosts();
+        long getAlbums();
+        long getPhotos();
+        long getComments();
+        long getTodos();
+        long getCompletedTodos();
+        long getOverdueTodos();
+    }
+}
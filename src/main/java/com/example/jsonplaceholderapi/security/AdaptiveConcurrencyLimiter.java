@@ -0,0 +1,156 @@
+package com.example.jsonplaceholderapi.security;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Limite de concorrência adaptativo (gradiente sobre a latência observada, com recuo AIMD em erros).
+// A cada janela compara a latência curta (média da janela) com a latência longa (média móvel):
+// se a curta sobe, há fila em algum lugar (banco, CPU) e o limite diminui; se está estável, cresce.
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    // Classes de prioridade: as de menor prioridade só entram com folga maior
+    public enum Priority { CRITICAL, NORMAL, SHEDDABLE }
+
+    @Value("${app.limiter.initial-limit}")
+    private int initialLimit;
+
+    @Value("${app.limiter.min-limit}")
+    private int minLimit;
+
+    @Value("${app.limiter.max-limit}")
+    private int maxLimit;
+
+    @Value("${app.limiter.tolerance}")
+    private double tolerance;
+
+    @Value("${app.limiter.smoothing}")
+    private double smoothing;
+
+    @Value("${app.limiter.backoff-ratio}")
+    private double backoffRatio;
+
+    @Value("${app.limiter.window-ms}")
+    private long windowMs;
+
+    @Value("${app.limiter.normal-share}")
+    private double normalShare;
+
+    @Value("${app.limiter.sheddable-share}")
+    private double sheddableShare;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder rttCount = new LongAdder();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final ReentrantLock windowLock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile double longRtt;
+    private volatile boolean dropped;
+    private volatile long windowEnd;
+
+    @PostConstruct
+    public void init() {
+        limit = initialLimit;
+        windowEnd = System.nanoTime() + windowMs * 1_000_000L;
+    }
+
+    // Tentar ocupar uma vaga; false = rejeitar
+    public boolean tryAcquire(Priority priority) {
+        int currentLimit = getLimit();
+        int allowed = switch (priority) {
+            case CRITICAL -> currentLimit;
+            case NORMAL -> Math.max(1, (int) (currentLimit * normalShare));
+            case SHEDDABLE -> Math.max(1, (int) (currentLimit * sheddableShare));
+        };
+
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                maxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    // Liberar a vaga e registrar a latência (failed = resposta 5xx)
+    public void release(long rttNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        rttSum.add(rttNanos);
+        rttCount.increment();
+        if (failed) {
+            dropped = true;
+        }
+
+        long now = System.nanoTime();
+        if (now - windowEnd >= 0 && windowLock.tryLock()) {
+            try {
+                if (now - windowEnd >= 0) {
+                    updateLimit();
+                    windowEnd = now + windowMs * 1_000_000L;
+                }
+            } finally {
+                windowLock.unlock();
+            }
+        }
+    }
+
+    // Liberar sem amostra (ex.: requisição assíncrona de longa duração)
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    private void updateLimit() {
+        long count = rttCount.sumThenReset();
+        long sum = rttSum.sumThenReset();
+        int peakInFlight = maxInFlight.getAndSet(inFlight.get());
+        boolean hadDrop = dropped;
+        dropped = false;
+        if (count == 0) {
+            return;
+        }
+
+        double shortRtt = (double) sum / count;
+        double current = limit;
+
+        // Latência longa: média móvel lenta; se a curta ficar bem abaixo, converge mais rápido
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else if (shortRtt < longRtt / 2) {
+            longRtt = longRtt * 0.9 + shortRtt * 0.1;
+        } else {
+            longRtt = longRtt * 0.99 + shortRtt * 0.01;
+        }
+
+        double newLimit;
+        if (hadDrop) {
+            // Recuo multiplicativo imediato em erros
+            newLimit = current * backoffRatio;
+        } else if (peakInFlight < current / 2) {
+            // Pouca carga: não há sinal para crescer
+            return;
+        } else {
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+            double queueSize = Math.sqrt(current);
+            newLimit = current * (1 - smoothing) + (current * gradient + queueSize) * smoothing;
+        }
+
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    // Estado atual
+    public int getLimit() { return (int) limit; }
+
+    public int getInFlight() { return inFlight.get(); }
+
+    public double getLongRttMillis() { return longRtt / 1_000_000.0; }
+}
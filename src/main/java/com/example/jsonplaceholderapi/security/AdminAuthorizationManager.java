@@ -0,0 +1,37 @@
+package com.example.jsonplaceholderapi.security;
+
+import com.example.jsonplaceholderapi.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Acesso a /admin/**: usuários cujo ID está em app.admin.user-ids (vazio = ninguém).
+// O ID vem do usuário carregado do banco pelo filtro JWT, não do username, que qualquer um escolhe no signup
+@Component
+public class AdminAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    @Value("${app.admin.user-ids:}")
+    private Set<Long> adminUserIds;
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isAdmin(authentication.get()));
+    }
+
+    // Mesma regra para checagens dentro dos controllers (ex.: ler o feed de outro usuário)
+    public boolean isAdmin(Authentication authentication) {
+        return authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)
+                && authentication.getPrincipal() instanceof User user
+                && user.getId() != null
+                && adminUserIds.contains(user.getId());
+    }
+}
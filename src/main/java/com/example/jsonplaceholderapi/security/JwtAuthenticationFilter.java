@@ -29,14 +29,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        final String authorizationHeader = request.getHeader("Authorization");
-
         String username = null;
-        String jwt = null;
+        String jwt = tokenOf(request);
 
-        // Verificar se o header Authorization existe e começa com "Bearer "
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7); // Remove "Bearer "
+        if (jwt != null) {
             try {
                 username = jwtUtil.extractUsername(jwt);
             } catch (Exception e) {
@@ -70,6 +66,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Header Authorization: Bearer; nos streams SSE (GET .../stream) também ?token=, porque o
+    // EventSource do navegador não manda headers (como o /ws, ver JwtHandshakeInterceptor)
+    private static String tokenOf(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            return authorizationHeader.substring(7); // Remove "Bearer "
+        }
+        if ("GET".equals(request.getMethod()) && request.getRequestURI().endsWith("/stream")) {
+            return request.getParameter("token");
+        }
+        return null;
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
@@ -4,6 +4,10 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -23,6 +27,26 @@ public class JwtUtil {
     @Value("${app.jwt.expiration}")
     private Long expiration;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer parseTimer;
+    private Timer signTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        parseTimer = jwtTimer("parse");
+        signTimer = jwtTimer("sign");
+    }
+
+    private Timer jwtTimer(String operation) {
+        return Timer.builder("jwt.operations")
+                .description("Tempo de parsing/validação e assinatura de JWT")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
+
     // Gerar chave secreta
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(secret.getBytes());
@@ -46,11 +70,11 @@ public class JwtUtil {
 
     // Extrair todos os claims
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
+        return parseTimer.record(() -> Jwts.parser()
                 .verifyWith(getSigningKey())
                 .build()
                 .parseSignedClaims(token)
-                .getPayload();
+                .getPayload());
     }
 
     // Verificar se token expirou
@@ -72,13 +96,13 @@ public class JwtUtil {
 
     // Criar token
     private String createToken(Map<String, Object> claims, String subject) {
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSigningKey())
-                .compact();
+                .compact());
     }
 
     // Validar token
@@ -0,0 +1,110 @@
+package com.example.jsonplaceholderapi.security;
+
+import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Rejeita rápido (503 + Retry-After) quando a concorrência passa do limite adaptativo,
+// em vez de enfileirar até todas as requisições estourarem o timeout.
+// Ordem de descarte: /all e buscas primeiro, depois leituras; /auth/** e escritas por último.
+@Component
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.limiter.enabled}")
+    private boolean enabled;
+
+    @Value("${app.limiter.retry-after-seconds}")
+    private int retryAfterSeconds;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        AdaptiveConcurrencyLimiter.Priority priority = classify(request);
+        if (!limiter.tryAcquire(priority)) {
+            reject(response, priority);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Requisição longa (SSE etc.): não entra na amostra de latência
+                limiter.release();
+            } else {
+                limiter.release(System.nanoTime() - start, failed);
+            }
+        }
+    }
+
+    // Caminho sem o context path (server.servlet.context-path), o mesmo da classificação e das exceções
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    // Classe de prioridade da requisição
+    private AdaptiveConcurrencyLimiter.Priority classify(HttpServletRequest request) {
+        String path = pathOf(request);
+        String method = request.getMethod();
+
+        if (path.startsWith("/auth/")) {
+            return AdaptiveConcurrencyLimiter.Priority.CRITICAL;
+        }
+        if (path.endsWith("/all") || path.contains("/search")) {
+            return AdaptiveConcurrencyLimiter.Priority.SHEDDABLE;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return AdaptiveConcurrencyLimiter.Priority.NORMAL;
+        }
+        return AdaptiveConcurrencyLimiter.Priority.CRITICAL;
+    }
+
+    private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter.Priority priority) throws IOException {
+        // Classes descartadas primeiro também esperam mais para tentar de novo
+        int retryAfter = priority == AdaptiveConcurrencyLimiter.Priority.SHEDDABLE ? retryAfterSeconds * 2 : retryAfterSeconds;
+
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                new ApiResponse(false, "Servidor sobrecarregado, tente novamente em " + retryAfter + "s"));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        String path = pathOf(request);
+
+        // Health check, scrape de métricas e documentação nunca são descartados.
+        // /batch também não: cada sub-requisição passa por este filtro no BatchService, com a própria prioridade
+        return !enabled ||
+                path.equals("/batch") ||
+                path.startsWith("/actuator/health") ||
+                path.startsWith("/actuator/prometheus") ||
+                path.startsWith("/swagger-ui/") ||
+                path.startsWith("/v3/api-docs") ||
+                path.startsWith("/api-docs");
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.jsonplaceholderapi.security;
+
+import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Rate limiting por cliente: usuário do JWT quando autenticado, senão IP (login sempre por IP).
+// Roda depois do JwtAuthenticationFilter para saber quem é o usuário.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.ratelimit.enabled}")
+    private boolean enabled;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String path = pathOf(request);
+        RateLimiter.Rule rule = rateLimiter.resolve(path);
+        RateLimiter.Decision decision = rateLimiter.tryConsume(clientKey(request, rule), rule);
+
+        // Headers RateLimit-* (draft IETF) em toda resposta
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+        response.setHeader("RateLimit-Policy", decision.limit() + ";w=" + decision.windowSeconds());
+
+        if (!decision.allowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getOutputStream(),
+                    new ApiResponse(false, "Limite de requisições excedido, tente novamente em "
+                            + decision.retryAfterSeconds() + "s"));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Chave do cliente
+    private String clientKey(HttpServletRequest request, RateLimiter.Rule rule) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!RateLimiter.AUTH.equals(rule.group().name())
+                && authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        String path = pathOf(request);
+
+        // Health check, scrape de métricas e documentação não contam
+        return !enabled ||
+                path.startsWith("/actuator/health") ||
+                path.startsWith("/actuator/prometheus") ||
+                path.startsWith("/swagger-ui/") ||
+                path.startsWith("/v3/api-docs") ||
+                path.startsWith("/api-docs");
+    }
+
+    // Caminho sem o context path (server.servlet.context-path), o mesmo das regras e das exceções
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.jsonplaceholderapi.security;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Token buckets por cliente (usuário do JWT ou IP) e por grupo de endpoints.
+// Cada balde é um AtomicReference com estado imutável atualizado por CAS (sem locks);
+// o mapa é um ConcurrentHashMap (leitura sem lock, escrita travando só o bin da chave).
+@Component
+public class RateLimiter {
+
+    // Grupos de endpoints
+    public static final String AUTH = "auth";
+    public static final String BULK = "bulk";
+    public static final String SEARCH = "search";
+    public static final String DEFAULT = "default";
+
+    private static final List<String> GROUPS = List.of(AUTH, BULK, SEARCH, DEFAULT);
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.ratelimit.idle-timeout-ms}")
+    private long idleTimeoutMs;
+
+    @Value("${app.ratelimit.bulk.large-cost}")
+    private int largeCollectionCost;
+
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (String name : GROUPS) {
+            long capacity = environment.getRequiredProperty("app.ratelimit." + name + ".capacity", Long.class);
+            double refillPerSecond = environment.getRequiredProperty("app.ratelimit." + name + ".refill-per-second", Double.class);
+            groups.put(name, new Group(name, capacity, refillPerSecond));
+        }
+    }
+
+    // Regra aplicada à requisição: grupo e custo em tokens.
+    // /batch custa 1 token DEFAULT; cada sub-requisição é cobrada pela própria regra (BatchService)
+    public Rule resolve(String path) {
+        if (path.startsWith("/auth/")) {
+            return new Rule(groups.get(AUTH), 1);
+        }
+        if (path.equals("/comments/all") || path.equals("/photos/all")) {
+            return new Rule(groups.get(BULK), largeCollectionCost);
+        }
+        if (path.endsWith("/all")) {
+            return new Rule(groups.get(BULK), 1);
+        }
+        if (path.contains("/search")) {
+            return new Rule(groups.get(SEARCH), 1);
+        }
+        return new Rule(groups.get(DEFAULT), 1);
+    }
+
+    // Consumir tokens do balde do cliente no grupo da regra
+    public Decision tryConsume(String clientKey, Rule rule) {
+        Group group = rule.group();
+        long cost = Math.min(rule.cost(), group.capacity());
+        TokenBucket bucket = buckets.computeIfAbsent(group.name() + '|' + clientKey, key -> new TokenBucket(group));
+        Decision decision = bucket.tryConsume(cost, System.nanoTime());
+        (decision.allowed() ? group.allowed : group.rejected).increment();
+        return decision;
+    }
+
+    // Remover baldes ociosos (já cheios de novo, então esquecê-los não muda nada)
+    @Scheduled(fixedDelayString = "${app.ratelimit.eviction-interval-ms}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = idleTimeoutMs * 1_000_000L;
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now, idleNanos));
+    }
+
+    // Estado para métricas
+    public int getBucketCount() { return buckets.size(); }
+
+    public Map<String, Group> getGroups() { return Collections.unmodifiableMap(groups); }
+
+    // Configuração e contadores de um grupo
+    public static final class Group {
+
+        private final String name;
+        private final long capacity;
+        private final double refillPerNano;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        Group(String name, long capacity, double refillPerSecond) {
+            this.name = name;
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+        }
+
+        public String name() { return name; }
+        public long capacity() { return capacity; }
+        public double refillPerSecond() { return refillPerNano * 1_000_000_000.0; }
+        public long getAllowed() { return allowed.sum(); }
+        public long getRejected() { return rejected.sum(); }
+    }
+
+    public record Rule(Group group, long cost) {}
+
+    // remaining: tokens restantes; resetSeconds: até o balde encher; retryAfterSeconds: até caber o custo
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds,
+                           long windowSeconds) {}
+
+    private static final class TokenBucket {
+
+        private final Group group;
+        private final AtomicReference<State> state;
+
+        TokenBucket(Group group) {
+            this.group = group;
+            this.state = new AtomicReference<>(new State(group.capacity(), System.nanoTime()));
+        }
+
+        Decision tryConsume(long cost, long now) {
+            while (true) {
+                State current = state.get();
+                double tokens = refill(current, now);
+
+                if (tokens < cost) {
+                    // Rejeitado: não grava nada (o próximo refill parte do mesmo ponto)
+                    long retryAfter = secondsFor(cost - tokens);
+                    return decision(false, tokens, retryAfter);
+                }
+
+                State next = new State(tokens - cost, now);
+                if (state.compareAndSet(current, next)) {
+                    return decision(true, next.tokens(), 0);
+                }
+            }
+        }
+
+        boolean isIdle(long now, long idleNanos) {
+            State current = state.get();
+            return now - current.updatedAt() > idleNanos && refill(current, now) >= group.capacity();
+        }
+
+        private double refill(State current, long now) {
+            long elapsed = Math.max(0, now - current.updatedAt());
+            return Math.min(group.capacity(), current.tokens() + elapsed * group.refillPerNano);
+        }
+
+        private long secondsFor(double tokens) {
+            return group.refillPerNano > 0 ? (long) Math.ceil(tokens / group.refillPerNano / 1_000_000_000.0) : Long.MAX_VALUE;
+        }
+
+        private Decision decision(boolean allowed, double tokens, long retryAfter) {
+            return new Decision(allowed, group.capacity(), (long) Math.floor(tokens),
+                    secondsFor(group.capacity() - tokens), retryAfter, secondsFor(group.capacity()));
+        }
+
+        private record State(double tokens, long updatedAt) {}
+    }
+}
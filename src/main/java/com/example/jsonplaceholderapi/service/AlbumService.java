@@ -1,16 +1,21 @@
 package com.example.jsonplaceholderapi.service;
 
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Photo;
 import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
 import com.example.jsonplaceholderapi.repository.AlbumRepository;
 import com.example.jsonplaceholderapi.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -23,6 +28,9 @@ public class AlbumService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Buscar todos os álbuns
     public List<Album> findAll() {
         return albumRepository.findAll();
@@ -38,6 +46,12 @@ public class AlbumService {
         return albumRepository.findById(id);
     }
 
+    // Buscar vários por ID (uma única consulta IN, na ordem pedida)
+    public BatchResult<Album> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        return BatchResult.of(distinctIds, albumRepository.findAllById(distinctIds), Album::getId);
+    }
+
     // Buscar álbuns por usuário
     public List<Album> findByUserId(Long userId) {
         return albumRepository.findByUserId(userId);
@@ -126,7 +140,12 @@ public class AlbumService {
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Álbum não encontrado com ID: " + id));
 
+        // Fotos (de qualquer usuário) saem em cascata: tombstones no change_log para elas também
+        List<Photo> photos = List.copyOf(Objects.requireNonNullElse(album.getPhotos(), List.of()));
         albumRepository.delete(album);
+        if (!photos.isEmpty()) {
+            eventPublisher.publishEvent(EntitiesChangedEvent.deleted(Photo.class, photos, Photo::getId));
+        }
     }
 
     // Verificar se álbum existe
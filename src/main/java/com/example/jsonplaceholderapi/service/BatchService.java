@@ -0,0 +1,211 @@
+package com.example.jsonplaceholderapi.service;
+
+import com.example.jsonplaceholderapi.dto.ApiResponse;
+import com.example.jsonplaceholderapi.dto.BatchRequest;
+import com.example.jsonplaceholderapi.dto.BatchResponse;
+import com.example.jsonplaceholderapi.logging.AccessLogFilter;
+import com.example.jsonplaceholderapi.security.LoadSheddingFilter;
+import com.example.jsonplaceholderapi.security.RateLimitFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Sub-requisições vão ao DispatcherServlet (interceptors valem: contagem de SQL, JFR, fixture) passando antes
+// pelos filtros por requisição do SecurityConfig: access log, descarte de carga e rate limiting.
+// Não passam de novo pela cadeia do Spring Security (JWT, firewall, autorização): herdam a autenticação
+// do lote, e toSubRequest recusa caminhos codificados e tudo que o SecurityConfig reserva a administradores. CORS e headers de resposta são os do lote.
+@Service
+public class BatchService {
+
+    private static final Set<String> ALLOWED_METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+    @Autowired
+    private DispatcherServlet dispatcherServlet;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AccessLogFilter accessLogFilter;
+
+    @Autowired
+    private LoadSheddingFilter loadSheddingFilter;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Value("${app.batch.max-requests}")
+    private int maxRequests;
+
+    @Value("${app.batch.timeout-ms}")
+    private long timeoutMs;
+
+    // Uma virtual thread por sub-requisição
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Filtros + DispatcherServlet, montado uma vez
+    private FilterChain subRequestChain;
+
+    @PostConstruct
+    public void init() {
+        // Mesma ordem do SecurityConfig
+        List<Filter> filters = List.of(accessLogFilter, loadSheddingFilter, rateLimitFilter);
+        FilterChain chain = dispatcherServlet::service;
+        for (int i = filters.size() - 1; i >= 0; i--) {
+            Filter filter = filters.get(i);
+            FilterChain next = chain;
+            chain = (request, response) -> filter.doFilter(request, response, next);
+        }
+        subRequestChain = chain;
+    }
+
+    // Executar lote em paralelo com prazo único
+    public BatchResponse execute(BatchRequest batch, HttpServletRequest request, HttpServletResponse response)
+            throws InterruptedException {
+
+        List<BatchRequest.Item> items = batch.getRequests();
+        if (items.size() > maxRequests) {
+            throw new RuntimeException("Máximo de " + maxRequests + " requisições por lote");
+        }
+
+        BatchSubRequest.Origin origin = BatchSubRequest.Origin.capture(request);
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        List<Callable<BatchResponse.Item>> tasks = new ArrayList<>(items.size());
+        for (BatchRequest.Item item : items) {
+            BatchSubRequest subRequest = toSubRequest(item, request, origin);
+            Callable<BatchResponse.Item> task = () -> dispatch(item.getId(), subRequest, response);
+            tasks.add(new DelegatingSecurityContextCallable<>(task, securityContext));
+        }
+
+        List<Future<BatchResponse.Item>> futures = executor.invokeAll(tasks, timeoutMs, TimeUnit.MILLISECONDS);
+
+        List<BatchResponse.Item> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            String id = items.get(i).getId();
+            try {
+                results.add(futures.get(i).get());
+            } catch (CancellationException e) {
+                results.add(error(id, HttpServletResponse.SC_GATEWAY_TIMEOUT, "Prazo do lote esgotado"));
+            } catch (ExecutionException e) {
+                results.add(error(id, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Erro interno do servidor"));
+            }
+        }
+        return new BatchResponse(results);
+    }
+
+    private BatchSubRequest toSubRequest(BatchRequest.Item item, HttpServletRequest request,
+                                         BatchSubRequest.Origin origin) {
+        String method = item.getMethod() != null ? item.getMethod().toUpperCase(Locale.ROOT) : "GET";
+        if (!ALLOWED_METHODS.contains(method)) {
+            throw new RuntimeException("Método não suportado em lote: " + item.getMethod());
+        }
+
+        String path = item.getPath();
+        if (!path.startsWith("/") || path.startsWith("//")) {
+            throw new RuntimeException("Caminho inválido: " + path);
+        }
+
+        byte[] body = null;
+        if (item.getBody() != null && !item.getBody().isNull()) {
+            try {
+                body = objectMapper.writeValueAsBytes(item.getBody());
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Corpo inválido para " + path);
+            }
+        }
+
+        BatchSubRequest subRequest = new BatchSubRequest(request, origin, method, path, body);
+
+        // Sub-requisições não passam pelo firewall do Spring Security: recusar caminhos
+        // codificados ou com segmentos que poderiam mascarar o destino real
+        String subPath = subRequest.getPath();
+        if (subPath.contains("%") || subPath.contains(";") || subPath.contains("\\") || subPath.contains("/.")) {
+            throw new RuntimeException("Caminho inválido: " + path);
+        }
+        if (subRequest.getPath().equals("/batch") || subRequest.getPath().startsWith("/batch/")) {
+            throw new RuntimeException("Lotes aninhados não são permitidos");
+        }
+        // Sub-requisições não passam pela autorização de /admin/** e /actuator/** do SecurityConfig
+        if (isAdminPath(subPath)) {
+            throw new RuntimeException("Endpoints de administração não são permitidos em lote");
+        }
+        return subRequest;
+    }
+
+    // Mesmos caminhos que o SecurityConfig entrega ao AdminAuthorizationManager (/actuator/health é público)
+    private static boolean isAdminPath(String path) {
+        if (path.equals("/actuator/health")) {
+            return false;
+        }
+        return path.equals("/admin") || path.startsWith("/admin/")
+                || path.equals("/actuator") || path.startsWith("/actuator/");
+    }
+
+    // Despachar pelos filtros e pelo DispatcherServlet (mesmos controllers, sem nova passagem pelo filtro JWT)
+    private BatchResponse.Item dispatch(String id, BatchSubRequest request, HttpServletResponse original) {
+        BatchSubResponse response = new BatchSubResponse(original);
+        try {
+            subRequestChain.doFilter(request, response);
+        } catch (Exception e) {
+            return error(id, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Erro interno do servidor");
+        }
+        return new BatchResponse.Item(id, response.getStatus(), toJson(response));
+    }
+
+    private String toJson(BatchSubResponse response) {
+        byte[] content = response.getContentAsByteArray();
+        if (content.length == 0) {
+            return null;
+        }
+
+        String text = new String(content, StandardCharsets.UTF_8);
+        String contentType = response.getContentType();
+        if (contentType != null && contentType.contains("json")) {
+            return text;
+        }
+        try {
+            return objectMapper.writeValueAsString(text);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private BatchResponse.Item error(String id, int status, String message) {
+        try {
+            return new BatchResponse.Item(id, status, objectMapper.writeValueAsString(new ApiResponse(false, message)));
+        } catch (JsonProcessingException e) {
+            return new BatchResponse.Item(id, status, null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.jsonplaceholderapi.service;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Sub-requisição de /batch despachada direto ao DispatcherServlet.
+// Não lê nada da requisição original depois de criada (ela pode ser reciclada pelo Tomcat).
+class BatchSubRequest extends HttpServletRequestWrapper {
+
+    private final Origin origin;
+    private final String method;
+    private final String path;
+    private final String queryString;
+    private final MultiValueMap<String, String> parameters;
+    private final byte[] body;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    BatchSubRequest(HttpServletRequest original, Origin origin, String method, String pathAndQuery, byte[] body) {
+        super(original);
+        this.origin = origin;
+        this.method = method.toUpperCase(Locale.ROOT);
+        this.body = body;
+
+        int queryStart = pathAndQuery.indexOf('?');
+        this.path = queryStart >= 0 ? pathAndQuery.substring(0, queryStart) : pathAndQuery;
+        this.queryString = queryStart >= 0 ? pathAndQuery.substring(queryStart + 1) : null;
+
+        this.parameters = new LinkedMultiValueMap<>();
+        if (queryString != null) {
+            UriComponentsBuilder.newInstance().query(queryString).build().getQueryParams()
+                    .forEach((name, values) -> values.forEach(value -> parameters.add(
+                            UriUtils.decode(name, StandardCharsets.UTF_8),
+                            value != null ? UriUtils.decode(value, StandardCharsets.UTF_8) : "")));
+        }
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    // Linha da requisição
+    @Override
+    public String getMethod() { return method; }
+
+    @Override
+    public String getRequestURI() { return origin.contextPath() + path; }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return new StringBuffer(origin.scheme()).append("://").append(origin.serverName())
+                .append(':').append(origin.serverPort()).append(getRequestURI());
+    }
+
+    @Override
+    public String getContextPath() { return origin.contextPath(); }
+
+    @Override
+    public String getServletPath() { return path; }
+
+    @Override
+    public String getPathInfo() { return null; }
+
+    @Override
+    public String getQueryString() { return queryString; }
+
+    @Override
+    public DispatcherType getDispatcherType() { return DispatcherType.REQUEST; }
+
+    // Parâmetros (apenas da query string)
+    @Override
+    public String getParameter(String name) { return parameters.getFirst(name); }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        Map<String, String[]> map = new LinkedHashMap<>();
+        parameters.forEach((name, values) -> map.put(name, values.toArray(String[]::new)));
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        List<String> values = parameters.get(name);
+        return values != null ? values.toArray(String[]::new) : null;
+    }
+
+    // Headers: os da requisição original, com o corpo próprio da sub-requisição
+    @Override
+    public String getHeader(String name) {
+        List<String> values = getHeaderList(name);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return Collections.enumeration(getHeaderList(name));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        List<String> names = new ArrayList<>(origin.headers().keySet());
+        names.removeIf(name -> name.equalsIgnoreCase(HttpHeaders.CONTENT_TYPE)
+                || name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH));
+        if (body != null) {
+            names.add(HttpHeaders.CONTENT_TYPE);
+            names.add(HttpHeaders.CONTENT_LENGTH);
+        }
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        String value = getHeader(name);
+        if (value == null) {
+            return -1;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(name, value);
+        return headers.getFirstDate(name);
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+
+    private List<String> getHeaderList(String name) {
+        if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            return body != null ? List.of(MediaType.APPLICATION_JSON_VALUE) : List.of();
+        }
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            return body != null ? List.of(String.valueOf(body.length)) : List.of();
+        }
+        List<String> values = origin.headers().get(name);
+        return values != null ? values : List.of();
+    }
+
+    // Corpo
+    @Override
+    public String getContentType() { return body != null ? MediaType.APPLICATION_JSON_VALUE : null; }
+
+    @Override
+    public int getContentLength() { return body != null ? body.length : -1; }
+
+    @Override
+    public long getContentLengthLong() { return getContentLength(); }
+
+    @Override
+    public String getCharacterEncoding() { return StandardCharsets.UTF_8.name(); }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream in = new ByteArrayInputStream(body != null ? body : new byte[0]);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() { return in.available() == 0; }
+
+            @Override
+            public boolean isReady() { return true; }
+
+            @Override
+            public void setReadListener(ReadListener listener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read() { return in.read(); }
+
+            @Override
+            public int read(byte[] b, int off, int len) { return in.read(b, off, len); }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    // Atributos próprios (o DispatcherServlet grava estado por requisição)
+    @Override
+    public Object getAttribute(String name) { return attributes.get(name); }
+
+    @Override
+    public Enumeration<String> getAttributeNames() { return Collections.enumeration(attributes.keySet()); }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) { attributes.remove(name); }
+
+    // Dados da conexão capturados da requisição original
+    @Override
+    public String getScheme() { return origin.scheme(); }
+
+    @Override
+    public String getServerName() { return origin.serverName(); }
+
+    @Override
+    public int getServerPort() { return origin.serverPort(); }
+
+    @Override
+    public String getRemoteAddr() { return origin.remoteAddr(); }
+
+    @Override
+    public String getRemoteHost() { return origin.remoteAddr(); }
+
+    @Override
+    public Locale getLocale() { return origin.locale(); }
+
+    @Override
+    public Enumeration<Locale> getLocales() { return Collections.enumeration(List.of(origin.locale())); }
+
+    @Override
+    public boolean isSecure() { return "https".equals(origin.scheme()); }
+
+    // Sem suporte a processamento assíncrono (SSE etc.) dentro de um lote
+    @Override
+    public boolean isAsyncStarted() { return false; }
+
+    @Override
+    public boolean isAsyncSupported() { return false; }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Processamento assíncrono não suportado em /batch");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+        throw new IllegalStateException("Processamento assíncrono não suportado em /batch");
+    }
+
+    // Cópia imutável do que as sub-requisições usam da requisição original
+    record Origin(Map<String, List<String>> headers, String scheme, String serverName, int serverPort,
+                  String remoteAddr, String contextPath, Locale locale) {
+
+        static Origin capture(HttpServletRequest request) {
+            Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+            for (String name : Collections.list(request.getHeaderNames())) {
+                headers.put(name, List.copyOf(Collections.list(request.getHeaders(name))));
+            }
+            return new Origin(Collections.unmodifiableMap(headers), request.getScheme(), request.getServerName(),
+                    request.getServerPort(), request.getRemoteAddr(), request.getContextPath(), request.getLocale());
+        }
+    }
+}
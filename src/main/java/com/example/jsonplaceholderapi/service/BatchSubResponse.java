@@ -0,0 +1,222 @@
+package com.example.jsonplaceholderapi.service;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Resposta em memória de uma sub-requisição de /batch (nunca toca a resposta original)
+class BatchSubResponse extends HttpServletResponseWrapper {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+    private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+    private int status = SC_OK;
+    private String characterEncoding = StandardCharsets.UTF_8.name();
+    private String contentType;
+    private Locale locale = Locale.getDefault();
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private boolean committed;
+
+    BatchSubResponse(HttpServletResponse original) {
+        super(original);
+    }
+
+    // Corpo escrito pelo controller
+    byte[] getContentAsByteArray() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return buffer.toByteArray();
+    }
+
+    // Status
+    @Override
+    public void setStatus(int status) {
+        if (!committed) {
+            this.status = status;
+        }
+    }
+
+    @Override
+    public int getStatus() { return status; }
+
+    @Override
+    public void sendError(int status) {
+        sendError(status, null);
+    }
+
+    @Override
+    public void sendError(int status, String message) {
+        this.status = status;
+        this.committed = true;
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        setHeader(HttpHeaders.LOCATION, location);
+        this.status = SC_FOUND;
+        this.committed = true;
+    }
+
+    // Headers
+    @Override
+    public void setHeader(String name, String value) {
+        List<String> values = new ArrayList<>(1);
+        values.add(value);
+        headers.put(name, values);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) { setHeader(name, String.valueOf(value)); }
+
+    @Override
+    public void addIntHeader(String name, int value) { addHeader(name, String.valueOf(value)); }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        HttpHeaders formatted = new HttpHeaders();
+        formatted.setDate(name, date);
+        setHeader(name, formatted.getFirst(name));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        HttpHeaders formatted = new HttpHeaders();
+        formatted.setDate(name, date);
+        addHeader(name, formatted.getFirst(name));
+    }
+
+    @Override
+    public boolean containsHeader(String name) { return headers.containsKey(name); }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return values != null ? List.copyOf(values) : List.of();
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() { return List.copyOf(headers.keySet()); }
+
+    @Override
+    public void addCookie(Cookie cookie) {
+        // Cookies não são propagados em /batch
+    }
+
+    // Conteúdo
+    @Override
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+        if (contentType != null) {
+            setHeader(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+    }
+
+    @Override
+    public String getContentType() { return contentType; }
+
+    @Override
+    public void setCharacterEncoding(String characterEncoding) { this.characterEncoding = characterEncoding; }
+
+    @Override
+    public String getCharacterEncoding() { return characterEncoding; }
+
+    @Override
+    public void setContentLength(int length) { }
+
+    @Override
+    public void setContentLengthLong(long length) { }
+
+    @Override
+    public void setLocale(Locale locale) { this.locale = locale; }
+
+    @Override
+    public Locale getLocale() { return locale; }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public boolean isReady() { return true; }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void write(int b) { buffer.write(b); }
+
+                @Override
+                public void write(byte[] b, int off, int len) { buffer.write(b, off, len); }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(buffer, Charset.forName(characterEncoding)));
+        }
+        return writer;
+    }
+
+    // Buffer
+    @Override
+    public void setBufferSize(int size) { }
+
+    @Override
+    public int getBufferSize() { return buffer.size(); }
+
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        committed = true;
+    }
+
+    @Override
+    public void resetBuffer() {
+        buffer.reset();
+    }
+
+    @Override
+    public void reset() {
+        buffer.reset();
+        headers.clear();
+        status = SC_OK;
+        contentType = null;
+    }
+
+    @Override
+    public boolean isCommitted() { return committed; }
+}
@@ -0,0 +1,136 @@
+package com.example.jsonplaceholderapi.service;
+
+import com.example.jsonplaceholderapi.bulk.BulkTable;
+import com.example.jsonplaceholderapi.changes.ChangeLog;
+import com.example.jsonplaceholderapi.dto.ChangeFeed;
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import com.example.jsonplaceholderapi.repository.AlbumRepository;
+import com.example.jsonplaceholderapi.repository.CommentRepository;
+import com.example.jsonplaceholderapi.repository.PhotoRepository;
+import com.example.jsonplaceholderapi.repository.PostRepository;
+import com.example.jsonplaceholderapi.repository.TodoRepository;
+import com.example.jsonplaceholderapi.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional(readOnly = true)
+@Profile("!fixture")
+public class ChangeFeedService {
+
+    @Autowired
+    private ChangeLog changeLog;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    // Posição atual do feed do usuário, sem alterações: ponto de partida antes de uma carga completa
+    public ChangeFeed current() {
+        return new ChangeFeed(List.of(), changeLog.head(changeLog.stableXid()).toString(), false);
+    }
+
+    // Alterações do usuário depois do cursor, na ordem do log. Várias alterações da mesma entidade
+    // na página viram uma só (a última), com o estado atual; entidade que já não existe vira remoção.
+    // IllegalStateException: o cursor é mais antigo que a retenção (o cliente precisa recarregar tudo)
+    public ChangeFeed changesSince(Long userId, String since, int limit) {
+        ChangeLog.Cursor from = ChangeLog.Cursor.parse(since);
+        long stableXid = changeLog.stableXid();
+        List<ChangeLog.Entry> entries = changeLog.read(userId, from, stableXid, limit);
+
+        // Depois da leitura: uma limpeza no meio do caminho também é detectada
+        if (from.compareTo(changeLog.horizon()) < 0) {
+            throw new IllegalStateException("Cursor expirado (anterior à retenção do feed); recarregue os dados e use o cursor atual");
+        }
+
+        Map<String, ChangeLog.Entry> latest = new LinkedHashMap<>();
+        Map<BulkTable, List<Long>> idsByTable = new EnumMap<>(BulkTable.class);
+        for (ChangeLog.Entry entry : entries) {
+            String key = entry.table().getTableName() + ":" + entry.entityId();
+            latest.remove(key);
+            latest.put(key, entry);
+        }
+        for (ChangeLog.Entry entry : latest.values()) {
+            if (entry.action() != EntityChangedEvent.Action.DELETED) {
+                idsByTable.computeIfAbsent(entry.table(), table -> new ArrayList<>()).add(entry.entityId());
+            }
+        }
+
+        Map<String, Object> entities = new HashMap<>();
+        idsByTable.forEach((table, ids) -> {
+            for (Object entity : findAllById(table, ids)) {
+                entities.put(table.getTableName() + ":" + idOf(entity), entity);
+            }
+        });
+
+        List<ChangeFeed.Change> changes = new ArrayList<>(latest.size());
+        latest.forEach((key, entry) -> {
+            Object entity = entry.action() != EntityChangedEvent.Action.DELETED ? entities.get(key) : null;
+            String action = entity != null ? entry.action().name() : EntityChangedEvent.Action.DELETED.name();
+            changes.add(new ChangeFeed.Change(entry.table().getTableName(), entry.entityId(), action, entity));
+        });
+
+        boolean hasMore = entries.size() == limit;
+        ChangeLog.Cursor cursor;
+        if (hasMore) {
+            cursor = entries.get(entries.size() - 1).position();
+        } else {
+            // Nada mais do usuário até o fim do log: o cursor pula as linhas dos outros
+            ChangeLog.Cursor head = changeLog.head(stableXid);
+            cursor = head.compareTo(from) > 0 ? head : from;
+        }
+        return new ChangeFeed(changes, cursor.toString(), hasMore);
+    }
+
+    private List<?> findAllById(BulkTable table, List<Long> ids) {
+        return switch (table) {
+            case USERS -> userRepository.findAllById(ids);
+            case POSTS -> postRepository.findAllById(ids);
+            case COMMENTS -> commentRepository.findAllById(ids);
+            case ALBUMS -> albumRepository.findAllById(ids);
+            case PHOTOS -> photoRepository.findAllById(ids);
+            case TODOS -> todoRepository.findAllById(ids);
+        };
+    }
+
+    private static Long idOf(Object entity) {
+        return switch (entity) {
+            case User user -> user.getId();
+            case Post post -> post.getId();
+            case Comment comment -> comment.getId();
+            case Album album -> album.getId();
+            case Photo photo -> photo.getId();
+            case Todo todo -> todo.getId();
+            default -> null;
+        };
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.jsonplaceholderapi.service;
 
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Comment;
 import com.example.jsonplaceholderapi.entity.Post;
 import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
 import com.example.jsonplaceholderapi.repository.CommentRepository;
 import com.example.jsonplaceholderapi.repository.PostRepository;
 import com.example.jsonplaceholderapi.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,9 @@ public class CommentService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Buscar todos os comentários
     public List<Comment> findAll() {
         return commentRepository.findAll();
@@ -43,6 +49,12 @@ public class CommentService {
         return commentRepository.findById(id);
     }
 
+    // Buscar vários por ID (uma única consulta IN, na ordem pedida)
+    public BatchResult<Comment> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        return BatchResult.of(distinctIds, commentRepository.findAllById(distinctIds), Comment::getId);
+    }
+
     // Buscar comentários por post
     public List<Comment> findByPostId(Long postId) {
         return commentRepository.findByPostId(postId);
@@ -110,6 +122,7 @@ public class CommentService {
     public Comment update(Long id, Comment commentDetails) {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Comentário não encontrado com ID: " + id));
+        Post previous = comment.getPost();
 
         // Atualizar campos
         comment.setName(commentDetails.getName());
@@ -130,13 +143,14 @@ public class CommentService {
             comment.setUser(user);
         }
 
-        return commentRepository.save(comment);
+        return moved(previous, commentRepository.save(comment));
     }
 
     // Atualizar parcialmente
     public Comment partialUpdate(Long id, Comment commentDetails) {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Comentário não encontrado com ID: " + id));
+        Post previous = comment.getPost();
 
         // Atualizar apenas campos não nulos
         if (commentDetails.getName() != null) {
@@ -159,7 +173,16 @@ public class CommentService {
             comment.setUser(user);
         }
 
-        return commentRepository.save(comment);
+        return moved(previous, commentRepository.save(comment));
+    }
+
+    // Comentário que mudou de post: o post anterior também mudou (o JSON do post traz os comentários).
+    // O evento do comentário só tem o post novo; este invalida o slab do anterior
+    private Comment moved(Post previous, Comment comment) {
+        if (previous != null && comment.getPost() != null && !previous.getId().equals(comment.getPost().getId())) {
+            eventPublisher.publishEvent(new EntityChangedEvent(Post.class, previous.getId(), previous, EntityChangedEvent.Action.UPDATED));
+        }
+        return comment;
     }
 
     // Deletar comentário
@@ -1,5 +1,6 @@
 package com.example.jsonplaceholderapi.service;
 
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Album;
 import com.example.jsonplaceholderapi.entity.Photo;
 import com.example.jsonplaceholderapi.entity.User;
@@ -43,6 +44,12 @@ public class PhotoService {
         return photoRepository.findById(id);
     }
 
+    // Buscar vários por ID (uma única consulta IN, na ordem pedida)
+    public BatchResult<Photo> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        return BatchResult.of(distinctIds, photoRepository.findAllById(distinctIds), Photo::getId);
+    }
+
     // Buscar fotos por álbum
     public List<Photo> findByAlbumId(Long albumId) {
         return photoRepository.findByAlbumId(albumId);
@@ -1,16 +1,21 @@
 package com.example.jsonplaceholderapi.service;
 
+import com.example.jsonplaceholderapi.dto.BatchResult;
+import com.example.jsonplaceholderapi.entity.Comment;
 import com.example.jsonplaceholderapi.entity.Post;
 import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
 import com.example.jsonplaceholderapi.repository.PostRepository;
 import com.example.jsonplaceholderapi.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -23,6 +28,9 @@ public class PostService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Buscar todos os posts
     public List<Post> findAll() {
         return postRepository.findAll();
@@ -38,6 +46,12 @@ public class PostService {
         return postRepository.findById(id);
     }
 
+    // Buscar vários por ID (uma única consulta IN, na ordem pedida)
+    public BatchResult<Post> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        return BatchResult.of(distinctIds, postRepository.findAllById(distinctIds), Post::getId);
+    }
+
     // Buscar posts por usuário
     public List<Post> findByUserId(Long userId) {
         return postRepository.findByUserId(userId);
@@ -131,7 +145,12 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Post não encontrado com ID: " + id));
 
+        // Comentários (de qualquer autor) saem em cascata: tombstones no change_log para eles também
+        List<Comment> comments = List.copyOf(Objects.requireNonNullElse(post.getComments(), List.of()));
         postRepository.delete(post);
+        if (!comments.isEmpty()) {
+            eventPublisher.publishEvent(EntitiesChangedEvent.deleted(Comment.class, comments, Comment::getId));
+        }
     }
 
     // Verificar se post existe
@@ -1,17 +1,23 @@
 package com.example.jsonplaceholderapi.service;
 
+import com.example.jsonplaceholderapi.dto.BatchResult;
 import com.example.jsonplaceholderapi.entity.Todo;
 import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
 import com.example.jsonplaceholderapi.repository.TodoRepository;
 import com.example.jsonplaceholderapi.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -24,6 +30,9 @@ public class TodoService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Buscar todas as tarefas
     public List<Todo> findAll() {
         return todoRepository.findAll();
@@ -39,6 +48,12 @@ public class TodoService {
         return todoRepository.findById(id);
     }
 
+    // Buscar vários por ID (uma única consulta IN, na ordem pedida)
+    public BatchResult<Todo> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        return BatchResult.of(distinctIds, todoRepository.findAllById(distinctIds), Todo::getId);
+    }
+
     // Buscar tarefas por usuário
     public List<Todo> findByUserId(Long userId) {
         return todoRepository.findByUserId(userId);
@@ -174,6 +189,67 @@ public class TodoService {
         return todoRepository.save(todo);
     }
 
+    // Completar/reabrir várias tarefas numa transação (toggle em lote do WebSocket).
+    // Só salva as que mudam de estado; devolve as encontradas por ID
+    public Map<Long, Todo> setCompleted(Map<Long, Boolean> completedById) {
+        Map<Long, Todo> result = new HashMap<>();
+        for (Todo todo : todoRepository.findAllById(completedById.keySet())) {
+            boolean completed = completedById.get(todo.getId());
+            if (!Boolean.valueOf(completed).equals(todo.getCompleted())) {
+                if (completed) {
+                    todo.markAsCompleted();
+                } else {
+                    todo.markAsIncomplete();
+                }
+                todo = todoRepository.save(todo);
+            }
+            result.put(todo.getId(), todo);
+        }
+        return result;
+    }
+
+    // Completar de uma vez as pendentes do usuário (prioridade e vencimento antes de dueBefore opcionais).
+    // Um único UPDATE de até limit linhas; devolve quantas foram completadas
+    public int completeByUser(Long userId, Todo.Priority priority, LocalDateTime dueBefore, int limit) {
+        List<Todo> completed = todoRepository.bulkCompleteByUser(userId,
+                priority != null ? priority.name() : null, dueBefore, LocalDateTime.now(), limit);
+        return published(completed, EntityChangedEvent.Action.UPDATED);
+    }
+
+    // Completar várias por ID num único UPDATE (as já completas ficam como estão)
+    public int completeByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        if (distinctIds.isEmpty()) {
+            return 0;
+        }
+        return published(todoRepository.bulkCompleteByIds(distinctIds, LocalDateTime.now()), EntityChangedEvent.Action.UPDATED);
+    }
+
+    // Deletar de uma vez até limit tarefas completas (ou pendentes) do usuário num único DELETE
+    public int deleteByUser(Long userId, boolean completed, int limit) {
+        return published(todoRepository.bulkDeleteByUser(userId, completed, limit), EntityChangedEvent.Action.DELETED);
+    }
+
+    // Deletar várias por ID num único DELETE
+    public int deleteByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        if (distinctIds.isEmpty()) {
+            return 0;
+        }
+        return published(todoRepository.bulkDeleteByIds(distinctIds), EntityChangedEvent.Action.DELETED);
+    }
+
+    // As escritas em massa não passam pelo EntityChangeAspect: um único EntitiesChangedEvent com as linhas
+    // devolvidas pelo RETURNING. change_log e outbox gravam num batch; caches e streams veem o mesmo que
+    // veriam com save/delete
+    private int published(List<Todo> todos, EntityChangedEvent.Action action) {
+        if (!todos.isEmpty()) {
+            eventPublisher.publishEvent(new EntitiesChangedEvent(Todo.class,
+                    todos.stream().map(Todo::getId).toList(), todos, action));
+        }
+        return todos.size();
+    }
+
     // Deletar tarefa
     public void delete(Long id) {
         Todo todo = todoRepository.findById(id)
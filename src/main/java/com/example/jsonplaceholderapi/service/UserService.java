@@ -1,16 +1,28 @@
 package com.example.jsonplaceholderapi.service;
 
+import com.example.jsonplaceholderapi.dto.BatchResult;
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
 import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
 import com.example.jsonplaceholderapi.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @Transactional
@@ -22,6 +34,9 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Buscar todos os usuários
     public List<User> findAll() {
         return userRepository.findAll();
@@ -37,6 +52,12 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    // Buscar vários por ID (uma única consulta IN, na ordem pedida)
+    public BatchResult<User> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchResult.distinctIds(ids);
+        return BatchResult.of(distinctIds, userRepository.findAllById(distinctIds), User::getId);
+    }
+
     // Buscar por username
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
@@ -151,7 +172,36 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + id));
 
+        // Saem em cascata os posts, álbuns, tarefas, comentários e fotos do usuário, e também os comentários
+        // de outros nos posts dele e as fotos de outros nos álbuns dele: tombstones no change_log para todos
+        List<Post> posts = copyOf(user.getPosts());
+        List<Album> albums = copyOf(user.getAlbums());
+        List<Todo> todos = copyOf(user.getTodos());
+        Map<Long, Comment> comments = new LinkedHashMap<>();
+        copyOf(user.getComments()).forEach(comment -> comments.put(comment.getId(), comment));
+        posts.forEach(post -> copyOf(post.getComments()).forEach(comment -> comments.put(comment.getId(), comment)));
+        Map<Long, Photo> photos = new LinkedHashMap<>();
+        copyOf(user.getPhotos()).forEach(photo -> photos.put(photo.getId(), photo));
+        albums.forEach(album -> copyOf(album.getPhotos()).forEach(photo -> photos.put(photo.getId(), photo)));
+
         userRepository.delete(user);
+
+        publishDeleted(Post.class, posts, Post::getId);
+        publishDeleted(Comment.class, comments.values(), Comment::getId);
+        publishDeleted(Album.class, albums, Album::getId);
+        publishDeleted(Photo.class, photos.values(), Photo::getId);
+        publishDeleted(Todo.class, todos, Todo::getId);
+    }
+
+    private <T> void publishDeleted(Class<T> type, Collection<T> entities, Function<T, Long> id) {
+        if (!entities.isEmpty()) {
+            eventPublisher.publishEvent(EntitiesChangedEvent.deleted(type, entities, id));
+        }
+    }
+
+    // Coleções lazy: carregadas aqui, antes do delete (o cascade do JPA carregaria as mesmas)
+    private static <T> List<T> copyOf(List<T> entities) {
+        return entities != null ? List.copyOf(entities) : List.of();
     }
 
     // Verificar se usuário existe
@@ -0,0 +1,66 @@
+package com.example.jsonplaceholderapi.service;
+
+import com.example.jsonplaceholderapi.config.CacheConfig;
+import com.example.jsonplaceholderapi.dto.UserSummary;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.repository.PostRepository;
+import com.example.jsonplaceholderapi.repository.TodoRepository;
+import com.example.jsonplaceholderapi.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class UserSummaryService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    // Resumo do usuário: 1 consulta de perfil, 1 agregada com todas as contagens e 2 limitadas por índice
+    @Cacheable(cacheNames = CacheConfig.USER_SUMMARIES, key = "#userId + ':' + #limit")
+    public UserSummary getSummary(Long userId, int limit) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + userId));
+
+        LocalDateTime now = LocalDateTime.now();
+        UserRepository.SummaryCounts counts = userRepository.countSummary(userId, now);
+
+        List<UserSummary.PostItem> latestPosts = postRepository
+                .findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(limit))
+                .stream()
+                .map(UserSummary.PostItem::of)
+                .toList();
+
+        List<UserSummary.TodoItem> upcomingTodos = todoRepository
+                .findByUserIdAndCompletedFalseAndDueDateGreaterThanEqualOrderByDueDateAscIdAsc(userId, now, Limit.of(limit))
+                .stream()
+                .map(UserSummary.TodoItem::of)
+                .toList();
+
+        return new UserSummary(user, toCounts(counts), latestPosts, upcomingTodos);
+    }
+
+    private UserSummary.Counts toCounts(UserRepository.SummaryCounts counts) {
+        return new UserSummary.Counts(
+                counts.getPosts(),
+                counts.getAlbums(),
+                counts.getPhotos(),
+                counts.getComments(),
+                counts.getTodos(),
+                counts.getCompletedTodos(),
+                counts.getTodos() - counts.getCompletedTodos(),
+                counts.getOverdueTodos());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.jsonplaceholderapi.slab;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// JSON de uma entidade já serializado (UTF-8), num byte[] ou num trecho de um chunk off-heap.
+// Imutável depois de criado. Numa resposta, o Jackson copia os bytes direto para o buffer de saída
+// (writeRawValue), sem montar a entidade de novo: páginas, listas e BatchResult continuam com o
+// mesmo envelope.
+@JsonSerialize(using = JsonSlab.Serializer.class)
+public final class JsonSlab implements SerializableString {
+
+    private final SlabArena arena;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    JsonSlab(SlabArena arena, ByteBuffer buffer, int offset, int length) {
+        this.arena = arena;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean isDirect() {
+        return buffer.isDirect();
+    }
+
+    // Saiu do cache: os bytes viram lixo na arena de origem
+    void release() {
+        arena.release(length);
+    }
+
+    // Cópia para o buffer do UTF8JsonGenerator; -1 se não couber (o gerador pede o byte[] inteiro)
+    @Override
+    public int appendUnquotedUTF8(byte[] out, int offset) {
+        if (length > out.length - offset) {
+            return -1;
+        }
+        buffer.get(this.offset, out, offset, length);
+        return length;
+    }
+
+    // No heap o slab é o próprio array (sem cópia); off-heap precisa copiar
+    @Override
+    public byte[] asUnquotedUTF8() {
+        if (buffer.hasArray() && offset == 0 && length == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes, 0, length);
+        return bytes;
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + offset, length);
+        } else {
+            out.write(asUnquotedUTF8());
+        }
+        return length;
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer out) {
+        if (length > out.remaining()) {
+            return -1;
+        }
+        out.put(buffer.slice(offset, length));
+        return length;
+    }
+
+    // Geradores baseados em Writer (fora das respostas HTTP) trabalham com String
+    @Override
+    public String getValue() {
+        return new String(asUnquotedUTF8(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+
+    @Override
+    public int appendUnquoted(char[] out, int offset) {
+        String value = getValue();
+        if (value.length() > out.length - offset) {
+            return -1;
+        }
+        value.getChars(0, value.length(), out, offset);
+        return value.length();
+    }
+
+    // JSON cru nunca é escrito como string entre aspas
+    @Override
+    public char[] asQuotedChars() {
+        throw new UnsupportedOperationException("JsonSlab só é escrito como valor cru");
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        throw new UnsupportedOperationException("JsonSlab só é escrito como valor cru");
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] out, int offset) {
+        throw new UnsupportedOperationException("JsonSlab só é escrito como valor cru");
+    }
+
+    @Override
+    public int appendQuoted(char[] out, int offset) {
+        throw new UnsupportedOperationException("JsonSlab só é escrito como valor cru");
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) {
+        throw new UnsupportedOperationException("JsonSlab só é escrito como valor cru");
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer out) {
+        throw new UnsupportedOperationException("JsonSlab só é escrito como valor cru");
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    static class Serializer extends StdSerializer<JsonSlab> {
+
+        Serializer() {
+            super(JsonSlab.class);
+        }
+
+        @Override
+        public void serialize(JsonSlab slab, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeRawValue(slab);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.jsonplaceholderapi.slab;
+
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import com.example.jsonplaceholderapi.fixture.FixtureOverlays;
+import com.example.jsonplaceholderapi.invalidation.InvalidationBus;
+import com.example.jsonplaceholderapi.invalidation.InvalidationTarget;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// JSON pré-serializado de posts e fotos, para implantações em que quase tudo é leitura.
+// O JSON de um post inclui o autor e os comentários (com seus autores); o de uma foto, o álbum
+// (com o dono) e o usuário. Por isso a invalidação, depois do commit, segue as dependências:
+//   Post, Photo: o próprio slab          Comment: o slab do post dele (ao mudar de post, o
+//                                        CommentService publica também o post anterior)
+//   Album ou User alterado/removido, carga em massa: a tabela inteira (raro)
+// Os slabs são remontados na próxima leitura. A invalidação passa pelo InvalidationBus (namespace
+// "slabs", chaves "posts:ID", "photos:*"...) e chega às outras réplicas; app.slabs.ttl limita
+// a defasagem se uma notificação se perder.
+// app.slabs.off-heap: bytes em chunks diretos fora do heap (menos pressão no GC com milhões de slabs).
+@Component
+public class JsonSlabStore implements InvalidationTarget {
+
+    public static final String NAMESPACE = "slabs";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    // Só no perfil fixture
+    @Autowired(required = false)
+    private FixtureOverlays fixtureOverlays;
+
+    @Value("${app.slabs.enabled}")
+    private boolean enabled;
+
+    @Value("${app.slabs.off-heap}")
+    private boolean offHeap;
+
+    @Value("${app.slabs.max-size-mb}")
+    private long maxSizeMb;
+
+    @Value("${app.slabs.chunk-size-mb}")
+    private int chunkSizeMb;
+
+    @Value("${app.slabs.ttl}")
+    private Duration ttl;
+
+    private volatile SlabArena arena;
+
+    private SlabTable<Post> posts;
+    private SlabTable<Photo> photos;
+
+    @PostConstruct
+    public void init() {
+        arena = new SlabArena(offHeap, chunkSizeMb << 20);
+        posts = new SlabTable<>("posts", Post::getId, this, maxSizeMb << 20, ttl);
+        photos = new SlabTable<>("photos", Photo::getId, this, maxSizeMb << 20, ttl);
+        invalidationBus.register(this);
+
+        if (enabled) {
+            for (SlabTable<?> table : List.of(posts, photos)) {
+                Gauge.builder("slabs.entries", table, SlabTable::size)
+                        .description("Entidades com JSON pré-serializado")
+                        .tag("type", table.name())
+                        .register(meterRegistry);
+                Gauge.builder("slabs.bytes", table, SlabTable::bytes)
+                        .description("Bytes de JSON pré-serializado")
+                        .baseUnit("bytes")
+                        .tag("type", table.name())
+                        .register(meterRegistry);
+                FunctionCounter.builder("slabs.requests", table, SlabTable::hits)
+                        .description("Entidades servidas pelos slabs")
+                        .tags("type", table.name(), "result", "hit")
+                        .register(meterRegistry);
+                FunctionCounter.builder("slabs.requests", table, SlabTable::misses)
+                        .description("Entidades servidas pelos slabs")
+                        .tags("type", table.name(), "result", "miss")
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    public SlabTable<Post> posts() {
+        return posts;
+    }
+
+    public SlabTable<Photo> photos() {
+        return photos;
+    }
+
+    // Desligado, ou modo fixture com overlay do cliente: a resposta sai da entidade, como antes
+    boolean isBypassed() {
+        return !enabled || (fixtureOverlays != null && fixtureOverlays.hasOverlay());
+    }
+
+    // Mesmo ObjectMapper das respostas: o slab é byte a byte o que o Jackson escreveria
+    JsonSlab serialize(Object entity) {
+        try {
+            return arena.copyOf(objectMapper.writeValueAsBytes(entity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar " + entity.getClass().getSimpleName(), e);
+        }
+    }
+
+    // Off-heap: com mais lixo que dados nos chunks, começa uma arena nova e os slabs são remontados
+    void resetIfFragmented() {
+        SlabArena current = arena;
+        if (!current.needsReset()) {
+            return;
+        }
+        synchronized (this) {
+            if (arena == current) {
+                arena = new SlabArena(offHeap, chunkSizeMb << 20);
+                posts.clear();
+                photos.clear();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        // Modo fixture: o base nunca muda, e as escritas de um cliente ficam no overlay dele
+        if (!enabled || fixtureOverlays != null) {
+            return;
+        }
+        Class<?> type = event.type();
+
+        if (event.isBulk()) {
+            if (Post.class.isAssignableFrom(type) || Comment.class.isAssignableFrom(type) || User.class.isAssignableFrom(type)) {
+                publish("posts:*");
+            }
+            if (Photo.class.isAssignableFrom(type) || Album.class.isAssignableFrom(type) || User.class.isAssignableFrom(type)) {
+                publish("photos:*");
+            }
+            return;
+        }
+        String key = keyOf(type, event.id(), event.entity(), event.action());
+        if (key != null) {
+            publish(key);
+        }
+    }
+
+    // Escrita em massa: as mesmas chaves de uma escrita por linha, cada uma publicada uma vez
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        if (!enabled || fixtureOverlays != null) {
+            return;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < event.size(); i++) {
+            String key = keyOf(event.type(), event.ids().get(i), event.entities().get(i), event.action());
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        keys.forEach(this::publish);
+    }
+
+    // Chave a invalidar para uma entidade alterada (null = não aparece em nenhum slab)
+    private static String keyOf(Class<?> type, Long id, Object entity, EntityChangedEvent.Action action) {
+        boolean created = action == EntityChangedEvent.Action.CREATED;
+        if (Post.class.isAssignableFrom(type)) {
+            return "posts:" + id;
+        } else if (Photo.class.isAssignableFrom(type)) {
+            return "photos:" + id;
+        } else if (Comment.class.isAssignableFrom(type)) {
+            Post post = entity instanceof Comment comment ? comment.getPost() : null;
+            return post != null && post.getId() != null ? "posts:" + post.getId() : "posts:*";
+        } else if (Album.class.isAssignableFrom(type) && !created) {
+            return "photos:*";
+        } else if (User.class.isAssignableFrom(type) && !created) {
+            return ALL;
+        }
+        return null;
+    }
+
+    private void publish(String key) {
+        invalidationBus.publish(NAMESPACE, key);
+    }
+
+    @Override
+    public String namespace() {
+        return NAMESPACE;
+    }
+
+    // Chaves "tabela:ID", "tabela:*" ou "*" (as duas tabelas)
+    @Override
+    public void invalidate(String key) {
+        int colon = key.indexOf(':');
+        String table = colon < 0 ? ALL : key.substring(0, colon);
+        String id = colon < 0 ? ALL : key.substring(colon + 1);
+        for (SlabTable<?> slabs : List.of(posts, photos)) {
+            if (table.equals(ALL) || table.equals(slabs.name())) {
+                if (id.equals(ALL)) {
+                    slabs.clear();
+                } else {
+                    slabs.evict(Long.valueOf(id));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.jsonplaceholderapi.slab;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Onde os bytes dos slabs moram.
+// Heap: cada slab é o byte[] que o Jackson devolveu, e o GC cuida do resto.
+// Off-heap: os bytes são acrescentados em chunks diretos (ByteBuffer.allocateDirect) e nunca reaproveitados;
+// slabs despejados ou invalidados viram lixo dentro do chunk (released). O JsonSlabStore descarta a arena
+// inteira quando o lixo passa da metade. Um chunk só é liberado quando nenhum slab aponta mais para ele.
+final class SlabArena {
+
+    private final boolean direct;
+    private final int chunkSize;
+
+    private ByteBuffer chunk;
+    private int position;
+
+    private final AtomicLong allocated = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+
+    SlabArena(boolean direct, int chunkSize) {
+        this.direct = direct;
+        this.chunkSize = chunkSize;
+    }
+
+    JsonSlab copyOf(byte[] json) {
+        allocated.addAndGet(json.length);
+        if (!direct) {
+            return new JsonSlab(this, ByteBuffer.wrap(json), 0, json.length);
+        }
+        // Maior que um chunk: buffer direto só dele
+        if (json.length > chunkSize) {
+            ByteBuffer own = ByteBuffer.allocateDirect(json.length);
+            own.put(0, json);
+            return new JsonSlab(this, own, 0, json.length);
+        }
+        synchronized (this) {
+            if (chunk == null || chunkSize - position < json.length) {
+                chunk = ByteBuffer.allocateDirect(chunkSize);
+                position = 0;
+            }
+            int offset = position;
+            chunk.put(offset, json);
+            position += json.length;
+            return new JsonSlab(this, chunk, offset, json.length);
+        }
+    }
+
+    void release(int length) {
+        released.addAndGet(length);
+    }
+
+    boolean isDirect() {
+        return direct;
+    }
+
+    // Bytes de slabs ainda em uso
+    long liveBytes() {
+        return allocated.get() - released.get();
+    }
+
+    // Off-heap: mais lixo que dados vivos, e pelo menos um chunk inteiro de lixo
+    boolean needsReset() {
+        long garbage = released.get();
+        return direct && garbage > chunkSize && garbage > liveBytes();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.jsonplaceholderapi.slab;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.data.domain.Page;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Slabs de um tipo de entidade, por ID, com limite em bytes (Caffeine, peso = tamanho do JSON).
+// Na falta, serializa a entidade que o service já carregou e guarda o resultado; a próxima leitura
+// só copia bytes. Os controllers passam o resultado do service por aqui em vez de devolvê-lo direto.
+public final class SlabTable<T> {
+
+    private final String name;
+    private final Function<T, Long> idOf;
+    private final JsonSlabStore store;
+    private final Cache<Long, JsonSlab> slabs;
+
+    // Muda a cada invalidação: um slab montado a partir de uma leitura anterior a ela não fica no cache
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // ttl zero: sem expiração (só invalidação)
+    SlabTable(String name, Function<T, Long> idOf, JsonSlabStore store, long maxBytes, Duration ttl) {
+        this.name = name;
+        this.idOf = idOf;
+        this.store = store;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (!ttl.isZero()) {
+            builder.expireAfterWrite(ttl);
+        }
+        this.slabs = builder
+                .maximumWeight(maxBytes)
+                .weigher((Long id, JsonSlab slab) -> slab.length())
+                .removalListener((Long id, JsonSlab slab, RemovalCause cause) -> {
+                    if (slab != null) {
+                        slab.release();
+                    }
+                })
+                .build();
+    }
+
+    // Geração atual. O controller tira a marca ANTES de chamar o service e a passa para page/list/one:
+    // se houver uma invalidação entre a leitura no banco e a montagem do slab, o slab não fica no cache
+    public long stamp() {
+        return generation.get();
+    }
+
+    public Page<?> page(long stamp, Page<T> page) {
+        return store.isBypassed() ? page : page.map(row -> slab(stamp, row));
+    }
+
+    public List<?> list(long stamp, List<T> rows) {
+        if (store.isBypassed()) {
+            return rows;
+        }
+        List<JsonSlab> result = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            result.add(slab(stamp, row));
+        }
+        return result;
+    }
+
+    public Optional<?> one(long stamp, Optional<T> row) {
+        return store.isBypassed() ? row : row.map(r -> slab(stamp, r));
+    }
+
+    private JsonSlab slab(long stamp, T row) {
+        Long id = idOf.apply(row);
+        JsonSlab slab = slabs.getIfPresent(id);
+        if (slab != null) {
+            hits.increment();
+            return slab;
+        }
+
+        misses.increment();
+        slab = store.serialize(row);
+        slabs.put(id, slab);
+        if (generation.get() != stamp) {
+            slabs.invalidate(id);
+        }
+        store.resetIfFragmented();
+        return slab;
+    }
+
+    void evict(Long id) {
+        generation.incrementAndGet();
+        slabs.invalidate(id);
+    }
+
+    void clear() {
+        generation.incrementAndGet();
+        slabs.invalidateAll();
+    }
+
+    String name() {
+        return name;
+    }
+
+    long size() {
+        return slabs.estimatedSize();
+    }
+
+    long bytes() {
+        return slabs.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+}
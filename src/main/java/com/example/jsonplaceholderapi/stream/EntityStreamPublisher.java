@@ -0,0 +1,95 @@
+package com.example.jsonplaceholderapi.stream;
+
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import com.example.jsonplaceholderapi.fixture.FixtureOverlays;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+// Escritas de comentários e todos viram eventos SSE depois do commit:
+//   posts/{postId}/comments   created | updated | deleted, com o comentário (deleted: só o id)
+//   todos/user/{userId}       created | updated | deleted, com o todo (deleted: só o id)
+// Carga em massa manda "reset" a todos os tópicos do tipo. Só escritas feitas nesta réplica.
+@Component
+public class EntityStreamPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityStreamPublisher.class);
+
+    @Autowired
+    private StreamHub streamHub;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Só no perfil fixture
+    @Autowired(required = false)
+    private FixtureOverlays fixtureOverlays;
+
+    public static String postComments(Long postId) {
+        return "posts/" + postId + "/comments";
+    }
+
+    public static String userTodos(Long userId) {
+        return "todos/user/" + userId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        // Modo fixture: as escritas ficam no overlay de um cliente e não podem vazar para os outros
+        if (fixtureOverlays != null) {
+            return;
+        }
+        if (event.isBulk()) {
+            if (Comment.class.isAssignableFrom(event.type())) {
+                streamHub.resetAll("posts/");
+            } else if (Todo.class.isAssignableFrom(event.type())) {
+                streamHub.resetAll("todos/");
+            }
+            return;
+        }
+
+        publish(event.type(), event.id(), event.entity(), event.action());
+    }
+
+    // Escrita em massa: um evento SSE por linha, só nos tópicos com assinantes
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        if (fixtureOverlays != null) {
+            return;
+        }
+        for (int i = 0; i < event.size(); i++) {
+            publish(event.type(), event.ids().get(i), event.entities().get(i), event.action());
+        }
+    }
+
+    private void publish(Class<?> type, Long id, Object entity, EntityChangedEvent.Action action) {
+        String topic = switch (entity) {
+            case Comment comment when comment.getPost() != null -> postComments(comment.getPost().getId());
+            case Todo todo when todo.getUser() != null -> userTodos(todo.getUser().getId());
+            case null, default -> null;
+        };
+        if (topic == null || !streamHub.hasTopic(topic)) {
+            return;
+        }
+        streamHub.publish(topic, action.name().toLowerCase(), payload(type, id, entity, action));
+    }
+
+    private String payload(Class<?> type, Long id, Object entity, EntityChangedEvent.Action action) {
+        Object body = action == EntityChangedEvent.Action.DELETED ? Map.of("id", id) : entity;
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (Exception e) {
+            // Ex.: associação lazy fora de sessão; o cliente busca pelo id
+            log.debug("Evento SSE só com o id de {} {}: {}", type.getSimpleName(), id, e.getMessage());
+            return "{\"id\":" + id + "}";
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.jsonplaceholderapi.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fan-out de Server-Sent Events por tópico ("posts/5/comments", "todos/user/7").
+// Cada assinante é um SseEmitter (servlet assíncrono): parado, não ocupa thread, só a conexão.
+// Um evento publicado é serializado uma vez e enfileirado em cada assinante; a fila é escrita numa
+// virtual thread só enquanto tem algo, então um cliente lento não atrasa os outros. Passou de
+// app.streams.max-pending eventos na fila, a conexão é encerrada (o cliente retoma com Last-Event-ID).
+// Retomada: cada tópico guarda os últimos app.streams.replay-size eventos. IDs são "boot-seq";
+// Last-Event-ID de outro processo ou anterior ao buffer recebe "reset" (recarregue pelo REST).
+@Component
+public class StreamHub {
+
+    public static final String RESET = "reset";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.streams.max-subscribers}")
+    private int maxSubscribers;
+
+    @Value("${app.streams.max-pending}")
+    private int maxPending;
+
+    @Value("${app.streams.replay-size}")
+    private int replaySize;
+
+    @Value("${app.streams.replay-ttl}")
+    private Duration replayTtl;
+
+    @Value("${app.streams.timeout}")
+    private Duration timeout;
+
+    // Identifica este processo nos IDs de evento: após um restart, IDs antigos não batem
+    private final String boot = UUID.randomUUID().toString().substring(0, 8);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+
+    private ExecutorService senders;
+    private Counter dropped;
+
+    record Event(long sequence, String id, String name, String data) {
+
+        // Comentário SSE vazio: o cliente ignora
+        static final Event HEARTBEAT = new Event(-1, null, null, null);
+
+        // O builder acumula o texto ao ser enviado: um novo por envio
+        SseEmitter.SseEventBuilder toSse() {
+            return this == HEARTBEAT ? SseEmitter.event().comment("") : SseEmitter.event().id(id).name(name).data(data);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stream-send-", 0).factory());
+        dropped = Counter.builder("streams.dropped")
+                .description("Assinantes desconectados por não acompanharem os eventos")
+                .register(meterRegistry);
+        Gauge.builder("streams.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Conexões SSE abertas")
+                .register(meterRegistry);
+        Gauge.builder("streams.topics", topics, Map::size)
+                .description("Tópicos SSE com assinantes ou eventos para retomada")
+                .register(meterRegistry);
+    }
+
+    // IllegalStateException: limite de conexões atingido
+    public SseEmitter subscribe(String topicName, String lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("Limite de conexões de stream atingido, tente novamente mais tarde");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+
+        Topic topic;
+        while (true) {
+            topic = topics.computeIfAbsent(topicName, name -> new Topic(sequence.get()));
+            synchronized (topic) {
+                // Descartado pelo heartbeat entre o computeIfAbsent e o lock
+                if (topic.removed) {
+                    continue;
+                }
+                if (lastEventId != null) {
+                    for (Event event : topic.since(lastEventId)) {
+                        subscriber.enqueue(event);
+                    }
+                }
+                topic.subscribers.add(subscriber);
+                break;
+            }
+        }
+
+        Topic subscribed = topic;
+
+        Runnable remove = () -> {
+            if (subscribed.subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+                subscribed.touch();
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    // Tópico sem assinantes nem retomada possível: nem serializa
+    public boolean hasTopic(String topicName) {
+        return topics.containsKey(topicName);
+    }
+
+    public void publish(String topicName, String name, String data) {
+        Topic topic = topics.get(topicName);
+        if (topic == null) {
+            return;
+        }
+        synchronized (topic) {
+            long seq = sequence.incrementAndGet();
+            Event event = new Event(seq, boot + "-" + seq, name, data);
+            topic.append(event, replaySize);
+            for (Subscriber subscriber : topic.subscribers) {
+                subscriber.enqueue(event);
+            }
+        }
+    }
+
+    // Todos os tópicos com o prefixo (carga em massa: não há como saber o que mudou)
+    public void resetAll(String prefix) {
+        for (String topicName : List.copyOf(topics.keySet())) {
+            if (topicName.startsWith(prefix)) {
+                publish(topicName, RESET, "{}");
+            }
+        }
+    }
+
+    // Mantém proxies e balanceadores sem fechar a conexão por inatividade, detecta clientes que
+    // sumiram e descarta tópicos sem assinantes há mais de replay-ttl
+    @Scheduled(fixedDelayString = "${app.streams.heartbeat-ms}")
+    public void heartbeat() {
+        long expired = System.nanoTime() - replayTtl.toNanos();
+        topics.forEach((name, topic) -> {
+            synchronized (topic) {
+                if (topic.subscribers.isEmpty() && topic.idleSince < expired) {
+                    topic.removed = true;
+                    topics.remove(name, topic);
+                }
+            }
+        });
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                subscriber.enqueue(Event.HEARTBEAT);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        senders.shutdownNow();
+    }
+
+    private final class Topic {
+
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final ArrayDeque<Event> recent = new ArrayDeque<>();
+
+        // Eventos até esta sequência já não estão no buffer
+        long floor;
+        boolean removed;
+        volatile long idleSince = System.nanoTime();
+
+        Topic(long floor) {
+            this.floor = floor;
+        }
+
+        void append(Event event, int capacity) {
+            recent.addLast(event);
+            if (recent.size() > capacity) {
+                floor = recent.removeFirst().sequence();
+            }
+        }
+
+        // Eventos depois de lastEventId, ou só um reset se algum pode ter se perdido
+        List<Event> since(String lastEventId) {
+            int dash = lastEventId.lastIndexOf('-');
+            long last;
+            try {
+                last = dash > 0 && lastEventId.substring(0, dash).equals(boot)
+                        ? Long.parseLong(lastEventId.substring(dash + 1)) : -1;
+            } catch (NumberFormatException e) {
+                last = -1;
+            }
+            if (last < floor) {
+                long seq = sequence.get();
+                return List.of(new Event(seq, boot + "-" + seq, RESET, "{}"));
+            }
+            long after = last;
+            return recent.stream().filter(event -> event.sequence() > after).toList();
+        }
+
+        void touch() {
+            idleSince = System.nanoTime();
+        }
+    }
+
+    private final class Subscriber {
+
+        final SseEmitter emitter;
+        final Queue<Event> pending = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Event event) {
+            if (closed) {
+                return;
+            }
+            if (size.incrementAndGet() > maxPending) {
+                closed = true;
+                dropped.increment();
+                emitter.complete();
+                return;
+            }
+            pending.add(event);
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            do {
+                Event next;
+                while (!closed && (next = pending.poll()) != null) {
+                    size.decrementAndGet();
+                    try {
+                        emitter.send(next.toSse());
+                    } catch (IOException | IllegalStateException e) {
+                        // Cliente foi embora; onError/onCompletion tiram do tópico
+                        closed = true;
+                        emitter.completeWithError(e);
+                    }
+                }
+                scheduled.set(false);
+            } while (!closed && !pending.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.jsonplaceholderapi.websocket;
+
+import com.example.jsonplaceholderapi.security.JwtUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+
+// Autentica o handshake do /ws com o mesmo JWT da API: header Authorization: Bearer ou ?token=
+// (o WebSocket do navegador não manda headers). Sem token válido, 401 e nada de upgrade.
+@Component
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ATTRIBUTE = "user";
+
+    // Instant de expiração do JWT: a sessão é fechada quando ele passa (LiveUpdateHandler)
+    public static final String EXPIRES_AT_ATTRIBUTE = "expiresAt";
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = tokenOf(request);
+        try {
+            if (token != null) {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(jwtUtil.extractUsername(token));
+                if (jwtUtil.validateToken(token, userDetails)) {
+                    attributes.put(USER_ATTRIBUTE, userDetails);
+                    attributes.put(EXPIRES_AT_ATTRIBUTE, jwtUtil.extractExpiration(token).toInstant());
+                    return true;
+                }
+            }
+        } catch (Exception e) {
+            // Token inválido, expirado ou de usuário que não existe mais
+        }
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        return false;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private static String tokenOf(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring(7);
+        }
+        return UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("token");
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.jsonplaceholderapi.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+
+// Mensagens do servidor no WebSocket /ws (campos nulos não vão no JSON):
+//   diff     topic, type, id, action; changes = só os campos que mudaram (full = objeto inteiro)
+//   ack      ref, topics assinados após subscribe/unsubscribe
+//   toggled  ref, results do toggle em lote
+//   error    ref, message
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LiveMessage(
+        String op,
+        String ref,
+        String topic,
+        String type,
+        Long id,
+        String action,
+        ObjectNode changes,
+        Boolean full,
+        List<String> topics,
+        List<ToggleResult> results,
+        String message) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ToggleResult(Long id, Boolean completed, String error) {}
+
+    public static LiveMessage diff(String topic, String type, Long id, String action, ObjectNode changes, boolean full) {
+        return new LiveMessage("diff", null, topic, type, id, action, changes, full ? Boolean.TRUE : null, null, null, null);
+    }
+
+    public static LiveMessage ack(String ref, List<String> topics) {
+        return new LiveMessage("ack", ref, null, null, null, null, null, null, topics, null, null);
+    }
+
+    public static LiveMessage toggled(String ref, List<ToggleResult> results) {
+        return new LiveMessage("toggled", ref, null, null, null, null, null, null, null, results, null);
+    }
+
+    public static LiveMessage error(String ref, String message) {
+        return new LiveMessage("error", ref, null, null, null, null, null, null, null, null, message);
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.jsonplaceholderapi.websocket;
+
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.fixture.FixtureOverlays;
+import com.example.jsonplaceholderapi.service.TodoService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// WebSocket /ws: assinaturas por tópico e toggle de tarefas em lote. Mensagens do cliente (JSON):
+//   {"op":"subscribe","ref":"1","topics":["user:7","post:5","album:3"]}
+//   {"op":"unsubscribe","ref":"2","topics":["post:5"]}
+//   {"op":"toggle","ref":"3","todos":[{"id":12,"completed":true},{"id":13,"completed":false}]}
+// As respostas e os diffs estão em LiveMessage. Cada sessão escreve por um
+// ConcurrentWebSocketSessionDecorator: cliente lento demais (send-time-limit/send-buffer) é desconectado.
+// O JWT só é checado no handshake: quando ele expira, a sessão é fechada com POLICY_VIOLATION (na
+// próxima mensagem, no próximo diff ou na varredura de app.ws.expiry-check-ms) e o cliente reconecta
+// com um token novo.
+@Component
+public class LiveUpdateHandler extends TextWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateHandler.class);
+
+    private static final Pattern TOPIC = Pattern.compile("(user|post|album):\\d{1,18}");
+
+    private static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("Token expirado");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Só no perfil fixture
+    @Autowired(required = false)
+    private FixtureOverlays fixtureOverlays;
+
+    @Value("${app.ws.max-subscriptions}")
+    private int maxSubscriptions;
+
+    @Value("${app.ws.max-toggles}")
+    private int maxToggles;
+
+    @Value("${app.ws.send-time-limit-ms}")
+    private int sendTimeLimitMs;
+
+    @Value("${app.ws.send-buffer-kb}")
+    private int sendBufferKb;
+
+    // ID da sessão -> sessão (com o decorator) e tópico -> IDs de sessão
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> subscribers = new ConcurrentHashMap<>();
+
+    private Counter sent;
+    private Counter toggles;
+
+    private record Session(WebSocketSession socket, Set<String> topics, Instant expiresAt) {
+
+        boolean isExpired() {
+            return expiresAt != null && !Instant.now().isBefore(expiresAt);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("ws.sessions", sessions, Map::size)
+                .description("Sessões WebSocket abertas")
+                .register(meterRegistry);
+        sent = Counter.builder("ws.messages")
+                .description("Mensagens de diff enviadas (uma por sessão)")
+                .register(meterRegistry);
+        toggles = Counter.builder("ws.toggles")
+                .description("Tarefas alteradas por toggle em lote no WebSocket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        WebSocketSession socket = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferKb * 1024);
+        Instant expiresAt = (Instant) session.getAttributes().get(JwtHandshakeInterceptor.EXPIRES_AT_ATTRIBUTE);
+        sessions.put(session.getId(), new Session(socket, ConcurrentHashMap.newKeySet(), expiresAt));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Session closed = sessions.remove(session.getId());
+        if (closed != null) {
+            for (String topic : closed.topics()) {
+                unsubscribe(topic, session.getId());
+            }
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        Session current = sessions.get(session.getId());
+        if (current == null) {
+            return;
+        }
+        if (current.isExpired()) {
+            close(current.socket(), TOKEN_EXPIRED);
+            return;
+        }
+        String ref = null;
+        try {
+            JsonNode request = objectMapper.readTree(message.getPayload());
+            ref = request.path("ref").isMissingNode() ? null : request.path("ref").asText();
+            LiveMessage reply = switch (request.path("op").asText()) {
+                case "subscribe" -> subscribe(current, session.getId(), ref, topicsOf(request));
+                case "unsubscribe" -> unsubscribe(current, session.getId(), ref, topicsOf(request));
+                case "toggle" -> toggle(ref, request.path("todos"));
+                default -> throw new IllegalArgumentException("op deve ser subscribe, unsubscribe ou toggle");
+            };
+            send(current.socket(), reply);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            send(current.socket(), LiveMessage.error(ref, e.getMessage()));
+        } catch (IOException e) {
+            send(current.socket(), LiveMessage.error(ref, "JSON inválido"));
+        } catch (Exception e) {
+            log.warn("Erro na mensagem WebSocket: {}", e.getMessage());
+            send(current.socket(), LiveMessage.error(ref, "Erro interno do servidor"));
+        }
+    }
+
+    public boolean hasSubscribers(String topic) {
+        return subscribers.containsKey(topic);
+    }
+
+    // Serializa uma vez e envia a todas as sessões do tópico
+    public void broadcast(LiveMessage message) {
+        Set<String> ids = subscribers.get(message.topic());
+        if (ids == null) {
+            return;
+        }
+        TextMessage text;
+        try {
+            text = new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao serializar diff", e);
+        }
+        for (String id : ids) {
+            Session session = sessions.get(id);
+            if (session == null) {
+                continue;
+            }
+            if (session.isExpired()) {
+                close(session.socket(), TOKEN_EXPIRED);
+            } else {
+                send(session.socket(), text);
+                sent.increment();
+            }
+        }
+    }
+
+    // Sessões sem mensagens nem diffs também caem quando o token expira
+    @Scheduled(fixedDelayString = "${app.ws.expiry-check-ms}")
+    public void closeExpired() {
+        for (Session session : sessions.values()) {
+            if (session.isExpired()) {
+                close(session.socket(), TOKEN_EXPIRED);
+            }
+        }
+    }
+
+    private LiveMessage subscribe(Session session, String sessionId, String ref, List<String> topics) {
+        if (session.topics().size() + topics.size() > maxSubscriptions) {
+            throw new IllegalArgumentException("Máximo de " + maxSubscriptions + " tópicos por conexão");
+        }
+        for (String topic : topics) {
+            if (session.topics().add(topic)) {
+                // compute: atômico com a remoção do conjunto vazio em unsubscribe
+                subscribers.compute(topic, (key, ids) -> {
+                    Set<String> result = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                    result.add(sessionId);
+                    return result;
+                });
+            }
+        }
+        return LiveMessage.ack(ref, List.copyOf(session.topics()));
+    }
+
+    private LiveMessage unsubscribe(Session session, String sessionId, String ref, List<String> topics) {
+        for (String topic : topics) {
+            if (session.topics().remove(topic)) {
+                unsubscribe(topic, sessionId);
+            }
+        }
+        return LiveMessage.ack(ref, List.copyOf(session.topics()));
+    }
+
+    private void unsubscribe(String topic, String sessionId) {
+        subscribers.computeIfPresent(topic, (key, ids) -> {
+            ids.remove(sessionId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // Um lote = uma transação; os diffs das tarefas alteradas chegam pelos tópicos, como qualquer escrita
+    private LiveMessage toggle(String ref, JsonNode todos) {
+        if (fixtureOverlays != null) {
+            throw new IllegalStateException("Toggle indisponível no perfil fixture");
+        }
+        if (!todos.isArray() || todos.isEmpty() || todos.size() > maxToggles) {
+            throw new IllegalArgumentException("todos deve ter entre 1 e " + maxToggles + " itens");
+        }
+        Map<Long, Boolean> completedById = new LinkedHashMap<>();
+        for (JsonNode todo : todos) {
+            if (!todo.path("id").canConvertToLong() || !todo.path("completed").isBoolean()) {
+                throw new IllegalArgumentException("Cada item precisa de id e completed (boolean)");
+            }
+            completedById.put(todo.get("id").asLong(), todo.get("completed").asBoolean());
+        }
+
+        Map<Long, Todo> updated = todoService.setCompleted(completedById);
+        List<LiveMessage.ToggleResult> results = new ArrayList<>(completedById.size());
+        completedById.forEach((id, completed) -> {
+            Todo todo = updated.get(id);
+            results.add(todo != null
+                    ? new LiveMessage.ToggleResult(id, todo.getCompleted(), null)
+                    : new LiveMessage.ToggleResult(id, null, "Tarefa não encontrada"));
+        });
+        toggles.increment(updated.size());
+        return LiveMessage.toggled(ref, results);
+    }
+
+    private static List<String> topicsOf(JsonNode request) {
+        JsonNode topics = request.path("topics");
+        if (!topics.isArray() || topics.isEmpty()) {
+            throw new IllegalArgumentException("topics deve ser uma lista não vazia");
+        }
+        List<String> result = new ArrayList<>(topics.size());
+        for (JsonNode topic : topics) {
+            if (!TOPIC.matcher(topic.asText()).matches()) {
+                throw new IllegalArgumentException("Tópico inválido: " + topic.asText() + " (user:ID, post:ID ou album:ID)");
+            }
+            result.add(topic.asText());
+        }
+        return result;
+    }
+
+    private void send(WebSocketSession socket, LiveMessage message) throws IOException {
+        send(socket, new TextMessage(objectMapper.writeValueAsString(message)));
+    }
+
+    private void send(WebSocketSession socket, TextMessage message) {
+        try {
+            socket.sendMessage(message);
+        } catch (Exception e) {
+            // Conexão caída ou cliente lento demais (o decorator já fechou): afterConnectionClosed limpa
+            close(socket, CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private static void close(WebSocketSession socket, CloseStatus status) {
+        try {
+            socket.close(status);
+        } catch (IOException ignored) {
+            // já fechada
+        }
+    }
+}
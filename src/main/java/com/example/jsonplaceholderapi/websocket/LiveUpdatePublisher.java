@@ -0,0 +1,192 @@
+package com.example.jsonplaceholderapi.websocket;
+
+import com.example.jsonplaceholderapi.bulk.BulkTable;
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.event.EntitiesChangedEvent;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import com.example.jsonplaceholderapi.fixture.FixtureOverlays;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Escritas confirmadas viram diffs nos tópicos do WebSocket:
+//   user:ID   o usuário, seus posts, álbuns e tarefas
+//   post:ID   o post e seus comentários
+//   album:ID  o álbum e suas fotos
+// O diff compara o JSON novo com o último enviado da mesma entidade (cache de até
+// app.ws.snapshot-cache-size entidades): só os campos que mudaram. Sem estado anterior conhecido,
+// vai o objeto inteiro (full). Associações viram só {"id": ...}. Só escritas desta réplica.
+@Component
+public class LiveUpdatePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdatePublisher.class);
+
+    @Autowired
+    private LiveUpdateHandler liveUpdateHandler;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Só no perfil fixture
+    @Autowired(required = false)
+    private FixtureOverlays fixtureOverlays;
+
+    @Value("${app.ws.snapshot-cache-size}")
+    private long snapshotCacheSize;
+
+    // "tabela:ID" -> último JSON enviado
+    private Cache<String, ObjectNode> snapshots;
+
+    @PostConstruct
+    public void init() {
+        snapshots = Caffeine.newBuilder().maximumSize(snapshotCacheSize).build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        // Modo fixture: as escritas ficam no overlay de um cliente e não podem vazar para os outros
+        if (fixtureOverlays != null || event.isBulk() || event.id() == null) {
+            return;
+        }
+        BulkTable table = BulkTable.forEntity(event.type());
+        if (table == null) {
+            return;
+        }
+        publish(table, event.id(), event.entity(), event.action());
+    }
+
+    // Escrita em massa: cada linha vira o diff que um save/delete geraria (as sem assinantes só
+    // descartam o estado guardado)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        BulkTable table = BulkTable.forEntity(event.type());
+        if (fixtureOverlays != null || table == null) {
+            return;
+        }
+        for (int i = 0; i < event.size(); i++) {
+            publish(table, event.ids().get(i), event.entities().get(i), event.action());
+        }
+    }
+
+    private void publish(BulkTable table, Long id, Object entity, EntityChangedEvent.Action action) {
+        String key = table.getTableName() + ":" + id;
+        List<String> topics = topicsOf(entity);
+        if (topics.stream().noneMatch(liveUpdateHandler::hasSubscribers)) {
+            // Alteração que ninguém viu: o estado guardado não serve mais de base para diff
+            snapshots.invalidate(key);
+            return;
+        }
+
+        ObjectNode changes = null;
+        boolean full = false;
+        if (action == EntityChangedEvent.Action.DELETED) {
+            snapshots.invalidate(key);
+        } else {
+            ObjectNode current;
+            try {
+                current = compact(objectMapper.valueToTree(entity));
+            } catch (IllegalArgumentException e) {
+                // Ex.: associação lazy fora de sessão; o cliente busca pelo id
+                log.debug("Diff sem campos para {}: {}", key, e.getMessage());
+                current = null;
+            }
+            if (current != null) {
+                ObjectNode previous = snapshots.getIfPresent(key);
+                snapshots.put(key, current);
+                full = previous == null;
+                changes = full ? current : diff(previous, current);
+                if (changes.isEmpty()) {
+                    return;
+                }
+            }
+        }
+
+        for (String topic : topics) {
+            liveUpdateHandler.broadcast(LiveMessage.diff(topic, table.getTableName(), id, action.name().toLowerCase(), changes, full));
+        }
+    }
+
+    // Objetos aninhados com id (autor, post, álbum) viram só a referência
+    private static ObjectNode compact(ObjectNode node) {
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            if (value.isObject() && value.has("id")) {
+                ObjectNode reference = node.objectNode();
+                reference.set("id", value.get("id"));
+                field.setValue(reference);
+            }
+        }
+        return node;
+    }
+
+    private ObjectNode diff(ObjectNode previous, ObjectNode current) {
+        ObjectNode changes = objectMapper.createObjectNode();
+        current.fields().forEachRemaining(field -> {
+            if (!field.getValue().equals(previous.get(field.getKey()))) {
+                changes.set(field.getKey(), field.getValue());
+            }
+        });
+        previous.fieldNames().forEachRemaining(name -> {
+            if (!current.has(name)) {
+                changes.putNull(name);
+            }
+        });
+        return changes;
+    }
+
+    private static List<String> topicsOf(Object entity) {
+        List<String> topics = new ArrayList<>(2);
+        switch (entity) {
+            case User user -> topics.add("user:" + user.getId());
+            case Post post -> {
+                addUser(topics, post.getUser());
+                topics.add("post:" + post.getId());
+            }
+            case Comment comment -> {
+                if (comment.getPost() != null) {
+                    topics.add("post:" + comment.getPost().getId());
+                }
+            }
+            case Album album -> {
+                addUser(topics, album.getUser());
+                topics.add("album:" + album.getId());
+            }
+            case Photo photo -> {
+                if (photo.getAlbum() != null) {
+                    topics.add("album:" + photo.getAlbum().getId());
+                }
+            }
+            case Todo todo -> addUser(topics, todo.getUser());
+            case null, default -> {
+            }
+        }
+        return topics;
+    }
+
+    private static void addUser(List<String> topics, User user) {
+        if (user != null) {
+            topics.add("user:" + user.getId());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.jsonplaceholderapi.websocket;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+// Canal de atualizações ao vivo em /ws (ver LiveUpdateHandler). Autenticação no handshake;
+// origens liberadas como no CORS da API (o token não vai em cookie)
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    public static final String PATH = "/ws";
+
+    @Autowired
+    private LiveUpdateHandler liveUpdateHandler;
+
+    @Autowired
+    private JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(liveUpdateHandler, PATH)
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOriginPatterns("*");
+    }
+}
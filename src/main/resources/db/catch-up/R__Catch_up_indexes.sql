@@ -0,0 +1,12 @@
+-- R__Catch_up_indexes.sql
+-- Opcional: só entra com classpath:db/catch-up em spring.flyway.locations (ver README, snapshot binário).
+-- Catch-up do modo fixture (FixtureCatchUp): linhas alteradas depois do snapshot,
+-- WHERE COALESCE(updated_at, created_at) > ?. O índice é sobre a mesma expressão.
+-- Custo: seis índices a mais mantidos em todo INSERT e em todo UPDATE que muda updated_at.
+
+CREATE INDEX IF NOT EXISTS idx_users_changed_at ON users((COALESCE(updated_at, created_at)));
+CREATE INDEX IF NOT EXISTS idx_posts_changed_at ON posts((COALESCE(updated_at, created_at)));
+CREATE INDEX IF NOT EXISTS idx_comments_changed_at ON comments((COALESCE(updated_at, created_at)));
+CREATE INDEX IF NOT EXISTS idx_albums_changed_at ON albums((COALESCE(updated_at, created_at)));
+CREATE INDEX IF NOT EXISTS idx_photos_changed_at ON photos((COALESCE(updated_at, created_at)));
+CREATE INDEX IF NOT EXISTS idx_todos_changed_at ON todos((COALESCE(updated_at, created_at)));
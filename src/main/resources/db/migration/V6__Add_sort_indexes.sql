@@ -0,0 +1,46 @@
+-- V6__Add_sort_indexes.sql
+-- Índices compostos para as ordenações permitidas (id como desempate).
+-- Substituem os índices simples equivalentes (mesma coluna líder).
+
+-- Users
+CREATE INDEX IF NOT EXISTS idx_users_name_id ON users(name, id);
+
+-- Posts
+CREATE INDEX IF NOT EXISTS idx_posts_created_at_id ON posts(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_posts_title_id ON posts(title, id);
+CREATE INDEX IF NOT EXISTS idx_posts_user_id_id ON posts(user_id, id);
+CREATE INDEX IF NOT EXISTS idx_posts_user_id_created_at_id ON posts(user_id, created_at, id);
+DROP INDEX IF EXISTS idx_posts_created_at;
+DROP INDEX IF EXISTS idx_posts_title;
+DROP INDEX IF EXISTS idx_posts_user_id;
+
+-- Comments
+CREATE INDEX IF NOT EXISTS idx_comments_created_at_id ON comments(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_comments_post_id_id ON comments(post_id, id);
+CREATE INDEX IF NOT EXISTS idx_comments_post_id_created_at_id ON comments(post_id, created_at, id);
+DROP INDEX IF EXISTS idx_comments_created_at;
+DROP INDEX IF EXISTS idx_comments_post_id;
+
+-- Albums
+CREATE INDEX IF NOT EXISTS idx_albums_created_at_id ON albums(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_albums_user_id_id ON albums(user_id, id);
+CREATE INDEX IF NOT EXISTS idx_albums_user_id_created_at_id ON albums(user_id, created_at, id);
+DROP INDEX IF EXISTS idx_albums_created_at;
+DROP INDEX IF EXISTS idx_albums_user_id;
+
+-- Photos
+CREATE INDEX IF NOT EXISTS idx_photos_created_at_id ON photos(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_photos_album_id_id ON photos(album_id, id);
+CREATE INDEX IF NOT EXISTS idx_photos_album_id_created_at_id ON photos(album_id, created_at, id);
+DROP INDEX IF EXISTS idx_photos_created_at;
+DROP INDEX IF EXISTS idx_photos_album_id;
+
+-- Todos
+CREATE INDEX IF NOT EXISTS idx_todos_created_at_id ON todos(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_todos_due_date_id ON todos(due_date, id);
+CREATE INDEX IF NOT EXISTS idx_todos_user_id_id ON todos(user_id, id);
+CREATE INDEX IF NOT EXISTS idx_todos_user_id_created_at_id ON todos(user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_todos_user_id_due_date_id ON todos(user_id, due_date, id);
+DROP INDEX IF EXISTS idx_todos_created_at;
+DROP INDEX IF EXISTS idx_todos_due_date;
+DROP INDEX IF EXISTS idx_todos_user_id;
@@ -0,0 +1,5 @@
+-- V7__Add_user_summary_index.sql
+-- Estatísticas de todos do resumo do usuário (total, concluídos, vencidos)
+-- resolvidas só pelo índice, sem visitar a tabela.
+
+CREATE INDEX IF NOT EXISTS idx_todos_user_id_completed_due_date ON todos(user_id, completed, due_date);
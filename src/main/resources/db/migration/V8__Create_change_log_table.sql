@@ -0,0 +1,29 @@
+-- V8__Create_change_log_table.sql
+-- Feed de alterações (GET /changes): uma linha por entidade criada/alterada/removida e por usuário
+-- interessado, gravada na mesma transação da escrita. A ordem do feed é (xid, id): linhas de
+-- transações com xid abaixo do xmin do snapshot atual já estão todas confirmadas (ou abortadas),
+-- então o cursor nunca pula uma linha que apareça depois.
+
+CREATE TABLE IF NOT EXISTS change_log (
+    id BIGSERIAL PRIMARY KEY,
+    xid BIGINT NOT NULL DEFAULT txid_current(),
+    user_id BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    action VARCHAR(10) NOT NULL,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CHECK (action IN ('CREATED', 'UPDATED', 'DELETED'))
+    );
+
+CREATE INDEX IF NOT EXISTS idx_change_log_user_id_xid_id ON change_log(user_id, xid, id);
+CREATE INDEX IF NOT EXISTS idx_change_log_xid_id ON change_log(xid, id);
+CREATE INDEX IF NOT EXISTS idx_change_log_changed_at ON change_log(changed_at);
+
+-- Maior posição já removida pela retenção: cursores anteriores a ela perderam alterações (410)
+CREATE TABLE IF NOT EXISTS change_log_horizon (
+    xid BIGINT NOT NULL,
+    id BIGINT NOT NULL
+);
+
+INSERT INTO change_log_horizon (xid, id) VALUES (0, 0);
@@ -0,0 +1,17 @@
+-- V9__Create_outbox_table.sql
+-- Outbox transacional: cada escrita grava o evento na mesma transação; um despachante em segundo
+-- plano lê em lotes (FOR UPDATE SKIP LOCKED, vários nós em paralelo), entrega e apaga.
+-- available_at adia novas tentativas depois de uma falha; entity_id NULL = carga em massa na tabela.
+
+CREATE TABLE IF NOT EXISTS outbox (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT,
+    action VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+
+    CHECK (action IN ('CREATED', 'UPDATED', 'DELETED', 'BULK'))
+    );
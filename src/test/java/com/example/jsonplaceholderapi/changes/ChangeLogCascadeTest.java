@@ -0,0 +1,101 @@
+package com.example.jsonplaceholderapi.changes;
+
+import com.example.jsonplaceholderapi.PostgresIntegrationTest;
+import com.example.jsonplaceholderapi.entity.Album;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Photo;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.repository.AlbumRepository;
+import com.example.jsonplaceholderapi.repository.CommentRepository;
+import com.example.jsonplaceholderapi.repository.PhotoRepository;
+import com.example.jsonplaceholderapi.repository.PostRepository;
+import com.example.jsonplaceholderapi.repository.UserRepository;
+import com.example.jsonplaceholderapi.service.PostService;
+import com.example.jsonplaceholderapi.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Filhos removidos em cascata (comentários de outros num post, fotos de outros num álbum) geram
+// tombstones para os próprios autores
+@SpringBootTest
+class ChangeLogCascadeTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        owner = user();
+        other = user();
+    }
+
+    @Test
+    void deletingPostLogsCommentsOfOtherUsers() {
+        Post post = postRepository.save(new Post("post", "body", owner));
+        Comment comment = commentRepository.save(new Comment("c", "c@example.com", "body", post, other));
+
+        postService.delete(post.getId());
+
+        assertThat(deleted(other, "comments")).containsExactly(comment.getId());
+        assertThat(deleted(owner, "comments")).containsExactly(comment.getId());
+    }
+
+    @Test
+    void deletingUserLogsChildrenOfOtherUsers() {
+        Post post = postRepository.save(new Post("post", "body", owner));
+        Comment comment = commentRepository.save(new Comment("c", "c@example.com", "body", post, other));
+        Album album = albumRepository.save(new Album("album", owner));
+        Photo photo = photoRepository.save(new Photo("p", "http://x", "http://y", null, album, other));
+
+        userService.delete(owner.getId());
+
+        assertThat(deleted(other, "comments")).containsExactly(comment.getId());
+        assertThat(deleted(other, "photos")).containsExactly(photo.getId());
+        assertThat(deleted(owner, "posts")).containsExactly(post.getId());
+        assertThat(deleted(owner, "albums")).containsExactly(album.getId());
+    }
+
+    private List<Long> deleted(User user, String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT entity_id FROM change_log WHERE user_id = ? AND entity_type = ? AND action = 'DELETED' ORDER BY id",
+                Long.class, user.getId(), table);
+    }
+
+    private User user() {
+        String name = "cascade" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(name, name, name + "@example.com", "secret123"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.jsonplaceholderapi.metrics;
+
+import com.example.jsonplaceholderapi.config.ConcurrencyLimitedDataSource;
+import com.example.jsonplaceholderapi.config.SlowQueryDataSource;
+import com.example.jsonplaceholderapi.security.AdaptiveConcurrencyLimiter;
+import com.example.jsonplaceholderapi.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class LimiterMetricsTest {
+
+    // Ordem do JpaConfig/ThreadingConfig: SlowQueryDataSource -> ConcurrencyLimitedDataSource -> Hikari
+    @Test
+    void limiterGaugesAreRegisteredBehindSlowQueryDataSource() {
+        DataSource limited = new ConcurrencyLimitedDataSource(mock(DataSource.class), 4, 10, 100);
+        SimpleMeterRegistry registry = bind(new SlowQueryDataSource(limited, 100, () -> null));
+
+        assertThat(registry.get("db.limiter.available").gauge().value()).isEqualTo(4);
+        assertThat(registry.get("db.limiter.waiting").gauge().value()).isZero();
+    }
+
+    @Test
+    void noLimiterGaugesWithoutLimiter() {
+        SimpleMeterRegistry registry = bind(new SlowQueryDataSource(mock(DataSource.class), 100, () -> null));
+
+        assertThat(registry.find("db.limiter.available").gauge()).isNull();
+        assertThat(registry.find("limiter.concurrency.limit").gauge()).isNotNull();
+    }
+
+    private static SimpleMeterRegistry bind(DataSource dataSource) {
+        LimiterMetrics metrics = new LimiterMetrics();
+        ReflectionTestUtils.setField(metrics, "concurrencyLimiter", mock(AdaptiveConcurrencyLimiter.class));
+        ReflectionTestUtils.setField(metrics, "rateLimiter", mock(RateLimiter.class));
+        ReflectionTestUtils.setField(metrics, "dataSource", dataSource);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+        return registry;
+    }
+}
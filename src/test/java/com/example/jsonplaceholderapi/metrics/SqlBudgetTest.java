@@ -0,0 +1,75 @@
+package com.example.jsonplaceholderapi.metrics;
+
+import com.example.jsonplaceholderapi.PostgresIntegrationTest;
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.repository.CommentRepository;
+import com.example.jsonplaceholderapi.repository.PostRepository;
+import com.example.jsonplaceholderapi.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Perfil "test" (app.sql.budget=20, app.sql.fail-on-budget-exceeded=true): N+1 acima do orçamento falha a requisição
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class SqlBudgetTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void nPlusOneOverBudgetFailsTheRequest() throws Exception {
+        // Cada comentário de um autor diferente: a serialização carrega os autores um a um
+        Post post = postWithComments(25);
+
+        // A falha acontece na serialização, com a resposta já começada: sobe do DispatcherServlet
+        assertThatThrownBy(() -> mockMvc.perform(get("/comments/post/{postId}", post.getId()).param("size", "25")))
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Orçamento de SQL excedido em GET /comments/post/{postId}");
+    }
+
+    @Test
+    void requestWithinBudgetSucceeds() throws Exception {
+        Post post = postWithComments(3);
+
+        mockMvc.perform(get("/comments/post/{postId}", post.getId()).param("size", "25"))
+                .andExpect(status().isOk());
+    }
+
+    private Post postWithComments(int count) {
+        Post post = postRepository.save(new Post("post", "body", user()));
+        for (int i = 0; i < count; i++) {
+            commentRepository.save(new Comment("comment " + i, "c@example.com", "body", post, user()));
+        }
+        return post;
+    }
+
+    private User user() {
+        String name = "budget" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(new User(name, name, name + "@example.com", "secret123"));
+    }
+}
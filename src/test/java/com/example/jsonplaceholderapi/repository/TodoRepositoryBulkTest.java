@@ -0,0 +1,145 @@
+package com.example.jsonplaceholderapi.repository;
+
+import com.example.jsonplaceholderapi.PostgresIntegrationTest;
+import com.example.jsonplaceholderapi.entity.Todo;
+import com.example.jsonplaceholderapi.entity.User;
+import com.example.jsonplaceholderapi.service.TodoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// UPDATE/DELETE ... RETURNING nativos do TodoRepository (sintaxe e casts do PostgreSQL)
+@SpringBootTest
+class TodoRepositoryBulkTest extends PostgresIntegrationTest {
+
+    // Precisão do TIMESTAMP do PostgreSQL
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String name = "bulk" + UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(new User(name, name, name + "@example.com", "secret123"));
+    }
+
+    @Test
+    void completeByUserWithoutFiltersCompletesOnlyPending() {
+        Todo pending = todo(Todo.Priority.LOW, null, false);
+        Todo done = todo(Todo.Priority.HIGH, null, true);
+
+        List<Todo> completed = todoRepository.bulkCompleteByUser(user.getId(), null, null, NOW, 10);
+
+        assertThat(completed).extracting(Todo::getId).containsExactly(pending.getId());
+        Todo row = completed.get(0);
+        assertThat(row.getCompleted()).isTrue();
+        assertThat(row.getCompletedAt()).isEqualTo(NOW);
+        assertThat(row.getUpdatedAt()).isEqualTo(NOW);
+        assertThat(row.getUser().getId()).isEqualTo(user.getId());
+        assertThat(todoRepository.findById(pending.getId()).orElseThrow().getCompletedAt()).isEqualTo(NOW);
+        assertThat(todoRepository.findById(done.getId()).orElseThrow().getCompletedAt()).isNotEqualTo(NOW);
+    }
+
+    @Test
+    void completeByUserAppliesPriorityAndDueBefore() {
+        Todo match = todo(Todo.Priority.HIGH, NOW.minusDays(1), false);
+        todo(Todo.Priority.HIGH, NOW.plusDays(1), false);
+        todo(Todo.Priority.LOW, NOW.minusDays(1), false);
+        todo(Todo.Priority.HIGH, null, false);
+
+        List<Todo> completed = todoRepository.bulkCompleteByUser(user.getId(), Todo.Priority.HIGH.name(), NOW, NOW, 10);
+
+        assertThat(completed).extracting(Todo::getId).containsExactly(match.getId());
+    }
+
+    @Test
+    void completeByUserStopsAtLimitLowestIdsFirst() {
+        Todo first = todo(Todo.Priority.LOW, null, false);
+        Todo second = todo(Todo.Priority.LOW, null, false);
+        Todo third = todo(Todo.Priority.LOW, null, false);
+
+        List<Todo> completed = todoRepository.bulkCompleteByUser(user.getId(), null, null, NOW, 2);
+
+        assertThat(completed).extracting(Todo::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(todoRepository.findById(third.getId()).orElseThrow().getCompleted()).isFalse();
+    }
+
+    @Test
+    void completeByIdsSkipsAlreadyCompleted() {
+        Todo pending = todo(Todo.Priority.LOW, null, false);
+        Todo done = todo(Todo.Priority.LOW, null, true);
+
+        List<Todo> completed = todoRepository.bulkCompleteByIds(List.of(pending.getId(), done.getId()), NOW);
+
+        assertThat(completed).extracting(Todo::getId).containsExactly(pending.getId());
+        assertThat(completed.get(0).getCompletedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void deleteByUserReturnsDeletedRowsUpToLimit() {
+        Todo first = todo(Todo.Priority.URGENT, null, true);
+        Todo second = todo(Todo.Priority.LOW, null, true);
+        Todo pending = todo(Todo.Priority.LOW, null, false);
+
+        List<Todo> deleted = todoRepository.bulkDeleteByUser(user.getId(), true, 1);
+
+        assertThat(deleted).extracting(Todo::getId).containsExactly(first.getId());
+        assertThat(deleted.get(0).getPriority()).isEqualTo(Todo.Priority.URGENT);
+        assertThat(todoRepository.existsById(first.getId())).isFalse();
+        assertThat(todoRepository.existsById(second.getId())).isTrue();
+        assertThat(todoRepository.existsById(pending.getId())).isTrue();
+    }
+
+    @Test
+    void deleteByIdsReturnsDeletedRows() {
+        Todo todo = todo(Todo.Priority.LOW, null, false);
+
+        List<Todo> deleted = todoRepository.bulkDeleteByIds(List.of(todo.getId(), -1L));
+
+        assertThat(deleted).extracting(Todo::getId).containsExactly(todo.getId());
+        assertThat(todoRepository.existsById(todo.getId())).isFalse();
+    }
+
+    // O service publica um único evento; o change_log recebe uma linha por tarefa
+    @Test
+    void serviceRecordsOneChangeLogRowPerAffectedTodo() {
+        todo(Todo.Priority.LOW, null, false);
+        todo(Todo.Priority.LOW, null, false);
+
+        assertThat(todoService.completeByUser(user.getId(), null, null, 10)).isEqualTo(2);
+
+        Integer logged = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM change_log WHERE user_id = ? AND entity_type = 'todos' AND action = 'UPDATED'",
+                Integer.class, user.getId());
+        assertThat(logged).isEqualTo(2);
+    }
+
+    private Todo todo(Todo.Priority priority, LocalDateTime dueDate, boolean completed) {
+        Todo todo = new Todo("todo", user);
+        todo.setPriority(priority);
+        todo.setDueDate(dueDate);
+        todo.setCompleted(completed);
+        return todoRepository.save(todo);
+    }
+}
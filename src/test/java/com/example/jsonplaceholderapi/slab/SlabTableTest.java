@@ -0,0 +1,85 @@
+package com.example.jsonplaceholderapi.slab;
+
+import com.example.jsonplaceholderapi.entity.Comment;
+import com.example.jsonplaceholderapi.entity.Post;
+import com.example.jsonplaceholderapi.event.EntityChangedEvent;
+import com.example.jsonplaceholderapi.invalidation.InvalidationBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class SlabTableTest {
+
+    private JsonSlabStore store;
+    private InvalidationBus invalidationBus;
+
+    @BeforeEach
+    void setUp() {
+        store = new JsonSlabStore();
+        ReflectionTestUtils.setField(store, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(store, "meterRegistry", new SimpleMeterRegistry());
+        invalidationBus = mock(InvalidationBus.class);
+        ReflectionTestUtils.setField(store, "invalidationBus", invalidationBus);
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "offHeap", false);
+        ReflectionTestUtils.setField(store, "maxSizeMb", 1L);
+        ReflectionTestUtils.setField(store, "chunkSizeMb", 1);
+        ReflectionTestUtils.setField(store, "ttl", Duration.ZERO);
+        store.init();
+    }
+
+    // Leitura no banco, commit de outra transação e invalidação, e só então o slab: o slab da versão
+    // antiga sai nesta resposta, mas não fica no cache
+    @Test
+    void invalidationBetweenLoadAndSlabIsNotCached() {
+        long stamp = store.posts().stamp();
+        Post loaded = post(1L, "antigo");
+        store.invalidate("posts:1");
+
+        assertThat(json(store.posts().one(stamp, Optional.of(loaded)))).contains("\"antigo\"");
+        assertThat(json(store.posts().one(store.posts().stamp(), Optional.of(post(1L, "novo"))))).contains("\"novo\"");
+    }
+
+    @Test
+    void slabIsCachedWithoutInvalidation() {
+        store.posts().one(store.posts().stamp(), Optional.of(post(1L, "antigo")));
+
+        assertThat(json(store.posts().one(store.posts().stamp(), Optional.of(post(1L, "novo"))))).contains("\"antigo\"");
+    }
+
+    // Comentário editado: só o slab do post dele, não a tabela de posts inteira
+    @Test
+    void commentUpdateInvalidatesOnlyItsPost() {
+        Comment comment = new Comment();
+        comment.setId(7L);
+        comment.setPost(post(3L, "post"));
+
+        store.onEntityChanged(new EntityChangedEvent(Comment.class, 7L, comment, EntityChangedEvent.Action.UPDATED));
+
+        verify(invalidationBus).register(store);
+        verify(invalidationBus).publish(JsonSlabStore.NAMESPACE, "posts:3");
+        verifyNoMoreInteractions(invalidationBus);
+    }
+
+    private static Post post(Long id, String title) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle(title);
+        return post;
+    }
+
+    private static String json(Optional<?> slab) {
+        return new String(((JsonSlab) slab.orElseThrow()).asUnquotedUTF8(), StandardCharsets.UTF_8);
+    }
+}